@@ -1,7 +1,10 @@
 package boardgame;
 
 import boardgame.controller.SceneManager;
+import boardgame.utils.JMX.GameMetrics;
+import boardgame.utils.ProfileStore;
 import boardgame.utils.ScreenDimension;
+import boardgame.utils.StartupPreloader;
 import boardgame.visual.scenes.StartScreenView;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -9,6 +12,8 @@ import javafx.stage.Stage;
 /**
  * The main entry point for the Board Game application. Initializes the primary
  * stage and sets up the scene manager to display the initial start screen.
+ * The start screen is shown first; everything else is loaded in the
+ * background or when first needed.
  */
 public class Main extends Application {
     @Override
@@ -22,9 +27,18 @@ public class Main extends Application {
         primaryStage.setHeight(ScreenDimension.getScreenHeight());
 
         sceneManager.setPrimaryStage(primaryStage);
-        sceneManager.changeScene(StartScreenView.getScene());
+        sceneManager.showMenu(SceneManager.Menu.START, StartScreenView::getRoot);
 
         primaryStage.show();
+
+        StartupPreloader.trackFirstFrame();
+        StartupPreloader.start();
+        GameMetrics.register();
+    }
+
+    @Override
+    public void stop() {
+        ProfileStore.closeAll();
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,183 @@
+package boardgame.controller;
+
+import boardgame.controller.GameControllers.GameController;
+import boardgame.controller.RollHandlers.RollHandler;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+/**
+ * Plays a game by itself on screen, for demos and soak tests.
+ * <p>
+ * The driver rolls for whoever's turn it is on its own clock and never waits
+ * for token animations. At {@link Speed#NORMAL} it rolls about as often as a
+ * person would; faster speeds roll more often and play every animation
+ * faster by the same factor. At {@link Speed#MAX} it rolls as many times per
+ * frame as fit in {@link #FRAME_BUDGET_NANOS}, so the FX thread always gets
+ * to render. The token layers keep up by coalescing queued moves into jumps.
+ * <p>
+ * The speed is shared by all animations, since only one game is on screen at
+ * a time. It is {@link Speed#NORMAL} whenever autoplay is off.
+ * <p>
+ * A game that autoplay has played any part of is not saved to the match
+ * history, ratings or profiles (see {@link GameController#markAutoplayed()}).
+ */
+public final class Autoplay {
+
+    /**
+     * The speeds autoplay can run at.
+     */
+    public enum Speed {
+        NORMAL("1x", 1),
+        FAST("4x", 4),
+        FASTER("16x", 16),
+        MAX("Max", 64);
+
+        private final String label;
+        private final double factor;
+
+        Speed(String label, double factor) {
+            this.label = label;
+            this.factor = factor;
+        }
+
+        /**
+         * Returns the label shown for this speed.
+         *
+         * @return the label.
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Returns the factor animations are sped up by at this speed.
+         *
+         * @return the speed factor.
+         */
+        public double getFactor() {
+            return factor;
+        }
+    }
+
+    /**
+     * The time between two rolls at normal speed.
+     */
+    public static final Duration ROLL_INTERVAL = Duration.millis(1500);
+
+    /**
+     * The time per frame spent rolling at maximum speed.
+     */
+    public static final long FRAME_BUDGET_NANOS = 4_000_000;
+
+    private static Speed speed = Speed.NORMAL;
+
+    private final GameController gameController;
+    private final RollHandler rollHandler;
+    private final Node owner;
+    private final AnimationTimer timer;
+    private boolean running = false;
+    private long lastRoll = 0;
+
+    /**
+     * Constructs an autoplay driver for a game.
+     *
+     * @param gameController the game's controller, used to see when it ends.
+     * @param rollHandler    the roll handler to roll with.
+     * @param owner          a node of the game screen; autoplay stops once
+     *                       its window is closed or replaced.
+     */
+    public Autoplay(GameController gameController, RollHandler rollHandler, Node owner) {
+        this.gameController = gameController;
+        this.rollHandler = rollHandler;
+        this.owner = owner;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                tick(now);
+            }
+        };
+    }
+
+    /**
+     * Returns the current speed of all animations.
+     *
+     * @return the speed.
+     */
+    public static Speed getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Returns the factor all animations are currently sped up by.
+     *
+     * @return the animation rate, 1 at normal speed.
+     */
+    public static double animationRate() {
+        return speed.getFactor();
+    }
+
+    /**
+     * Returns a duration shortened by the current animation rate.
+     *
+     * @param duration the duration at normal speed.
+     * @return the duration at the current speed.
+     */
+    public static Duration scaled(Duration duration) {
+        return duration.divide(speed.getFactor());
+    }
+
+    /**
+     * Starts playing, or changes the speed if already playing.
+     *
+     * @param newSpeed the speed to play at.
+     */
+    public void start(Speed newSpeed) {
+        speed = newSpeed;
+        gameController.markAutoplayed();
+        if (!running) {
+            running = true;
+            lastRoll = 0;
+            timer.start();
+        }
+    }
+
+    /**
+     * Stops playing and returns animations to normal speed.
+     */
+    public void stop() {
+        timer.stop();
+        running = false;
+        speed = Speed.NORMAL;
+    }
+
+    /**
+     * Returns whether autoplay is currently playing.
+     *
+     * @return {@code true} while playing.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tick(long now) {
+        if (gameController.isFinished() || owner.getScene() == null || owner.getScene().getWindow() == null) {
+            stop();
+            return;
+        }
+
+        if (speed == Speed.MAX) {
+            long deadline = System.nanoTime() + FRAME_BUDGET_NANOS;
+            do {
+                rollHandler.handleRollDice();
+            } while (System.nanoTime() < deadline && !gameController.isFinished());
+            return;
+        }
+
+        long interval = (long) (ROLL_INTERVAL.toMillis() * 1_000_000 / speed.getFactor());
+        if (lastRoll == 0 || now - lastRoll >= interval) {
+            lastRoll = now;
+            rollHandler.handleRollDice();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package boardgame.controller;
+
+import boardgame.visual.elements.BoardVisual;
+import boardgame.visual.gameLayers.SnLTokenLayer;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Watches the time between frames while a game is shown, and lowers the
+ * visual quality when frames miss the budget of {@link #FRAME_BUDGET_NANOS},
+ * so that slow machines stay smooth without a settings menu.
+ * <p>
+ * Frames are judged in windows of {@link #WINDOW_FRAMES} frames. When more
+ * than {@link #DEGRADE_SHARE} of a window's frames are slow (see
+ * {@link #SLOW_FRAME_NANOS}), the
+ * quality drops one step. Once {@link #RECOVERY_WINDOWS} windows in a row
+ * have at most {@link #RECOVER_SHARE} of their frames slow, it rises
+ * one step again. The gap between the two thresholds keeps the quality from
+ * flapping. At lower quality the static board is shown as one cached image
+ * (see {@link BoardVisual#setImageCached}).
+ * <p>
+ * The quality is shared by all animations, like the {@link Autoplay} speed,
+ * and is kept from one game to the next.
+ */
+public final class FrameMonitor {
+
+    /**
+     * The visual quality levels, from most to least expensive.
+     */
+    public enum Quality {
+        HIGH(1.0, 10, false, SnLTokenLayer.BADGE_THRESHOLD),
+        MEDIUM(0.75, 5, true, SnLTokenLayer.BADGE_THRESHOLD),
+        LOW(0.5, 2, true, 2);
+
+        private final double stepFactor;
+        private final int diceFaces;
+        private final boolean cachesBoard;
+        private final int badgeThreshold;
+
+        Quality(double stepFactor, int diceFaces, boolean cachesBoard, int badgeThreshold) {
+            this.stepFactor = stepFactor;
+            this.diceFaces = diceFaces;
+            this.cachesBoard = cachesBoard;
+            this.badgeThreshold = badgeThreshold;
+        }
+
+        /**
+         * Returns the factor token step durations are multiplied by.
+         *
+         * @return the step duration factor, 1 at full quality.
+         */
+        public double getStepFactor() {
+            return stepFactor;
+        }
+
+        /**
+         * Returns the number of random faces the dice shows before a roll.
+         *
+         * @return the number of fake faces.
+         */
+        public int getDiceFaces() {
+            return diceFaces;
+        }
+
+        /**
+         * Returns whether the static board is cached as an image.
+         *
+         * @return {@code true} if the board is cached.
+         */
+        public boolean cachesBoard() {
+            return cachesBoard;
+        }
+
+        /**
+         * Returns the number of tokens on one tile from which a board in
+         * mass mode draws the tile as one token with a count badge.
+         *
+         * @return the smallest stack drawn with a badge.
+         */
+        public int getBadgeThreshold() {
+            return badgeThreshold;
+        }
+    }
+
+    /**
+     * The time one frame may take at 60 frames per second.
+     */
+    public static final long FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
+
+    /**
+     * The time between frames above which a frame counts as slow. Pulses do
+     * not come exactly one budget apart, so a frame is only slow once it is
+     * late enough to have missed a whole vsync, half a budget after the
+     * frame was due. Frames between the budget and this are timer jitter.
+     */
+    public static final long SLOW_FRAME_NANOS = FRAME_BUDGET_NANOS * 3 / 2;
+
+    /**
+     * The number of frames judged together.
+     */
+    public static final int WINDOW_FRAMES = 60;
+
+    /**
+     * The share of slow frames in a window above which quality is lowered.
+     */
+    public static final double DEGRADE_SHARE = 0.2;
+
+    /**
+     * The share of slow frames in a window at or below which it counts
+     * towards raising the quality.
+     */
+    public static final double RECOVER_SHARE = 0.02;
+
+    /**
+     * The number of good windows in a row after which quality is raised.
+     */
+    public static final int RECOVERY_WINDOWS = 3;
+
+    /**
+     * Frames slower than this are not judged: the window was hidden or the
+     * application was paused, rather than busy drawing.
+     */
+    private static final long PAUSE_NANOS = 1_000_000_000L;
+
+    private static Quality quality = Quality.HIGH;
+    private static long droppedFrames = 0;
+    private static long averageFrameNanos = 0;
+
+    private final BoardVisual board;
+    private AnimationTimer timer = null;
+    private long lastFrame = 0;
+    private int windowFrames = 0;
+    private int windowSlowFrames = 0;
+    private long windowNanos = 0;
+    private int goodWindows = 0;
+
+    /**
+     * Constructs a monitor for a game screen.
+     *
+     * @param board the game's board, whose static layers are cached as an
+     *              image at lower quality; {@code null} if the board cannot
+     *              be cached.
+     */
+    public FrameMonitor(BoardVisual board) {
+        this.board = board;
+    }
+
+    /**
+     * Returns the current visual quality.
+     *
+     * @return the quality.
+     */
+    public static Quality getQuality() {
+        return quality;
+    }
+
+    /**
+     * Returns the number of frames dropped during games since startup.
+     *
+     * @return the number of dropped frames.
+     */
+    public static long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Returns the average frame time of the last judged window.
+     *
+     * @return the average time between frames, or 0 if no window was judged yet.
+     */
+    public static long getAverageFrameNanos() {
+        return averageFrameNanos;
+    }
+
+    /**
+     * Starts watching frames and applies the current quality to the board.
+     * Must be called on the JavaFX application thread.
+     */
+    public void start() {
+        applyQuality();
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    if (lastFrame != 0) {
+                        recordFrame(now - lastFrame);
+                    }
+                    lastFrame = now;
+                }
+            };
+        }
+        lastFrame = 0;
+        timer.start();
+    }
+
+    /**
+     * Stops watching frames, for example when the game is left.
+     */
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Judges one frame and changes the quality at the end of a window if
+     * needed.
+     *
+     * @param frameNanos the time since the previous frame.
+     */
+    public void recordFrame(long frameNanos) {
+        if (frameNanos > PAUSE_NANOS) {
+            return;
+        }
+
+        if (frameNanos > SLOW_FRAME_NANOS) {
+            droppedFrames += Math.max(1, Math.round((double) frameNanos / FRAME_BUDGET_NANOS) - 1);
+            windowSlowFrames++;
+        }
+        windowNanos += frameNanos;
+        if (++windowFrames < WINDOW_FRAMES) {
+            return;
+        }
+
+        double slowShare = (double) windowSlowFrames / windowFrames;
+        averageFrameNanos = windowNanos / windowFrames;
+        windowFrames = 0;
+        windowSlowFrames = 0;
+        windowNanos = 0;
+
+        if (slowShare > DEGRADE_SHARE) {
+            goodWindows = 0;
+            setQuality(Quality.values()[Math.min(quality.ordinal() + 1, Quality.values().length - 1)]);
+        } else if (slowShare <= RECOVER_SHARE && quality != Quality.HIGH) {
+            if (++goodWindows >= RECOVERY_WINDOWS) {
+                goodWindows = 0;
+                setQuality(Quality.values()[quality.ordinal() - 1]);
+            }
+        } else {
+            goodWindows = 0;
+        }
+    }
+
+    private void setQuality(Quality newQuality) {
+        if (newQuality != quality) {
+            quality = newQuality;
+            applyQuality();
+        }
+    }
+
+    private void applyQuality() {
+        if (board != null) {
+            board.setImageCached(BoardVisual.isImageCaching() || quality.cachesBoard());
+        }
+    }
+
+    /**
+     * Sets the quality back to {@link Quality#HIGH}.
+     */
+    public static void resetQuality() {
+        quality = Quality.HIGH;
+    }
+}
@@ -2,16 +2,26 @@ package boardgame.controller.GameControllers;
 
 import java.util.List;
 
+import boardgame.model.MatchTracker;
 import boardgame.model.Player;
 import boardgame.model.boardFiles.Board;
 import boardgame.model.boardFiles.Tile;
+import boardgame.utils.JMX.GameMetrics;
 import boardgame.utils.LoopingIterator;
+import boardgame.utils.MatchHistory;
+import boardgame.utils.PlayerCSV;
+import boardgame.utils.RatingEngine;
 import boardgame.utils.movementType;
 import boardgame.visual.scenes.Ingame.Ingame;
+import javafx.animation.Animation;
 
 /**
  * Handles the core logic of the game, including player movement,
  * turn advancement, and interaction with the board and effects.
+ * <p>
+ * A game is disposed when its screen is left. Disposing stops the pending
+ * end-of-game animation, so that a game that was left does not switch to
+ * its win screen later, and detaches all observers from the players.
  */
 public abstract class GameController {
     public final Board board;
@@ -20,6 +30,12 @@ public abstract class GameController {
     public Player playerWhoseTurn;
     public final LoopingIterator<Player> playerIterator;
     public Ingame ingame;
+    private final MatchTracker matchTracker;
+    private MatchHistory.Variant variant = null;
+    private boolean finished = false;
+    private boolean autoplayed = false;
+    private boolean disposed = false;
+    private Animation endGameAnimation = null;
 
     /**
      * Constructs a new GameController with the specified board and player list.
@@ -33,7 +49,7 @@ public abstract class GameController {
         this.players = players;
         this.playerIterator = new LoopingIterator<>(players);
         this.playerWhoseTurn = playerIterator.next();
-
+        this.matchTracker = new MatchTracker(players);
     }
 
     /**
@@ -49,7 +65,7 @@ public abstract class GameController {
      * @param tileNumber the target tile number to move the player to
      */
     public void movePlayer(Player player, int tileNumber, movementType movementType) {
-        tiles.get(player.getPosition() - 1).popPlayer();
+        tiles.get(player.getPosition() - 1).removePlayer(player);
 
         player.setPosition(tileNumber, movementType);
         Tile targetTile = tiles.get(tileNumber - 1);
@@ -66,6 +82,132 @@ public abstract class GameController {
         this.ingame = ingame;
     }
 
+    /**
+     * Sets the board variant this game is played on. Results are only saved
+     * to the match history, ratings and profiles once a variant is set.
+     *
+     * @param variant the board variant
+     */
+    public void setVariant(MatchHistory.Variant variant) {
+        this.variant = variant;
+    }
+
+    /**
+     * Marks this game as played, at least in part, by {@code Autoplay}. Its
+     * result is then not saved, so that demo and soak games never count
+     * towards the players' history, ratings or wins.
+     */
+    public void markAutoplayed() {
+        autoplayed = true;
+    }
+
+    /**
+     * Returns whether any turn of this game was played by {@code Autoplay}.
+     *
+     * @return {@code true} once autoplay has been started in this game
+     */
+    public boolean isAutoplayed() {
+        return autoplayed;
+    }
+
+    /**
+     * Returns the tracker counting turns and effect hits in this game.
+     *
+     * @return the match tracker
+     */
+    public MatchTracker getMatchTracker() {
+        return matchTracker;
+    }
+
+    /**
+     * Counts one turn taken by the given player.
+     *
+     * @param player the player who rolled
+     */
+    public void countTurn(Player player) {
+        matchTracker.countTurn(player);
+        GameMetrics.instance().turnTaken();
+    }
+
+    /**
+     * Saves the result of this game to the match history, updates the
+     * ratings of its players and adds the win to the winner's profile, and
+     * marks the game as finished. Only the first result of a game is saved.
+     * Everything is saved right away, so a game left during the pause before
+     * its win screen keeps its result in all three. Games played by autoplay
+     * are finished without saving anything.
+     *
+     * @param winner the player who won
+     */
+    public void recordResult(Player winner) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        if (variant != null) {
+            GameMetrics.instance().gameFinished(variant.gameType());
+        }
+        if (variant != null && !autoplayed) {
+            List<MatchHistory.GameRecord> results = matchTracker.results(variant, winner);
+            MatchHistory.instance().recordGame(results);
+            RatingEngine.updateIfLoaded(results);
+            PlayerCSV.instance().recordWin(winner.getName());
+        }
+    }
+
+    /**
+     * Returns whether the game has been won.
+     *
+     * @return {@code true} once a winner is recorded
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Plays an animation leading to the end of the game, such as the pause
+     * before the win screen. The animation is stopped if the game is
+     * disposed before it finishes.
+     *
+     * @param animation the animation to play
+     */
+    public void playEndGameAnimation(Animation animation) {
+        if (disposed) {
+            return;
+        }
+        endGameAnimation = animation;
+        animation.play();
+    }
+
+    /**
+     * Ends this game's lifecycle: stops its end-of-game animation, detaches
+     * every observer from its players and drops the reference to its view.
+     * Does nothing if the game is already disposed.
+     */
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+
+        if (endGameAnimation != null) {
+            endGameAnimation.stop();
+            endGameAnimation = null;
+        }
+        players.forEach(player -> player.getObservers().clear());
+        ingame = null;
+    }
+
+    /**
+     * Returns whether the game has been disposed.
+     *
+     * @return {@code true} once the game's screen has been left
+     */
+    public boolean isDisposed() {
+        return disposed;
+    }
+
     /**
      * Returns the player whose turn it currently is.
      *
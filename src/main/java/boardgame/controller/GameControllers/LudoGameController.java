@@ -90,7 +90,7 @@ public class LudoGameController extends GameController {
     @Override
     public void movePlayer(Player player, int tileNumber, movementType mT) {
         int adjustedNextPosition = tileNumber > 56 ? tileNumber - 56 : tileNumber;
-        tiles.get(player.getPosition() - 1).popPlayer();
+        tiles.get(player.getPosition() - 1).removePlayer(player);
 
         player.setPosition(adjustedNextPosition, mT);
         Tile targetTile = tiles.get(adjustedNextPosition - 1);
@@ -113,7 +113,7 @@ public class LudoGameController extends GameController {
         if (positionInHome == 0) {
             disablePlayerOnBoard(player);
         } else {
-            colorHome.get(positionInHome - 1).popPlayer();
+            colorHome.get(positionInHome - 1).removePlayer(player);
         }
 
         colorHome.get(tileNumber - 1).addPlayer(player);
@@ -2,10 +2,14 @@ package boardgame.controller.GameControllers;
 
 import java.util.List;
 
+import boardgame.controller.Autoplay;
 import boardgame.controller.SceneManager;
 import boardgame.model.Player;
 import boardgame.model.boardFiles.Board;
 import boardgame.model.boardFiles.Tile;
+import boardgame.model.effectFiles.LadderEffect;
+import boardgame.model.effectFiles.SnakeEffect;
+import boardgame.utils.JFR.EffectExecutedEvent;
 import boardgame.utils.movementType;
 import boardgame.visual.scenes.WinScreen;
 import javafx.animation.PauseTransition;
@@ -43,7 +47,7 @@ public class SnLGameController extends GameController {
 
     /**
      * Moves the given player to the specified tile and executes any tile effects.
-     * If the player reaches or passes tile 90, the game is ended.
+     * If the player reaches or passes the last tile, the game is ended.
      *
      * @param player the player to move
      * @param tileNumber the target tile number
@@ -53,40 +57,58 @@ public class SnLGameController extends GameController {
     public void movePlayer(Player player, int tileNumber, movementType mT) {
         int playerPosition = player.getPosition();
 
-        if (tileNumber >= 90) {
+        if (tileNumber >= tiles.size()) {
             handleEndGame(player);
-            player.setPosition(90, mT);
+            player.setPosition(tiles.size(), mT);
             return;
         }
 
-        tiles.get(playerPosition - 1).popPlayer();
+        tiles.get(playerPosition - 1).removePlayer(player);
         player.setPosition(tileNumber, mT);
         Tile targetTile = tiles.get(tileNumber - 1);
         targetTile.addPlayer(player);
 
         if (targetTile.getEffect() != null) {
+            if (targetTile.getEffect() instanceof SnakeEffect) {
+                getMatchTracker().countSnake(player);
+            } else if (targetTile.getEffect() instanceof LadderEffect) {
+                getMatchTracker().countLadder(player);
+            }
+            EffectExecutedEvent event = new EffectExecutedEvent();
+            event.begin();
             targetTile.getEffect().execute(player, this);
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.effect = targetTile.getEffect().getClass().getSimpleName();
+                event.player = player.getName();
+                event.tile = tileNumber;
+                event.targetTile = player.getPosition();
+                event.commit();
+            }
         }
     }
 
     /**
-     * Triggers the win screen and ends the game for the given player.
+     * Saves the result, triggers the win screen and ends the game for the given player.
      *
      * @param player the player who reached the end tile
      */
     public void handleEndGame(Player player) {
+        recordResult(player);
+
         int playerPosition = player.getPosition();
         PauseTransition gameEndAnimation = new PauseTransition(
-            Duration.millis((90 - playerPosition + 1) * 300 + 300)
+            Autoplay.scaled(Duration.millis((tiles.size() - playerPosition + 1) * 300 + 300))
         );
 
         gameEndAnimation.setOnFinished(event -> {
             SceneManager.getInstance().changeScene(
-                new WinScreen(player.getName(), player.getIcon()).getScene()
+                new WinScreen(player.getName(), player.getIcon()).getRoot()
             );
         });
 
-        gameEndAnimation.play();
+        playEndGameAnimation(gameEndAnimation);
     }
 
     /**
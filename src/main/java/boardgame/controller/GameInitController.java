@@ -1,24 +1,101 @@
 package boardgame.controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import boardgame.model.Player;
 import boardgame.utils.GameFactory;
 import boardgame.utils.GameType;
+import boardgame.utils.JFR.GameStartedEvent;
+import boardgame.visual.elements.Menu.PopUpAlert;
+import boardgame.visual.scenes.LoadingView;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Parent;
 
+/**
+ * Starts new games from the game initialization screen.
+ * <p>
+ * The board, controller and scene graph of the next game are built on a
+ * worker thread while a loading screen is shown, so the FX thread never
+ * freezes on "Start Game". The finished game is attached and started on the
+ * FX thread. The time from the click to the first frame of the game is
+ * recorded as the click-to-playable latency, and committed as a
+ * {@link GameStartedEvent} when Flight Recorder is recording.
+ */
 public class GameInitController {
 
+    private static final ExecutorService gameSetup = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "game-setup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static long lastStartLatencyMillis = -1;
+
     /**
      * Handles the start of a new game based on the specified game type, board variant, and players.
-     * It uses a {@link GameFactory} to initialize and start the game.
+     * It uses a {@link GameFactory} to initialize and start the game. Must be
+     * called on the JavaFX application thread; returns before the game is
+     * shown.
      *
      * @param gameType     the type of game to start (e.g., Snakes and Ladders, Ludo).
      * @param boardVariant the specific variant of the game board to use.
      * @param players      the list of players participating in the game.
      */
     public static void handleGameStart(GameType gameType, int boardVariant, List<Player> players) {
-        new GameFactory(gameType, boardVariant, players).startGame();
+        long clickTime = System.nanoTime();
+        GameStartedEvent event = new GameStartedEvent();
+        event.begin();
+        event.gameType = gameType.name();
+        event.boardVariant = boardVariant;
+        event.players = players.size();
+        SceneManager sceneManager = SceneManager.getInstance();
+        Parent menu = sceneManager.getCurrentRoot();
+
+        sceneManager.changeScene(LoadingView.getRoot("Setting up the board..."));
+
+        CompletableFuture
+                .supplyAsync(() -> {
+                    GameFactory gameFactory = new GameFactory(gameType, boardVariant, players);
+                    gameFactory.buildView();
+                    return gameFactory;
+                }, gameSetup)
+                .whenComplete((gameFactory, e) -> Platform.runLater(() -> {
+                    if (e != null) {
+                        sceneManager.changeScene(menu);
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        new PopUpAlert("Could not start the game: " + cause.getMessage()).show();
+                        return;
+                    }
+
+                    gameFactory.startGame();
+                    recordLatencyAtNextFrame(clickTime, event);
+                }));
+    }
 
+    private static void recordLatencyAtNextFrame(long clickTime, GameStartedEvent event) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                lastStartLatencyMillis = (System.nanoTime() - clickTime) / 1_000_000;
+                event.end();
+                event.commit();
+            }
+        }.start();
+    }
+
+    /**
+     * Returns the click-to-playable latency of the last game started.
+     *
+     * @return the time from "Start Game" to the first frame of the game in
+     *         milliseconds, or -1 if no game has been started.
+     */
+    public static long getLastStartLatencyMillis() {
+        return lastStartLatencyMillis;
     }
 
-}
\ No newline at end of file
+}
@@ -5,10 +5,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 
+import boardgame.controller.Autoplay;
 import boardgame.controller.GameControllers.LudoGameController;
 import boardgame.controller.SceneManager;
 import boardgame.model.Player;
 import boardgame.model.diceFiles.Dice;
+import boardgame.utils.JFR.RollHandledEvent;
+import boardgame.utils.JMX.GameMetrics;
+import boardgame.utils.TurnTracer;
 import boardgame.utils.movementType;
 import boardgame.visual.elements.SideColumn.SideColumnVisual;
 import boardgame.visual.gameLayers.LudoTokenLayer;
@@ -76,15 +80,10 @@ public class LudoRollHandler implements RollHandler {
 
     private void handleMoveThroughHome(Player player, int steps, Color color) {
         int homePosition = gameController.getHomePosition().get(player);
-        playerTokenLayer.addToAnimationQueue(() -> {
-            playerTokenLayer.movePlayerThroughHomePath(player, color, homePosition + steps, gameController);
-            PauseTransition pause = new PauseTransition(Duration.millis((steps * 300) + 100));
-            pause.setOnFinished(e -> {
-                applyHomeByMove(player, steps);
-                sideColumn.turnOnButton();
-            });
-            pause.play();
-        });
+        applyHomeByMove(player, steps);
+
+        playerTokenLayer.queueHomePath(player, color, homePosition, gameController.getHomePosition().get(player));
+        queueTurnEnd();
     }
 
     private void handleMoveTowardsHome(Player player, int steps, int totalTilesMoved, int startPosition, Color color) {
@@ -93,24 +92,31 @@ public class LudoRollHandler implements RollHandler {
         gameController.movePlayer(player, startPosition + stepsUntilReachedHome, movementType.PATH);
 
         int remainingRoll = steps - stepsUntilReachedHome;
-        playerTokenLayer.addToAnimationQueue(() -> {
-            playerTokenLayer.movePlayerThroughHomePath(player, color, remainingRoll, gameController);
-            PauseTransition homeStepPause = new PauseTransition(Duration.millis((remainingRoll + 1) * 300));
-            homeStepPause.setOnFinished(z -> {
-                applyHomeMove(player, remainingRoll);
-                sideColumn.turnOnButton();
-            });
-            homeStepPause.play();
-        });
+        applyHomeMove(player, remainingRoll);
+
+        playerTokenLayer.queueHomePath(player, color, 0, remainingRoll);
+        queueTurnEnd();
     }
 
     private void handleNormalMove(Player player, int steps, int nextPosition) {
         gameController.movePlayer(player, nextPosition, movementType.PATH);
         tilesMoved.replace(player, tilesMoved.get(player) + steps);
+        queueTurnEnd();
+    }
+
+    /**
+     * Queues re-enabling the roll button after the turn's animations. The
+     * game state is already updated, so the next roll never waits on them.
+     * The time until the button is re-enabled is recorded as the roll
+     * latency.
+     */
+    private void queueTurnEnd() {
+        long rolledAt = System.nanoTime();
         playerTokenLayer.addToAnimationQueue(() -> {
-            PauseTransition pause = new PauseTransition(Duration.millis(100));
+            PauseTransition pause = new PauseTransition(Autoplay.scaled(Duration.millis(100)));
             pause.setOnFinished(e -> {
                 sideColumn.turnOnButton();
+                GameMetrics.instance().rollAnimated(System.nanoTime() - rolledAt);
                 playerTokenLayer.runNextAnimation();
             });
             pause.play();
@@ -124,36 +130,56 @@ public class LudoRollHandler implements RollHandler {
      */
     @Override
     public void handleRollDice() {
+        RollHandledEvent event = new RollHandledEvent();
+        event.begin();
+        TurnTracer.beginTurn();
+
         int diceRoll = dice.roll();
         sideColumn.displayRoll(diceRoll);
 
         Player currentPlayer = gameController.getCurrentPlayer();
+        int startTile = currentPlayer.getPosition();
+        gameController.countTurn(currentPlayer);
         int homePosition = gameController.getHomePosition().get(currentPlayer);
 
+        long moveStart = TurnTracer.now();
         if (homePosition + diceRoll > 6) {
             handleGoalReached(currentPlayer, homePosition);
         } else {
             moveBy(currentPlayer, diceRoll);
             gameController.advanceTurn();
         }
+        TurnTracer.record(TurnTracer.Span.MOVE, moveStart);
+
+        TurnTracer.endTurnLogic();
+        event.end();
+        if (event.shouldCommit()) {
+            event.game = "Ludo";
+            event.player = currentPlayer.getName();
+            event.roll = diceRoll;
+            event.startTile = startTile;
+            event.endTile = currentPlayer.getPosition();
+            event.commit();
+        }
     }
 
     private void handleGoalReached(Player currentPlayer, int homePosition) {
         int toGoal = 6 - homePosition;
         moveBy(currentPlayer, toGoal);
+        gameController.recordResult(currentPlayer);
 
-        PauseTransition gameEndAnimation = new PauseTransition(Duration.millis(toGoal * 300 + 300));
+        PauseTransition gameEndAnimation = new PauseTransition(Autoplay.scaled(Duration.millis(toGoal * 300 + 300)));
         gameEndAnimation.setOnFinished(event -> {
             playerTokenLayer.moveToGoal(currentPlayer);
-            PauseTransition switchScreenPause = new PauseTransition(Duration.millis(600));
+            PauseTransition switchScreenPause = new PauseTransition(Autoplay.scaled(Duration.millis(600)));
             switchScreenPause.setOnFinished(e -> {
                 SceneManager.getInstance().changeScene(
-                        new WinScreen(currentPlayer.getName(), currentPlayer.getIcon()).getScene()
+                        new WinScreen(currentPlayer.getName(), currentPlayer.getIcon()).getRoot()
                 );
             });
-            switchScreenPause.play();
+            gameController.playEndGameAnimation(switchScreenPause);
         });
-        gameEndAnimation.play();
+        gameController.playEndGameAnimation(gameEndAnimation);
     }
 
     /**
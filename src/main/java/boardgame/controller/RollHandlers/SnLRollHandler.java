@@ -2,10 +2,14 @@ package boardgame.controller.RollHandlers;
 
 import boardgame.controller.GameControllers.SnLGameController;
 import boardgame.model.Player;
+import boardgame.model.boardFiles.SnLBoard;
 import boardgame.model.diceFiles.Dice;
+import boardgame.utils.JFR.RollHandledEvent;
+import boardgame.utils.JMX.GameMetrics;
+import boardgame.utils.TurnTracer;
 import boardgame.utils.movementType;
 import boardgame.visual.elements.SideColumn.SideColumnVisual;
-import boardgame.visual.gameLayers.SnLTokenLayer;
+import boardgame.visual.gameLayers.AnimationQueue;
 
 /**
  * Controller for handling in-game actions such as dice rolls, player movement,
@@ -18,18 +22,40 @@ public class SnLRollHandler implements RollHandler {
 
     private final SnLGameController gameController;
     private final SideColumnVisual sideColumn;
-    private final SnLTokenLayer playerTokenLayer;
+    private final AnimationQueue playerTokenLayer;
+    private final int lastTile;
     private final Dice dice = new Dice(1);
 
-    public SnLRollHandler(SnLGameController gameController, SnLTokenLayer playerTokenLayer, SideColumnVisual sideColumn) {
+    /**
+     * Constructs a roll handler for a default-sized board.
+     *
+     * @param gameController   the game controller
+     * @param playerTokenLayer the animation queue of the board's tokens
+     * @param sideColumn       the side column with the roll button
+     */
+    public SnLRollHandler(SnLGameController gameController, AnimationQueue playerTokenLayer, SideColumnVisual sideColumn) {
+        this(gameController, playerTokenLayer, sideColumn, SnLBoard.DEFAULT_WIDTH * SnLBoard.DEFAULT_HEIGHT);
+    }
+
+    /**
+     * Constructs a roll handler for a board with the given last tile.
+     *
+     * @param gameController   the game controller
+     * @param playerTokenLayer the animation queue of the board's tokens
+     * @param sideColumn       the side column with the roll button
+     * @param lastTile         the number of the board's last tile
+     */
+    public SnLRollHandler(SnLGameController gameController, AnimationQueue playerTokenLayer, SideColumnVisual sideColumn, int lastTile) {
         this.gameController = gameController;
         this.sideColumn = sideColumn;
         this.playerTokenLayer = playerTokenLayer;
+        this.lastTile = lastTile;
     }
 
     /**
      * Animates and completes a player's move by a number of steps. Updates
-     * token layer, invokes game logic, and re-enables the roll button.
+     * token layer, invokes game logic, and re-enables the roll button. The
+     * time until the button is re-enabled is recorded as the roll latency.
      *
      * @param player       the player to move
      * @param steps        the number of tiles to move
@@ -37,17 +63,19 @@ public class SnLRollHandler implements RollHandler {
      */
     @Override
     public void moveBy(Player player, int steps) {
+        long rolledAt = System.nanoTime();
         int startPosition = player.getPosition();
         int nextPosition = startPosition + steps;
 
         gameController.movePlayer(player, nextPosition, movementType.PATH);
 
-        if (nextPosition >= 90) {
+        if (nextPosition >= lastTile) {
             return;
         }
 
         playerTokenLayer.addToAnimationQueue(() -> {
             sideColumn.turnOnButton();
+            GameMetrics.instance().rollAnimated(System.nanoTime() - rolledAt);
             playerTokenLayer.runNextAnimation();
         });
     }
@@ -60,11 +88,31 @@ public class SnLRollHandler implements RollHandler {
      */
     @Override
     public void handleRollDice() {
+        RollHandledEvent event = new RollHandledEvent();
+        event.begin();
+        TurnTracer.beginTurn();
+
         int diceRoll = dice.roll();
         sideColumn.displayRoll(diceRoll);
 
-        moveBy(gameController.getCurrentPlayer(), diceRoll);
+        Player currentPlayer = gameController.getCurrentPlayer();
+        int startTile = currentPlayer.getPosition();
+        gameController.countTurn(currentPlayer);
+        long moveStart = TurnTracer.now();
+        moveBy(currentPlayer, diceRoll);
+        TurnTracer.record(TurnTracer.Span.MOVE, moveStart);
         gameController.advanceTurn();
+
+        TurnTracer.endTurnLogic();
+        event.end();
+        if (event.shouldCommit()) {
+            event.game = "Snakes and Ladders";
+            event.player = currentPlayer.getName();
+            event.roll = diceRoll;
+            event.startTile = startTile;
+            event.endTile = currentPlayer.getPosition();
+            event.commit();
+        }
     }
 
 }
\ No newline at end of file
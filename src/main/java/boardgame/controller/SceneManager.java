@@ -1,14 +1,48 @@
 package boardgame.controller;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import boardgame.utils.ErrorDialog;
+import boardgame.utils.JFR.SceneSwitchedEvent;
+import javafx.scene.Group;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+/**
+ * Switches between the screens of the application.
+ * <p>
+ * The primary stage has a single {@link Scene} for the whole run, with the
+ * shared stylesheet applied to it once. Switching screens only swaps the
+ * root of that scene, so the stylesheet is never parsed again and the old
+ * screen's nodes are released as soon as nothing else holds them.
+ * <p>
+ * Menu screens are kept in a cache after they are first built, so going
+ * back and forth between them reuses the same nodes. A menu is rebuilt on
+ * next use after it is invalidated with {@link #invalidate(Menu)} or
+ * {@link #invalidateMenus()}.
+ */
 public class SceneManager {
 
+    /**
+     * The menu screens whose views are cached.
+     */
+    public enum Menu {
+        START,
+        SNL_SETUP,
+        LUDO_SETUP,
+        LEADERBOARD
+    }
+
     private static SceneManager instance;
     private static Stage primaryStage;
 
+    private Scene scene;
+    private Runnable onLeave = null;
+    private final Map<Menu, Parent> menus = new EnumMap<>(Menu.class);
+
     private SceneManager() {
         // Private constructor to prevent instantiation
     }
@@ -27,13 +61,17 @@ public class SceneManager {
     }
 
     /**
-     * Sets the primary stage of the application. This stage will be used for
-     * displaying scenes.
+     * Sets the primary stage of the application and gives it the scene that
+     * all screens are shown in, with the default stylesheet applied.
      *
      * @param primaryStage the primary stage.
      */
     public void setPrimaryStage(Stage primaryStageIn) {
         primaryStage = primaryStageIn;
+
+        scene = new Scene(new Group());
+        scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
+        primaryStage.setScene(scene);
     }
 
     /**
@@ -46,19 +84,98 @@ public class SceneManager {
     }
 
     /**
-     * Changes the current scene displayed on the primary stage.
-     * It also applies the default stylesheet to the new scene.
+     * Changes the screen displayed on the primary stage.
      *
-     * @param scene the new scene to display.
+     * @param root the root node of the new screen.
      */
-    public void changeScene(Scene scene) {
+    public void changeScene(Parent root) {
+        changeScene(root, null);
+    }
+
+    /**
+     * Changes the screen displayed on the primary stage, and runs the given
+     * action when that screen is left again. Used to dispose games.
+     *
+     * @param root    the root node of the new screen.
+     * @param onLeave the action to run when another screen is shown, or
+     *                {@code null}.
+     */
+    public void changeScene(Parent root, Runnable onLeave) {
+        SceneSwitchedEvent event = new SceneSwitchedEvent();
+        event.begin();
+        switchTo(root, onLeave, event);
+    }
+
+    /**
+     * Shows a new screen and commits the Flight Recorder event for the
+     * switch, if it is being recorded.
+     *
+     * @param root    the root node of the new screen.
+     * @param onLeave the action to run when another screen is shown, or
+     *                {@code null}.
+     * @param event   the started event for this switch.
+     */
+    private void switchTo(Parent root, Runnable onLeave, SceneSwitchedEvent event) {
         if (primaryStage != null) {
-            scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
-            primaryStage.setScene(scene);
+            Parent previous = scene.getRoot();
+            Runnable leaving = this.onLeave;
+            this.onLeave = onLeave;
+            scene.setRoot(root);
+            if (leaving != null) {
+                leaving.run();
+            }
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.from = previous.getClass().getSimpleName();
+                event.to = root.getClass().getSimpleName();
+                event.commit();
+            }
             primaryStage.show();
         } else {
             ErrorDialog.showAndExit("Error", "Primary Stage Not Set", "An unexpected error has occured.");
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Shows a menu screen, building it only if it is not cached.
+     *
+     * @param menu    the menu to show.
+     * @param builder builds the menu's root node if it is not cached.
+     */
+    public void showMenu(Menu menu, Supplier<Parent> builder) {
+        SceneSwitchedEvent event = new SceneSwitchedEvent();
+        event.begin();
+        event.menu = menu.name();
+        event.cached = menus.containsKey(menu);
+
+        switchTo(menus.computeIfAbsent(menu, m -> builder.get()), null, event);
+    }
+
+    /**
+     * Returns the root node of the screen currently displayed.
+     *
+     * @return the current root, or {@code null} if no screen is shown.
+     */
+    public Parent getCurrentRoot() {
+        return scene != null ? scene.getRoot() : null;
+    }
+
+    /**
+     * Drops a cached menu so that it is rebuilt the next time it is shown.
+     *
+     * @param menu the menu to invalidate.
+     */
+    public void invalidate(Menu menu) {
+        menus.remove(menu);
+    }
+
+    /**
+     * Drops all cached menus, for example after importing a different profile
+     * file.
+     */
+    public void invalidateMenus() {
+        menus.clear();
+    }
+
+}
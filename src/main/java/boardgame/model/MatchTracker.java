@@ -0,0 +1,101 @@
+package boardgame.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import boardgame.utils.MatchHistory;
+
+/**
+ * Counts turns and effect hits for each player during a single game, so that
+ * they can be saved to the {@link MatchHistory} once the game is won.
+ */
+public class MatchTracker {
+
+    private final List<Player> players;
+    private final Map<Player, Integer> seats = new HashMap<>();
+    private final int[] turns;
+    private final int[] snakes;
+    private final int[] ladders;
+
+    /**
+     * Constructs a tracker for the given players, in turn order.
+     *
+     * @param players the players in the game
+     */
+    public MatchTracker(List<Player> players) {
+        this.players = players;
+        this.turns = new int[players.size()];
+        this.snakes = new int[players.size()];
+        this.ladders = new int[players.size()];
+        for (int seat = 0; seat < players.size(); seat++) {
+            seats.putIfAbsent(players.get(seat), seat);
+        }
+    }
+
+    /**
+     * Counts one turn taken by the given player.
+     *
+     * @param player the player
+     */
+    public void countTurn(Player player) {
+        count(turns, player);
+    }
+
+    /**
+     * Counts one snake hit by the given player.
+     *
+     * @param player the player
+     */
+    public void countSnake(Player player) {
+        count(snakes, player);
+    }
+
+    /**
+     * Counts one ladder climbed by the given player.
+     *
+     * @param player the player
+     */
+    public void countLadder(Player player) {
+        count(ladders, player);
+    }
+
+    /**
+     * Returns the number of turns the given player has taken.
+     *
+     * @param player the player
+     * @return the turn count, or 0 if the player is not in this game
+     */
+    public int getTurns(Player player) {
+        Integer seat = seats.get(player);
+        return seat == null ? 0 : turns[seat];
+    }
+
+    /**
+     * Builds the history records of this game, with the given player as the
+     * winner and everyone else as not finished.
+     *
+     * @param variant the board the game was played on
+     * @param winner  the winning player
+     * @return one record per player, in turn order
+     */
+    public List<MatchHistory.GameRecord> results(MatchHistory.Variant variant, Player winner) {
+        long gameId = ThreadLocalRandom.current().nextLong();
+        long timestamp = System.currentTimeMillis();
+
+        return IntStream.range(0, players.size())
+                .mapToObj(seat -> new MatchHistory.GameRecord(gameId, timestamp, variant, seat,
+                        players.get(seat).equals(winner) ? 1 : 0,
+                        turns[seat], snakes[seat], ladders[seat], players.get(seat).getName()))
+                .toList();
+    }
+
+    private void count(int[] counters, Player player) {
+        Integer seat = seats.get(player);
+        if (seat != null) {
+            counters[seat]++;
+        }
+    }
+}
@@ -44,13 +44,14 @@ public class Player {
     }
 
     /**
-     * Sets the player's tile position.
+     * Sets the player's tile position. Observers are notified with a plain
+     * loop, since this runs on every move.
      *
      * @param position the new tile position
      */
     public void setPosition(int newPosition, movementType movementType) {
-        if (!observers.isEmpty()) {
-            observers.forEach(i -> i.registerPlayerMove(this, newPosition, movementType));
+        for (int i = 0; i < observers.size(); i++) {
+            observers.get(i).registerPlayerMove(this, newPosition, movementType);
         }
 
         this.position = newPosition;
@@ -12,10 +12,25 @@ import boardgame.model.effectFiles.SnakeEffect;
  * <p>
  * A default board has a width of 10 and height of 9 (i.e., 90 tiles).
  * Each tile is initialized with a unique index and may be associated with a game effect.
+ * <p>
+ * Tiles snake across the board: tile 1 is in the bottom-left corner, odd
+ * rows (counted from the bottom) run left to right and even rows run right
+ * to left. Rows are numbered from the top, as on screen.
  *
  *  
  */
 public class SnLBoard extends Board {
+
+    /**
+     * The number of tiles in each row of a default board.
+     */
+    public static final int DEFAULT_WIDTH = 10;
+
+    /**
+     * The number of rows of a default board.
+     */
+    public static final int DEFAULT_HEIGHT = 9;
+
     private final int boardWidth;
     private final int boardHeight;
     private final int tileCount;
@@ -24,8 +39,8 @@ public class SnLBoard extends Board {
      * Constructs a default board of size 10x9 (90 tiles).
      */
     public SnLBoard() {
-        this.boardWidth = 10;
-        this.boardHeight = 9;
+        this.boardWidth = DEFAULT_WIDTH;
+        this.boardHeight = DEFAULT_HEIGHT;
         this.tileCount = boardWidth * boardHeight;
 
         IntStream.rangeClosed(1, tileCount)
@@ -96,4 +111,54 @@ public class SnLBoard extends Board {
     public int getBoardHeight() {
         return boardHeight;
     }
+
+    /**
+     * Returns whether this board has the default size of 10x9.
+     *
+     * @return {@code true} for a default-sized board
+     */
+    public boolean hasDefaultSize() {
+        return boardWidth == DEFAULT_WIDTH && boardHeight == DEFAULT_HEIGHT;
+    }
+
+    /**
+     * Returns the column a tile is shown in.
+     *
+     * @param tileNumber the tile number
+     * @return the column, counted from the left
+     */
+    public int getColumn(int tileNumber) {
+        int index = tileNumber - 1;
+        int rowFromBottom = index / boardWidth;
+        return rowFromBottom % 2 == 0
+                ? index % boardWidth
+                : boardWidth - 1 - index % boardWidth;
+    }
+
+    /**
+     * Returns the row a tile is shown in.
+     *
+     * @param tileNumber the tile number
+     * @return the row, counted from the top
+     */
+    public int getRow(int tileNumber) {
+        return boardHeight - 1 - (tileNumber - 1) / boardWidth;
+    }
+
+    /**
+     * Returns the number of the tile shown at a column and row.
+     *
+     * @param column the column, counted from the left
+     * @param row    the row, counted from the top
+     * @return the tile number, or -1 if the position is off the board
+     */
+    public int getTileAt(int column, int row) {
+        if (column < 0 || column >= boardWidth || row < 0 || row >= boardHeight) {
+            return -1;
+        }
+
+        int rowFromBottom = boardHeight - 1 - row;
+        int indexInRow = rowFromBottom % 2 == 0 ? column : boardWidth - 1 - column;
+        return rowFromBottom * boardWidth + indexInRow + 1;
+    }
 }
\ No newline at end of file
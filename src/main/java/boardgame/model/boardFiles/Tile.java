@@ -73,6 +73,16 @@ public class Tile {
         players.remove(0);
     }
 
+    /**
+     * Removes the given player from this tile. Unlike {@link #popPlayer()},
+     * this is correct however many players share the tile.
+     *
+     * @param player the player to remove
+     */
+    public void removePlayer(Player player) {
+        players.remove(player);
+    }
+
     /**
      * Sets the effect for this tile.
      *
@@ -22,13 +22,17 @@ public class Dice {
 
     /**
      * Rolls all the dice in this set and returns the sum of their values.
+     * Rolls happen every turn, so this does not allocate.
      *
      * @return the total value of the dice roll.
      */
     public int roll() {
-        return dice.stream()
-            .peek(Die::roll)
-            .mapToInt(Die::getValue)
-            .sum();
+        int sum = 0;
+        for (int i = 0; i < dice.size(); i++) {
+            Die die = dice.get(i);
+            die.roll();
+            sum += die.getValue();
+        }
+        return sum;
     }
 }
@@ -9,10 +9,14 @@ import boardgame.controller.SceneManager;
 import boardgame.model.Player;
 import boardgame.model.boardFiles.Board;
 import boardgame.model.boardFiles.LudoBoard;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.utils.JMX.GameMetrics;
 import boardgame.utils.JSON.BoardJSON;
 import boardgame.visual.scenes.Ingame.Ingame;
 import boardgame.visual.scenes.Ingame.LudoIngame;
 import boardgame.visual.scenes.Ingame.SnLIngame;
+import boardgame.visual.scenes.Ingame.SnLViewportIngame;
+import javafx.scene.Parent;
 
 /**
  * Sets up and initializes a new game session, including the board, players,
@@ -25,6 +29,7 @@ import boardgame.visual.scenes.Ingame.SnLIngame;
  */
 public class GameFactory {
 
+    private final GameType gameType;
     private final Board board;
     private final List<Player> players;
     private final GameController gameController;
@@ -40,13 +45,15 @@ public class GameFactory {
      */
     public GameFactory(GameType gameType, int boardChoice, List<Player> players) {
 
+        this.gameType = gameType;
         this.players = players;
 
         switch (gameType) {
             case SnakesNLadders -> {
-                this.board = BoardJSON.constructSnLBoardFromJSON(boardChoice);
+                SnLBoard snlBoard = BoardJSON.constructSnLBoardFromJSON(boardChoice);
+                this.board = snlBoard;
                 this.gameController = new SnLGameController(board, players);
-                this.ingame = new SnLIngame(this);
+                this.ingame = snlBoard.hasDefaultSize() ? new SnLIngame(this) : new SnLViewportIngame(this);
             }
 
             case Ludo -> {
@@ -55,7 +62,9 @@ public class GameFactory {
                 this.ingame = new LudoIngame(this);
             }
             default -> throw new AssertionError();
-        }        
+        }
+
+        gameController.setVariant(new MatchHistory.Variant(gameType, gameType == GameType.Ludo ? 0 : boardChoice));
     }
 
     /**
@@ -86,13 +95,23 @@ public class GameFactory {
     }
 
     /**
-     * Launches the game scene on the given stage.
-     *
-     * @param primaryStage the JavaFX stage to attach the game scene to
+     * Builds the game's scene graph without showing it. Does not touch any
+     * showing window, so it may run on a worker thread.
+     */
+    public void buildView() {
+        ingame.getRoot();
+    }
+
+    /**
+     * Shows the game scene on the primary stage and starts the game, building
+     * the view first if {@link #buildView()} was not called. Must be called on
+     * the JavaFX application thread.
      */
     public void startGame() {
         SceneManager sceneManager = SceneManager.getInstance();
-        sceneManager.changeScene(ingame.getScene());
-        
+        Parent root = ingame.getRoot();
+        ingame.start();
+        sceneManager.changeScene(root, ingame::dispose);
+        GameMetrics.instance().gameStarted(gameType);
     }
 }
@@ -0,0 +1,86 @@
+package boardgame.utils;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+import javafx.stage.Screen;
+
+/**
+ * A process-wide cache of decoded player icons.
+ * <p>
+ * Icons are decoded directly at the size they are shown at (times the
+ * screen's output scale), in the background, and each (icon, size) pair is
+ * decoded only once. The cache holds at most {@link #MAX_BYTES} of decoded
+ * pixels; when it grows past that, the least recently used icons are
+ * dropped.
+ */
+public final class IconCache {
+
+    /**
+     * The largest number of bytes of decoded pixels kept in the cache.
+     */
+    public static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    private static final Map<Key, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+    private static long bytes = 0;
+
+    private record Key(String icon, int size) {
+    }
+
+    private IconCache() {
+        // Static utility class
+    }
+
+    /**
+     * Returns the given icon decoded for display at the given size. The image
+     * may still be loading in the background when it is returned.
+     *
+     * @param icon the icon's resource path, e.g. {@code /PlayerIcons/Red.png}.
+     * @param size the width and height the icon is shown at.
+     * @return the icon image, or {@code null} if there is no such icon.
+     */
+    public static synchronized Image get(String icon, double size) {
+        int pixels = (int) Math.ceil(size * Screen.getPrimary().getOutputScaleX());
+        Key key = new Key(icon, pixels);
+
+        Image image = images.get(key);
+        if (image != null) {
+            return image;
+        }
+
+        URL url = IconCache.class.getResource(icon);
+        if (url == null) {
+            return null;
+        }
+
+        image = new Image(url.toExternalForm(), pixels, pixels, true, true, true);
+        images.put(key, image);
+        bytes += estimatedBytes(key);
+        evict();
+        return image;
+    }
+
+    /**
+     * Returns the number of bytes of decoded pixels currently cached.
+     *
+     * @return the cache size in bytes.
+     */
+    public static synchronized long size() {
+        return bytes;
+    }
+
+    private static void evict() {
+        Iterator<Key> eldest = images.keySet().iterator();
+        while (bytes > MAX_BYTES && images.size() > 1) {
+            bytes -= estimatedBytes(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private static long estimatedBytes(Key key) {
+        return 4L * key.size() * key.size();
+    }
+}
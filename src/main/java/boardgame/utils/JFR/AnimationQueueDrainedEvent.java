@@ -0,0 +1,33 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a token layer's animation queue running empty.
+ * It spans from the first animation queued while the layer was idle to the
+ * moment the queue ran empty again.
+ */
+@Name("boardgame.AnimationQueueDrained")
+@Label("Animation Queue Drained")
+@Category({"Board Game", "UI"})
+@Description("A run of queued token animations, from the first one to the queue running empty")
+public class AnimationQueueDrainedEvent extends Event {
+
+    @Label("Layer")
+    public String layer;
+
+    @Label("Animations")
+    @Description("The number of queued animations played")
+    public int animations;
+
+    @Label("Coalesced")
+    @Description("The number of queued animations dropped or merged into jumps")
+    public int coalesced;
+
+    @Label("Peak Queue Length")
+    public int peakQueueLength;
+}
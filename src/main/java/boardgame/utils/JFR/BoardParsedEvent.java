@@ -0,0 +1,42 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a Snakes and Ladders board built from
+ * boards.json.
+ */
+@Name("boardgame.BoardParsed")
+@Label("Board Parsed")
+@Category({"Board Game", "I/O"})
+@Description("A board built from boards.json, including reading the file if it was not cached")
+public class BoardParsedEvent extends Event {
+
+    @Label("Board Index")
+    public int boardIndex;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Tiles")
+    public int tiles;
+
+    @Label("Effects")
+    public int effects;
+
+    @Label("File Read")
+    @Description("Whether boards.json was read and parsed for this board")
+    public boolean fileRead;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileBytes;
+}
@@ -0,0 +1,31 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a tile effect executed on a player.
+ */
+@Name("boardgame.EffectExecuted")
+@Label("Effect Executed")
+@Category({"Board Game", "Gameplay"})
+@Description("A tile effect, such as a ladder or snake, applied to a player")
+public class EffectExecutedEvent extends Event {
+
+    @Label("Effect")
+    @Description("The simple name of the effect class")
+    public String effect;
+
+    @Label("Player")
+    public String player;
+
+    @Label("Tile")
+    public int tile;
+
+    @Label("Target Tile")
+    @Description("The tile the player ended on after the effect")
+    public int targetTile;
+}
@@ -0,0 +1,31 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for the first frame the application shows, with the
+ * time it took from JVM start and the startup budget it is held to.
+ */
+@Name("boardgame.FirstFrame")
+@Label("First Frame")
+@Category({"Board Game", "Startup"})
+@Description("The first frame shown after the application started")
+public class FirstFrameEvent extends Event {
+
+    @Label("Time to First Frame")
+    @Description("The time from JVM start to the first frame")
+    @Timespan(Timespan.MILLISECONDS)
+    public long firstFrameMillis;
+
+    @Label("Budget")
+    @Timespan(Timespan.MILLISECONDS)
+    public long budgetMillis;
+
+    @Label("Within Budget")
+    public boolean withinBudget;
+}
@@ -0,0 +1,28 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for starting a game, from the click on "Start Game"
+ * to the first frame of the game. Its duration is the click-to-playable
+ * latency.
+ */
+@Name("boardgame.GameStarted")
+@Label("Game Started")
+@Category({"Board Game", "UI"})
+@Description("Starting a game, from the click on Start Game to its first frame")
+public class GameStartedEvent extends Event {
+
+    @Label("Game Type")
+    public String gameType;
+
+    @Label("Board Variant")
+    public int boardVariant;
+
+    @Label("Players")
+    public int players;
+}
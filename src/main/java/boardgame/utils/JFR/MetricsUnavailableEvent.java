@@ -0,0 +1,25 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for game metrics that could not be registered with
+ * the platform MBean server, so no dashboard can read them.
+ */
+@Name("boardgame.MetricsUnavailable")
+@Label("Metrics Unavailable")
+@Category({"Board Game", "Metrics"})
+@Description("The game metrics could not be registered over JMX")
+public class MetricsUnavailableEvent extends Event {
+
+    @Label("Object Name")
+    public String objectName;
+
+    @Label("Reason")
+    @Description("The message of the JMX exception")
+    public String reason;
+}
@@ -0,0 +1,33 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a read or write of the player profile file.
+ */
+@Name("boardgame.ProfileFile")
+@Label("Profile File Access")
+@Category({"Board Game", "I/O"})
+@Description("A read or write of the player profile CSV file")
+public class ProfileFileEvent extends Event {
+
+    @Label("Operation")
+    @Description("read, refresh or write")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Rows")
+    @Description("The number of rows read, or 1 for a write")
+    public int rows;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileBytes;
+}
@@ -0,0 +1,34 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one handled dice roll, from the roll to the
+ * game state being updated. The animations it queues are recorded by
+ * {@link AnimationQueueDrainedEvent}.
+ */
+@Name("boardgame.RollHandled")
+@Label("Roll Handled")
+@Category({"Board Game", "Gameplay"})
+@Description("A dice roll and the game logic it triggered")
+public class RollHandledEvent extends Event {
+
+    @Label("Game")
+    public String game;
+
+    @Label("Player")
+    public String player;
+
+    @Label("Roll")
+    public int roll;
+
+    @Label("Start Tile")
+    public int startTile;
+
+    @Label("End Tile")
+    public int endTile;
+}
@@ -0,0 +1,34 @@
+package boardgame.utils.JFR;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a switch between screens, including building a
+ * menu that was not cached and disposing the screen that was left.
+ */
+@Name("boardgame.SceneSwitched")
+@Label("Scene Switched")
+@Category({"Board Game", "UI"})
+@Description("A switch between two screens of the application")
+public class SceneSwitchedEvent extends Event {
+
+    @Label("From")
+    @Description("The class of the root node that was shown before")
+    public String from;
+
+    @Label("To")
+    @Description("The class of the root node that is shown now")
+    public String to;
+
+    @Label("Menu")
+    @Description("The cached menu shown, if any")
+    public String menu;
+
+    @Label("Cached")
+    @Description("Whether the screen was reused from the menu cache")
+    public boolean cached;
+}
@@ -0,0 +1,308 @@
+package boardgame.utils.JMX;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import boardgame.utils.GameType;
+import boardgame.utils.JFR.MetricsUnavailableEvent;
+import boardgame.utils.JSON.BoardJSON;
+
+/**
+ * Live counters of the running application, exposed over JMX for operations
+ * dashboards.
+ * <p>
+ * The game code only ever adds to {@link LongAdder}s, which spread
+ * concurrent updates over separate cells, so recording a metric never waits
+ * on a lock or on a dashboard reading it. Sums, rates and percentiles are
+ * computed when an attribute is read.
+ * <p>
+ * Roll latencies are kept in a histogram with four buckets per power of two,
+ * so percentiles are exact up to 7 ms and within 25% above that.
+ * <p>
+ * The turn rate is averaged over the last {@value #RATE_WINDOW_SECONDS}
+ * seconds, from a ring of per-second turn counts, so reading it has no side
+ * effects and any number of dashboards see the same value.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+
+    /**
+     * The name the metrics are registered under in the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "boardgame:type=GameMetrics";
+
+    private static final int LATENCY_BUCKETS = 64;
+    private static final int RATE_WINDOW_SECONDS = 10;
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    private final Map<GameType, LongAdder> gamesStarted = new EnumMap<>(GameType.class);
+    private final Map<GameType, LongAdder> gamesFinished = new EnumMap<>(GameType.class);
+    private final LongAdder turns = new LongAdder();
+    private final Map<String, LongAdder> queueDepths = new ConcurrentHashMap<>();
+    private final AtomicLong queueSequence = new AtomicLong();
+    private final LongAdder profileCacheHits = new LongAdder();
+    private final LongAdder profileCacheMisses = new LongAdder();
+    private final LongAdder[] rollLatencies = new LongAdder[LATENCY_BUCKETS];
+
+    // Each slot holds the second it counts in the high bits and its turn count in the low bits
+    private final AtomicLongArray turnsPerSecond = new AtomicLongArray(RATE_WINDOW_SECONDS);
+
+    private GameMetrics() {
+        for (GameType gameType : GameType.values()) {
+            gamesStarted.put(gameType, new LongAdder());
+            gamesFinished.put(gameType, new LongAdder());
+        }
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            rollLatencies[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the shared metrics.
+     *
+     * @return the shared {@code GameMetrics}.
+     */
+    public static GameMetrics instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the shared metrics with the platform MBean server, if they are
+     * not registered yet. A failure is committed as a
+     * {@link MetricsUnavailableEvent} and otherwise ignored, since the game
+     * runs the same without them.
+     *
+     * @return true if the metrics are registered.
+     */
+    public static synchronized boolean register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(instance(), name);
+            }
+            return true;
+        } catch (JMException e) {
+            MetricsUnavailableEvent event = new MetricsUnavailableEvent();
+            event.objectName = OBJECT_NAME;
+            event.reason = e.getMessage();
+            event.commit();
+            return false;
+        }
+    }
+
+    /**
+     * Counts a game that was started.
+     *
+     * @param gameType the type of the game.
+     */
+    public void gameStarted(GameType gameType) {
+        gamesStarted.get(gameType).increment();
+    }
+
+    /**
+     * Counts a game that ended with a winner.
+     *
+     * @param gameType the type of the game.
+     */
+    public void gameFinished(GameType gameType) {
+        gamesFinished.get(gameType).increment();
+    }
+
+    /**
+     * Counts one turn taken.
+     */
+    public void turnTaken() {
+        turns.increment();
+        long second = currentSecond();
+        int slot = (int) Math.floorMod(second, RATE_WINDOW_SECONDS);
+        turnsPerSecond.getAndUpdate(slot, packed ->
+                packed >> COUNT_BITS == second ? packed + 1 : second << COUNT_BITS | 1);
+    }
+
+    private static long currentSecond() {
+        return Math.floorDiv(System.nanoTime(), 1_000_000_000L);
+    }
+
+    /**
+     * Adds a token layer's animation queue. The layer keeps the returned
+     * counter equal to its queue length, and removes it with
+     * {@link #unregisterAnimationQueue(LongAdder)} when it is disposed.
+     *
+     * @param layer the name of the layer.
+     * @return the counter holding the layer's queue depth.
+     */
+    public LongAdder registerAnimationQueue(String layer) {
+        LongAdder depth = new LongAdder();
+        queueDepths.put(layer + "#" + queueSequence.incrementAndGet(), depth);
+        return depth;
+    }
+
+    /**
+     * Removes a token layer's animation queue.
+     *
+     * @param depth the counter returned when the queue was registered.
+     */
+    public void unregisterAnimationQueue(LongAdder depth) {
+        queueDepths.values().remove(depth);
+    }
+
+    /**
+     * Counts a profile read that was served from memory.
+     */
+    public void profileCacheHit() {
+        profileCacheHits.increment();
+    }
+
+    /**
+     * Counts a profile read that had to read the profile files.
+     */
+    public void profileCacheMiss() {
+        profileCacheMisses.increment();
+    }
+
+    /**
+     * Records the time from a roll until its animations finished.
+     *
+     * @param nanos the latency in nanoseconds.
+     */
+    public void rollAnimated(long nanos) {
+        rollLatencies[bucketOf(nanos / 1_000_000)].increment();
+    }
+
+    private static int bucketOf(long millis) {
+        if (millis < 4) {
+            return (int) Math.max(0, millis);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(millis);
+        int bucket = 4 * (exponent - 1) + (int) ((millis >>> (exponent - 2)) & 3);
+        return Math.min(bucket, LATENCY_BUCKETS - 1);
+    }
+
+    private static long bucketMaxMillis(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+        int exponent = bucket / 4 + 1;
+        return ((5L + bucket % 4) << (exponent - 2)) - 1;
+    }
+
+    private long rollLatencyPercentile(double percentile) {
+        long[] counts = new long[LATENCY_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            counts[i] = rollLatencies[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bucketMaxMillis(i);
+            }
+        }
+        return bucketMaxMillis(LATENCY_BUCKETS - 1);
+    }
+
+    private static Map<String, Long> sums(Map<?, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((key, counter) -> sums.put(key.toString(), counter.sum()));
+        return sums;
+    }
+
+    @Override
+    public Map<String, Long> getGamesStarted() {
+        return sums(gamesStarted);
+    }
+
+    @Override
+    public Map<String, Long> getGamesFinished() {
+        return sums(gamesFinished);
+    }
+
+    @Override
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    @Override
+    public double getTurnsPerSecond() {
+        long now = currentSecond();
+        long total = 0;
+        for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+            long packed = turnsPerSecond.get(i);
+            if (now - (packed >> COUNT_BITS) < RATE_WINDOW_SECONDS) {
+                total += packed & COUNT_MASK;
+            }
+        }
+        return (double) total / RATE_WINDOW_SECONDS;
+    }
+
+    @Override
+    public Map<String, Long> getAnimationQueueDepths() {
+        return sums(queueDepths);
+    }
+
+    @Override
+    public long getProfileCacheHits() {
+        return profileCacheHits.sum();
+    }
+
+    @Override
+    public long getProfileCacheMisses() {
+        return profileCacheMisses.sum();
+    }
+
+    @Override
+    public double getProfileCacheHitRate() {
+        long hits = profileCacheHits.sum();
+        long total = hits + profileCacheMisses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public int getBoardCatalogCacheSize() {
+        return BoardJSON.getCachedBoardCount();
+    }
+
+    @Override
+    public long getRollLatencyP50Millis() {
+        return rollLatencyPercentile(0.50);
+    }
+
+    @Override
+    public long getRollLatencyP99Millis() {
+        return rollLatencyPercentile(0.99);
+    }
+
+    @Override
+    public void reset() {
+        gamesStarted.values().forEach(LongAdder::reset);
+        gamesFinished.values().forEach(LongAdder::reset);
+        turns.reset();
+        profileCacheHits.reset();
+        profileCacheMisses.reset();
+        for (LongAdder bucket : rollLatencies) {
+            bucket.reset();
+        }
+        for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+            turnsPerSecond.set(i, 0);
+        }
+    }
+}
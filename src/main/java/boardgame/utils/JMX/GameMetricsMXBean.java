@@ -0,0 +1,96 @@
+package boardgame.utils.JMX;
+
+import java.util.Map;
+
+/**
+ * Management interface of the live game metrics, registered as
+ * {@value GameMetrics#OBJECT_NAME}. Every attribute is read-only and can be
+ * browsed with JConsole or JMC, or polled by a dashboard.
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Returns the number of games started, per game type.
+     *
+     * @return the started games, keyed by game type name.
+     */
+    Map<String, Long> getGamesStarted();
+
+    /**
+     * Returns the number of games that ended with a winner, per game type.
+     *
+     * @return the finished games, keyed by game type name.
+     */
+    Map<String, Long> getGamesFinished();
+
+    /**
+     * Returns the number of turns taken in all games.
+     *
+     * @return the total number of turns.
+     */
+    long getTurns();
+
+    /**
+     * Returns the number of turns taken per second, averaged over the last
+     * ten seconds.
+     *
+     * @return the turn rate.
+     */
+    double getTurnsPerSecond();
+
+    /**
+     * Returns the number of animations waiting in each token layer's queue.
+     *
+     * @return the queue depths, keyed by layer.
+     */
+    Map<String, Long> getAnimationQueueDepths();
+
+    /**
+     * Returns how many profile reads were served from memory without reading
+     * the profile files.
+     *
+     * @return the number of profile cache hits.
+     */
+    long getProfileCacheHits();
+
+    /**
+     * Returns how many profile reads had to read the profile files.
+     *
+     * @return the number of profile cache misses.
+     */
+    long getProfileCacheMisses();
+
+    /**
+     * Returns the share of profile reads served from memory.
+     *
+     * @return the hit rate between 0 and 1, or 0 before the first read.
+     */
+    double getProfileCacheHitRate();
+
+    /**
+     * Returns the number of boards in the parsed board catalog.
+     *
+     * @return the number of cached boards, or 0 before boards.json is read.
+     */
+    int getBoardCatalogCacheSize();
+
+    /**
+     * Returns the median time from a roll until its animations have finished.
+     *
+     * @return the p50 latency in milliseconds.
+     */
+    long getRollLatencyP50Millis();
+
+    /**
+     * Returns the 99th percentile of the time from a roll until its
+     * animations have finished.
+     *
+     * @return the p99 latency in milliseconds.
+     */
+    long getRollLatencyP99Millis();
+
+    /**
+     * Sets every counter back to zero. Queue depths are gauges and are kept.
+     */
+    void reset();
+}
@@ -15,6 +15,7 @@ import boardgame.model.effectFiles.LadderEffect;
 import boardgame.model.effectFiles.PlaceholderEffect;
 import boardgame.model.effectFiles.SkipTurnEffect;
 import boardgame.model.effectFiles.SnakeEffect;
+import boardgame.utils.JFR.BoardParsedEvent;
 import boardgame.utils.JSON.Exceptions.JSONParsingException;
 import boardgame.utils.JSON.Exceptions.UnknownEffectException;
 
@@ -23,46 +24,110 @@ import boardgame.utils.JSON.Exceptions.UnknownEffectException;
  * The JSON file should be located in the project's resources folder and named "boards.json".
  *
  * It supports various tile effects such as Ladder, Snake, LoseTurn, and BackToStart,
- * and populates the board accordingly.
+ * and populates the board accordingly. A board may give its size with
+ * optional "width" and "height" fields; boards without them are 10x9.
  * 
  *  
  */
 public class BoardJSON {
 
+    private static JSONArray snlBoards = null;
+    private static long fileBytes = 0;
+
     /**
-     * Constructs a Snakes and Ladders board by reading a specific board configuration
-     * from the boards.json resource file.
+     * Reads and parses the boards.json resource file, if not already done.
+     * The parsed document is kept, so board previews and game starts do not
+     * read the file again. Safe to call from a background thread at startup.
      *
-     * @param choice the index of the board configuration in the "SnL" array to load
-     * @return a populated {@link SnLBoard} object with effects set according to the JSON
      * @throws JSONParsingException if loading or parsing the JSON file fails
      */
-    public static SnLBoard constructSnLBoardFromJSON(int choice) {
-        SnLBoard board = new SnLBoard();
+    public static void preload() {
+        snlBoards();
+    }
+
+    private static synchronized JSONArray snlBoards() {
+        if (snlBoards != null) {
+            return snlBoards;
+        }
 
         try (InputStream is = BoardJSON.class.getClassLoader().getResourceAsStream("boards.json")) {
             if (is == null) {
                 throw new JSONParsingException("boards.json not found in resources.");
             }
 
-            String jsonText = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-            JSONObject SnLBoard = new JSONObject(jsonText)
+            byte[] bytes = is.readAllBytes();
+            fileBytes = bytes.length;
+            String jsonText = new String(bytes, StandardCharsets.UTF_8);
+            snlBoards = new JSONObject(jsonText)
                 .getJSONArray("games")
                 .getJSONObject(0)
-                .getJSONArray("SnL")
-                .getJSONObject(choice);
+                .getJSONArray("SnL");
+
+        } catch (IOException e) {
+            throw new JSONParsingException("Failed to parse SnL board from JSON.");
+        }
+
+        return snlBoards;
+    }
+
+    /**
+     * Returns the number of boards in the parsed board catalog, without
+     * reading boards.json.
+     *
+     * @return the number of cached boards, or 0 if the file was not read yet
+     */
+    public static synchronized int getCachedBoardCount() {
+        return snlBoards == null ? 0 : snlBoards.length();
+    }
+
+    /**
+     * Constructs a Snakes and Ladders board by reading a specific board configuration
+     * from the boards.json resource file. Every call returns a new board.
+     *
+     * @param choice the index of the board configuration in the "SnL" array to load
+     * @return a populated {@link SnLBoard} object with effects set according to the JSON
+     * @throws JSONParsingException if loading or parsing the JSON file fails
+     */
+    public static SnLBoard constructSnLBoardFromJSON(int choice) {
+        SnLBoard board;
+        BoardParsedEvent event = new BoardParsedEvent();
+        event.begin();
+        boolean fileRead;
+        synchronized (BoardJSON.class) {
+            fileRead = snlBoards == null;
+        }
+
+        try {
+            JSONObject boardObject = snlBoards().getJSONObject(choice);
 
-            JSONArray tilesWithEffects = SnLBoard.getJSONArray("tiles");
+            SnLBoard sizedBoard = new SnLBoard(
+                boardObject.optInt("width", SnLBoard.DEFAULT_WIDTH),
+                boardObject.optInt("height", SnLBoard.DEFAULT_HEIGHT)
+            );
+
+            JSONArray tilesWithEffects = boardObject.getJSONArray("tiles");
 
             IntStream.range(0, tilesWithEffects.length())
-                .forEach(i -> modifyEffectTileFromJSON(tilesWithEffects.getJSONObject(i), board));
+                .forEach(i -> modifyEffectTileFromJSON(tilesWithEffects.getJSONObject(i), sizedBoard));
+
+            board = sizedBoard;
 
-        } catch (IOException e) {
-            throw new JSONParsingException("Failed to parse SnL board from JSON.");
         } catch (IndexOutOfBoundsException e) {
             throw new JSONParsingException("Effect was attempted placed at an illegal tile.");
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardIndex = choice;
+            event.width = board.getBoardWidth();
+            event.height = board.getBoardHeight();
+            event.tiles = board.getTiles().size();
+            event.effects = (int) board.getTiles().stream().filter(tile -> tile.getEffect() != null).count();
+            event.fileRead = fileRead;
+            event.fileBytes = fileBytes;
+            event.commit();
+        }
+
         return board;
     }
 
@@ -81,8 +146,8 @@ public class BoardJSON {
             throw new JSONParsingException("Tile number out of bounds.");
         }
 
-        if (tileNumber == 1 || tileNumber == 90) {
-            throw new JSONParsingException("Tile number 1 and 90 cannot have an effect.");
+        if (tileNumber == 1 || tileNumber == board.getTiles().size()) {
+            throw new JSONParsingException("Tile number 1 and the last tile cannot have an effect.");
         }
 
         String effectType = tileWithEffect.getString("effect");
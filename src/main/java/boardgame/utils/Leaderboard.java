@@ -0,0 +1,337 @@
+package boardgame.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Keeps every player profile ordered by win count so that top-K, paging and
+ * rank lookups never have to scan and sort the whole profile file.
+ * <p>
+ * Profiles are held in an indexable skip list ordered by (wins descending,
+ * name ascending). Each forward link stores how many entries it skips, which
+ * makes both "who is at rank r" and "what rank has player p" O(log n).
+ * <p>
+ * The shared instance is built lazily from {@link PlayerCSV} and kept up to
+ * date by it whenever a profile is registered or a win is recorded.
+ */
+public class Leaderboard {
+
+    private static final int MAX_LEVEL = 32;
+    private static Leaderboard instance = null;
+
+    private final Node head = new Node(null, 0, MAX_LEVEL);
+    private final Map<String, Integer> winsByName = new HashMap<>();
+    private final Random random = new Random();
+    private int level = 1;
+    private int size = 0;
+
+    /**
+     * A single leaderboard row.
+     *
+     * @param name the profile name
+     * @param wins the number of recorded wins
+     * @param rank the 1-based position on the leaderboard
+     */
+    public record Entry(String name, int wins, int rank) {
+    }
+
+    private static final class Node {
+        private final String name;
+        private final int wins;
+        private final Node[] next;
+        private final int[] width;
+
+        private Node(String name, int wins, int levels) {
+            this.name = name;
+            this.wins = wins;
+            this.next = new Node[levels];
+            this.width = new int[levels];
+        }
+    }
+
+    /**
+     * Constructs an empty leaderboard.
+     */
+    public Leaderboard() {
+        // Entries are added through put
+    }
+
+    /**
+     * Returns the shared leaderboard, building it from the current profile file
+     * on first use.
+     *
+     * @return the shared {@code Leaderboard}.
+     */
+    public static Leaderboard instance() {
+        synchronized (Leaderboard.class) {
+            if (instance != null) {
+                return instance;
+            }
+        }
+
+        // Read outside the lock: the profile store calls back into updateIfLoaded
+        List<String[]> rows = PlayerCSV.getCSVContent();
+        synchronized (Leaderboard.class) {
+            if (instance == null) {
+                Leaderboard leaderboard = new Leaderboard();
+                rows.forEach(row -> {
+                    if (!leaderboard.contains(row[0])) {
+                        leaderboard.put(row[0], PlayerCSV.parseWinCount(row));
+                    }
+                });
+                instance = leaderboard;
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Drops the shared leaderboard so that it is rebuilt from the profile file
+     * on next use, for example after importing a different file.
+     */
+    public static synchronized void invalidate() {
+        instance = null;
+    }
+
+    /**
+     * Applies a win count saved elsewhere to the shared leaderboard, if it has
+     * been built. An unbuilt leaderboard will read the change when it is built.
+     *
+     * @param name the profile name.
+     * @param wins the profile's win count.
+     */
+    public static synchronized void updateIfLoaded(String name, int wins) {
+        if (instance != null) {
+            instance.put(name, wins);
+        }
+    }
+
+    /**
+     * Inserts a profile or moves it to the position matching its new win count.
+     *
+     * @param name the profile name.
+     * @param wins the profile's win count.
+     */
+    public synchronized void put(String name, int wins) {
+        Integer previous = winsByName.put(name, wins);
+        if (previous != null) {
+            if (previous == wins) {
+                return;
+            }
+            delete(name, previous);
+        }
+        insert(name, wins);
+    }
+
+    /**
+     * Removes a profile from the leaderboard.
+     *
+     * @param name the profile name.
+     */
+    public synchronized void remove(String name) {
+        Integer wins = winsByName.remove(name);
+        if (wins != null) {
+            delete(name, wins);
+        }
+    }
+
+    /**
+     * Adds one win to the given profile, inserting it if it is not yet present.
+     *
+     * @param name the profile name.
+     * @return the profile's new win count.
+     */
+    public synchronized int increment(String name) {
+        int wins = winsByName.getOrDefault(name, 0) + 1;
+        put(name, wins);
+        return wins;
+    }
+
+    /**
+     * Returns whether the leaderboard holds the given profile.
+     *
+     * @param name the profile name.
+     * @return true if the profile is present.
+     */
+    public synchronized boolean contains(String name) {
+        return winsByName.containsKey(name);
+    }
+
+    /**
+     * Returns the win count of the given profile.
+     *
+     * @param name the profile name.
+     * @return the win count, or 0 if the profile is unknown.
+     */
+    public synchronized int getWins(String name) {
+        return winsByName.getOrDefault(name, 0);
+    }
+
+    /**
+     * Returns the 1-based rank of the given profile.
+     *
+     * @param name the profile name.
+     * @return the rank, or -1 if the profile is unknown.
+     */
+    public synchronized int rankOf(String name) {
+        Integer wins = winsByName.get(name);
+        if (wins == null) {
+            return -1;
+        }
+
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], wins, name) <= 0) {
+                rank += x.width[i];
+                x = x.next[i];
+            }
+        }
+        return x != head && x.name.equals(name) ? rank : -1;
+    }
+
+    /**
+     * Returns the best {@code k} profiles.
+     *
+     * @param k the number of entries to return.
+     * @return up to {@code k} entries, best first.
+     */
+    public List<Entry> topK(int k) {
+        return page(0, k);
+    }
+
+    /**
+     * Returns a page of the leaderboard. Finding the first entry costs
+     * O(log n); the rest of the page is read by walking the bottom level.
+     *
+     * @param offset the number of entries to skip.
+     * @param limit  the maximum number of entries to return.
+     * @return the entries on the requested page, best first.
+     */
+    public synchronized List<Entry> page(int offset, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+        if (offset < 0 || limit <= 0 || offset >= size) {
+            return entries;
+        }
+
+        Node x = nodeAt(offset + 1);
+        int rank = offset + 1;
+        while (x != null && entries.size() < limit) {
+            entries.add(new Entry(x.name, x.wins, rank++));
+            x = x.next[0];
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the number of profiles on the leaderboard.
+     *
+     * @return the profile count.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private Node nodeAt(int rank) {
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.width[i] <= rank) {
+                traversed += x.width[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private void insert(String name, int wins) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], wins, name) < 0) {
+                rank[i] += x.width[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.width[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(name, wins, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.width[i] = update[i].width[i] - (rank[0] - rank[i]);
+            update[i].width[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].width[i]++;
+        }
+        size++;
+    }
+
+    private void delete(String name, int wins) {
+        Node[] update = new Node[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], wins, name) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        Node target = x.next[0];
+        if (target == null || target.wins != wins || !target.name.equals(name)) {
+            return;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].width[i] += target.width[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].width[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    /**
+     * Orders nodes by wins descending, then by name ascending.
+     */
+    private static int compare(Node node, int wins, String name) {
+        if (node.wins != wins) {
+            return Integer.compare(wins, node.wins);
+        }
+        return node.name.compareTo(name);
+    }
+
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && random.nextInt(4) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
@@ -1,13 +1,17 @@
 package boardgame.utils;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * A custom iterator that loops endlessly over a list of items.
  * When the end of the list is reached, it wraps around to the beginning.
  *
  * Useful for managing turn-based logic such as rotating through players.
+ * Each step takes constant time, however many items there are; lists
+ * without fast indexed access are copied once to guarantee this.
  *
  * @param <Item> the type of elements returned by this iterator
  * 
@@ -27,7 +31,7 @@ public class LoopingIterator<Item> implements Iterator<Item> {
         if (list == null || list.isEmpty()) {
             throw new IllegalArgumentException("List must not be null or empty");
         }
-        this.list = list;
+        this.list = list instanceof RandomAccess ? list : new ArrayList<>(list);
     }
 
     /**
@@ -0,0 +1,395 @@
+package boardgame.utils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Stores the results of finished games and keeps per-player statistics.
+ * <p>
+ * Every finished game appends one binary record per player to the history
+ * file. The history is never rewritten, so saving a game costs the same no
+ * matter how many games came before it.
+ * <p>
+ * Statistics are kept as rollups per player and per (player, board variant),
+ * updated as each record is written. Looking up a player's statistics is a
+ * single map lookup. The rollups are saved now and then to a snapshot file
+ * next to the history, together with the history position they cover, so
+ * that starting the application only reads the records written since.
+ */
+public class MatchHistory {
+
+    private static final String PATH = "src/main/resources/matchHistory.bin";
+    private static final int SNAPSHOT_MAGIC = 0x4D485231;
+    private static final int SNAPSHOT_INTERVAL = 4096;
+    private static final int READ_CHUNK = 64 * 1024;
+    private static MatchHistory instance = null;
+
+    private final FileChannel history;
+    private final Path snapshotPath;
+    private final Map<Key, Rollup> rollups = new HashMap<>();
+    private final Map<String, Rollup> totals = new HashMap<>();
+    private long offset = 0;
+    private int recordsSinceSnapshot = 0;
+
+    /**
+     * A board a game can be played on.
+     *
+     * @param gameType the type of game
+     * @param board    the board number for Snakes and Ladders, 0 for Ludo
+     */
+    public record Variant(GameType gameType, int board) {
+    }
+
+    /**
+     * One player's result in one finished game.
+     *
+     * @param gameId    identifies the game; all players of a game share it
+     * @param timestamp when the game finished, in epoch milliseconds
+     * @param variant   the board the game was played on
+     * @param seat      the player's 0-based turn order
+     * @param place     the player's finishing place, or 0 if they did not finish
+     * @param turns     the number of turns the player took
+     * @param snakes    the number of snakes the player hit
+     * @param ladders   the number of ladders the player climbed
+     * @param name      the player's name
+     */
+    public record GameRecord(long gameId, long timestamp, Variant variant, int seat, int place,
+            int turns, int snakes, int ladders, String name) {
+    }
+
+    /**
+     * Aggregated statistics over a set of game records.
+     *
+     * @param games        the number of games played
+     * @param wins         the number of games won
+     * @param winningTurns the total number of turns taken in won games
+     * @param snakes       the total number of snakes hit
+     * @param ladders      the total number of ladders climbed
+     */
+    public record Rollup(int games, int wins, long winningTurns, long snakes, long ladders) {
+
+        /**
+         * Statistics of a player with no recorded games.
+         */
+        public static final Rollup EMPTY = new Rollup(0, 0, 0, 0, 0);
+
+        /**
+         * Returns these statistics with one more game record added.
+         *
+         * @param record the record to add.
+         * @return the combined statistics.
+         */
+        public Rollup plus(GameRecord record) {
+            boolean won = record.place() == 1;
+            return new Rollup(games + 1, won ? wins + 1 : wins,
+                    won ? winningTurns + record.turns() : winningTurns,
+                    snakes + record.snakes(), ladders + record.ladders());
+        }
+
+        /**
+         * Returns the average number of turns taken in won games.
+         *
+         * @return the average turns to finish, or 0 if no games were won.
+         */
+        public double averageTurnsToWin() {
+            return wins == 0 ? 0 : (double) winningTurns / wins;
+        }
+
+        /**
+         * Returns a short human-readable description of these statistics.
+         *
+         * @return the description.
+         */
+        public String summary() {
+            if (games == 0) {
+                return "No games played";
+            }
+            return String.format("%d/%d wins, %.1f turns to win, %d snakes, %d ladders",
+                    wins, games, averageTurnsToWin(), snakes, ladders);
+        }
+    }
+
+    private record Key(String name, Variant variant) {
+    }
+
+    /**
+     * Opens the match history stored in the given file, creating it if needed.
+     * The rollup snapshot is kept in {@code <file>.rollups}.
+     *
+     * @param historyFile the history file.
+     * @throws IOException if the history cannot be opened or read.
+     */
+    public MatchHistory(File historyFile) throws IOException {
+        Path historyPath = historyFile.toPath().toAbsolutePath();
+        this.snapshotPath = Path.of(historyPath + ".rollups");
+        this.history = FileChannel.open(historyPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        loadSnapshot();
+        refresh();
+    }
+
+    /**
+     * Returns the shared match history, opening it on first use.
+     *
+     * @return the shared {@code MatchHistory}.
+     */
+    public static synchronized MatchHistory instance() {
+        if (instance == null) {
+            try {
+                instance = new MatchHistory(new File(PATH));
+            } catch (IOException e) {
+                ErrorDialog.showAndExit(
+                        "File Reading Error",
+                        "Could not read the match history file.",
+                        e.getMessage()
+                );
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Appends the records of one finished game and updates the rollups.
+     *
+     * @param records the records of every player in the game.
+     * @throws IllegalArgumentException if there is an issue writing the history file.
+     */
+    public synchronized void recordGame(List<GameRecord> records) {
+        try (FileLock lock = history.lock()) {
+            catchUp();
+
+            ByteBuffer buffer = ByteBuffer.allocate(records.stream().mapToInt(MatchHistory::encodedSize).sum());
+            records.forEach(record -> encode(record, buffer));
+            buffer.flip();
+
+            long position = history.size();
+            while (buffer.hasRemaining()) {
+                position += history.write(buffer, position);
+            }
+            history.force(false);
+            offset = position;
+
+            records.forEach(this::apply);
+            recordsSinceSnapshot += records.size();
+            if (recordsSinceSnapshot >= SNAPSHOT_INTERVAL) {
+                saveSnapshot();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to write match history: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Picks up games recorded by other running instances of the application.
+     * Only records written since the last refresh are read.
+     */
+    public synchronized void refresh() {
+        try (FileLock lock = history.lock(0, Long.MAX_VALUE, true)) {
+            catchUp();
+        } catch (IOException e) {
+            // Keep the last known statistics; they are refreshed again on next use
+        }
+    }
+
+    /**
+     * Returns a player's statistics over all boards.
+     *
+     * @param name the player's name.
+     * @return the player's statistics.
+     */
+    public synchronized Rollup getRollup(String name) {
+        return totals.getOrDefault(name, Rollup.EMPTY);
+    }
+
+    /**
+     * Returns a player's statistics on one board.
+     *
+     * @param name    the player's name.
+     * @param variant the board.
+     * @return the player's statistics on that board.
+     */
+    public synchronized Rollup getRollup(String name, Variant variant) {
+        return rollups.getOrDefault(new Key(name, variant), Rollup.EMPTY);
+    }
+
+    /**
+     * Reads every record in the history, oldest first. Records of the same
+     * game are always adjacent.
+     *
+     * @param consumer receives each record.
+     * @throws IOException if the history cannot be read.
+     */
+    public synchronized void forEachRecord(Consumer<GameRecord> consumer) throws IOException {
+        try (FileLock lock = history.lock(0, Long.MAX_VALUE, true)) {
+            scan(0, history.size(), consumer);
+        }
+    }
+
+    /**
+     * Applies records written since {@link #offset}. Must be called while
+     * holding a lock on the history file.
+     */
+    private void catchUp() throws IOException {
+        long end = history.size();
+        if (end > offset) {
+            offset = scan(offset, end, record -> {
+                apply(record);
+                recordsSinceSnapshot++;
+            });
+        }
+    }
+
+    /**
+     * Decodes the complete records between two positions.
+     *
+     * @return the position after the last complete record.
+     */
+    private long scan(long from, long to, Consumer<GameRecord> consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK);
+        long position = from;
+        long consumed = from;
+
+        while (position < to) {
+            buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + (to - position)));
+            int read = history.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+            buffer.flip();
+
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt(buffer.position());
+                if (buffer.remaining() < Integer.BYTES + length) {
+                    break;
+                }
+                buffer.getInt();
+                consumer.accept(decode(buffer));
+                consumed += Integer.BYTES + length;
+            }
+
+            buffer.compact();
+            if (buffer.position() == buffer.capacity()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+            }
+        }
+        return consumed;
+    }
+
+    private void apply(GameRecord record) {
+        rollups.merge(new Key(record.name(), record.variant()), Rollup.EMPTY.plus(record), (old, added) -> old.plus(record));
+        totals.merge(record.name(), Rollup.EMPTY.plus(record), (old, added) -> old.plus(record));
+    }
+
+    private static int encodedSize(GameRecord record) {
+        return Integer.BYTES + 2 * Long.BYTES + 1 + 6 * Integer.BYTES + Short.BYTES
+                + record.name().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void encode(GameRecord record, ByteBuffer buffer) {
+        byte[] name = record.name().getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(encodedSize(record) - Integer.BYTES)
+                .putLong(record.gameId())
+                .putLong(record.timestamp())
+                .put((byte) record.variant().gameType().ordinal())
+                .putInt(record.variant().board())
+                .putInt(record.seat())
+                .putInt(record.place())
+                .putInt(record.turns())
+                .putInt(record.snakes())
+                .putInt(record.ladders())
+                .putShort((short) name.length)
+                .put(name);
+    }
+
+    private static GameRecord decode(ByteBuffer buffer) {
+        long gameId = buffer.getLong();
+        long timestamp = buffer.getLong();
+        Variant variant = new Variant(GameType.values()[buffer.get()], buffer.getInt());
+        int seat = buffer.getInt();
+        int place = buffer.getInt();
+        int turns = buffer.getInt();
+        int snakes = buffer.getInt();
+        int ladders = buffer.getInt();
+        byte[] name = new byte[buffer.getShort()];
+        buffer.get(name);
+        return new GameRecord(gameId, timestamp, variant, seat, place, turns, snakes, ladders,
+                new String(name, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Loads the saved rollups, if a snapshot exists and still matches the
+     * history. Otherwise the rollups are rebuilt from the whole history.
+     */
+    private void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(snapshotPath))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                return;
+            }
+            long snapshotOffset = in.readLong();
+            if (snapshotOffset > history.size()) {
+                return;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                Variant variant = new Variant(GameType.values()[in.readByte()], in.readInt());
+                Rollup rollup = new Rollup(in.readInt(), in.readInt(), in.readLong(), in.readLong(), in.readLong());
+                rollups.put(new Key(name, variant), rollup);
+                totals.merge(name, rollup, (a, b) -> new Rollup(a.games() + b.games(), a.wins() + b.wins(),
+                        a.winningTurns() + b.winningTurns(), a.snakes() + b.snakes(), a.ladders() + b.ladders()));
+            }
+            offset = snapshotOffset;
+        } catch (IOException | RuntimeException e) {
+            rollups.clear();
+            totals.clear();
+            offset = 0;
+        }
+    }
+
+    /**
+     * Writes the rollups and the history position they cover to the
+     * snapshot file. Must be called while holding a lock on the history file.
+     */
+    private void saveSnapshot() throws IOException {
+        Path temp = Files.createTempFile(snapshotPath.getParent(), "rollups", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(offset);
+            out.writeInt(rollups.size());
+            for (Map.Entry<Key, Rollup> entry : rollups.entrySet()) {
+                Rollup rollup = entry.getValue();
+                out.writeUTF(entry.getKey().name());
+                out.writeByte(entry.getKey().variant().gameType().ordinal());
+                out.writeInt(entry.getKey().variant().board());
+                out.writeInt(rollup.games());
+                out.writeInt(rollup.wins());
+                out.writeLong(rollup.winningTurns());
+                out.writeLong(rollup.snakes());
+                out.writeLong(rollup.ladders());
+            }
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordsSinceSnapshot = 0;
+    }
+}
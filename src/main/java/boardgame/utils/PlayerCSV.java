@@ -1,17 +1,14 @@
 package boardgame.utils;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
-
+import boardgame.utils.JFR.ProfileFileEvent;
+import javafx.application.Platform;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
@@ -24,6 +21,10 @@ import javafx.stage.Stage;
  * <p>
  * Each row in the CSV file represents a player and contains: [player name, icon
  * path, win count]
+ * <p>
+ * All reads and writes go through a {@link ProfileStore}, which keeps an
+ * in-memory copy of the file and coordinates with other running instances
+ * through file locks, so that concurrent saves are never lost.
  *
  *  
  * @author Bjørn Adam Vangen
@@ -34,7 +35,8 @@ public class PlayerCSV {
     private static final File DEFAULT_FILE = new File(PATH);
     private static File currentFile = DEFAULT_FILE;
     private static PlayerCSV instance = null;
-    private static final List<String> ALLOWED_COLORS = Arrays.asList("Red", "White", "Orange", "Purple", "Lime", "Yellow");
+    private static final List<String> ALLOWED_COLORS = List.of("Red", "White", "Orange", "Purple", "Lime", "Yellow");
+    private static final int WIN_COUNT_COLUMN = 2;
 
 
     private PlayerCSV() {
@@ -54,6 +56,15 @@ public class PlayerCSV {
         return instance;
     }
 
+    /**
+     * Returns the names of the player icons a profile can use.
+     *
+     * @return the icon names, e.g. {@code Red}.
+     */
+    public static List<String> getIconNames() {
+        return ALLOWED_COLORS;
+    }
+
     /**
      * Sets the file that PlayerCSV will operate on. This is useful for imports.
      *
@@ -88,6 +99,8 @@ public class PlayerCSV {
         File selectedFile = fileChooser.showOpenDialog(primaryStage);
         if (selectedFile != null) {
             setCurrentFile(selectedFile);
+            Leaderboard.invalidate();
+            ProfileIndex.invalidate();
             return true;
         }
         return false;
@@ -96,36 +109,18 @@ public class PlayerCSV {
     /**
      * Reads and returns the contents of the currently active CSV file as a list
      * of string arrays. Each inner array represents a row of player data.
+     * Changes saved by other running instances are picked up first.
      *
      * @return a list of all player data rows from the CSV file.
      * @throws IllegalArgumentException if there is an issue reading the CSV file.
      */
     public static ArrayList<String[]> getCSVContent() {
-        ArrayList<String[]> allPlayers = new ArrayList<>();
-        File fileToRead = getCurrentFile();
-        try (CSVReader reader = new CSVReader(new FileReader(fileToRead))) {
-            String[] row;
-            while ((row = reader.readNext()) != null) {
-                if (row.length > 1) {
-                    String iconColor = row[1].trim();
-                    if (!ALLOWED_COLORS.stream().anyMatch(color -> color.equalsIgnoreCase(iconColor))) {
-                        ErrorDialog.showAndExit(
-                                "Invalid Player Data",
-                                "Invalid color found in player profile.",
-                                String.format("Color '%s' not supported. Please remove it.", iconColor)
-                        );
-                        return new ArrayList<>(); // Return empty list to indicate failure
-                    }
-                } else if (row.length < 3) {
-                    ErrorDialog.showAndExit(
-                            "Invalid Player Data",
-                            "Incorrect number of columns in player profile.",
-                            "Each row must contain at least 'name, color, win_count'."
-                    );
-                    return new ArrayList<>();
-                }
-                allPlayers.add(row);
-            }
+        ArrayList<String[]> allPlayers;
+        ProfileFileEvent event = new ProfileFileEvent();
+        event.begin();
+        try {
+            allPlayers = currentStore().snapshot();
+            commitFileEvent(event, "read", allPlayers.size());
         } catch (IOException e) {
             ErrorDialog.showAndExit(
                     "File Reading Error",
@@ -134,28 +129,140 @@ public class PlayerCSV {
             );
             return new ArrayList<>(); // Return empty list on read failure
         }
+
+        for (String[] row : allPlayers) {
+            if (row.length > 1) {
+                String iconColor = row[1].trim();
+                if (!ALLOWED_COLORS.stream().anyMatch(color -> color.equalsIgnoreCase(iconColor))) {
+                    ErrorDialog.showAndExit(
+                            "Invalid Player Data",
+                            "Invalid color found in player profile.",
+                            String.format("Color '%s' not supported. Please remove it.", iconColor)
+                    );
+                    return new ArrayList<>(); // Return empty list to indicate failure
+                }
+            } else if (row.length < 3) {
+                ErrorDialog.showAndExit(
+                        "Invalid Player Data",
+                        "Incorrect number of columns in player profile.",
+                        "Each row must contain at least 'name, color, win_count'."
+                );
+                return new ArrayList<>();
+            }
+        }
         return allPlayers;
     }
 
+    /**
+     * Picks up profile changes saved by other running instances of the
+     * application. Only rows written since the last refresh are read, and the
+     * leaderboard and profile index are updated with them.
+     */
+    public static void refresh() {
+        ProfileFileEvent event = new ProfileFileEvent();
+        event.begin();
+        try {
+            boolean changed = currentStore().refresh();
+            commitFileEvent(event, "refresh", 0);
+            if (changed) {
+                Leaderboard.invalidate();
+                ProfileIndex.invalidate();
+            }
+        } catch (IOException e) {
+            // Keep showing the last known profiles; the next read reports the error
+        }
+    }
+
+    /**
+     * Ends and commits a Flight Recorder event for an access to the current
+     * profile file, if the event is being recorded.
+     *
+     * @param event     the started event.
+     * @param operation the kind of access.
+     * @param rows      the number of rows read or written.
+     */
+    private static void commitFileEvent(ProfileFileEvent event, String operation, int rows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.path = getCurrentFile().getPath();
+            event.rows = rows;
+            event.fileBytes = getCurrentFile().length();
+            event.commit();
+        }
+    }
 
     /**
-     * Rewrites the currently active CSV file with the provided list of player data.
+     * Returns the profile store for the currently active CSV file.
      *
-     * @param allPlayers the updated list of all player rows to write to the file.
-     * @throws IllegalArgumentException if there is an issue writing to the CSV file.
+     * @return the current profile store.
+     * @throws IOException if the store cannot be opened.
      */
-    private static void rewriteFile(ArrayList<String[]> allPlayers) {
-        File fileToWrite = getCurrentFile();
-        try (CSVWriter writer = new CSVWriter(new FileWriter(fileToWrite, false))) { // Overwrite the file
-            writer.writeAll(allPlayers);
+    private static ProfileStore currentStore() throws IOException {
+        ProfileStore store = ProfileStore.forFile(getCurrentFile());
+        store.setChangeListener(PlayerCSV::applyRemoteChange);
+        return store;
+    }
+
+    /**
+     * Updates the leaderboard and profile index with a row saved by another
+     * instance.
+     *
+     * @param row the changed profile row.
+     */
+    private static void applyRemoteChange(String[] row) {
+        if (row.length > 1) {
+            Leaderboard.updateIfLoaded(row[0], parseWinCount(row));
+            ProfileIndex.updateIfLoaded(row[0], row[1].trim());
+        }
+    }
+
+    /**
+     * Atomically changes the row of a single player in the currently active
+     * profile file.
+     *
+     * @param name   the name of the player.
+     * @param change computes the new row from the current one ({@code null}
+     *               if the player has no profile); returning {@code null}
+     *               saves nothing.
+     * @return the saved row, or {@code null} if nothing was saved. Failed
+     *         writes, e.g. to a read-only profile file, are reported to the
+     *         user and also return {@code null}.
+     */
+    private static String[] updateRow(String name, UnaryOperator<String[]> change) {
+        ProfileFileEvent event = new ProfileFileEvent();
+        event.begin();
+        try {
+            String[] row = currentStore().update(name, change);
+            commitFileEvent(event, "write", row != null ? 1 : 0);
+            return row;
         } catch (IOException e) {
-            throw new IllegalArgumentException("Failed to write to CSV player file: " + fileToWrite.getAbsolutePath(), e);
+            reportWriteFailure(e);
+            return null;
         }
     }
 
+    /**
+     * Tells the user that a profile change could not be saved. The dialog is
+     * shown after the current event has been handled, since saves can happen
+     * while an animation is running, where dialogs cannot be shown directly.
+     *
+     * @param e the error that stopped the save.
+     */
+    private static void reportWriteFailure(IOException e) {
+        String path = getCurrentFile().getAbsolutePath();
+        Platform.runLater(() -> ErrorDialog.showInfo(
+                "Profile Not Saved",
+                "Could not save to the player profiles file.",
+                "Changes to player profiles are not saved while the file cannot be written.\n"
+                        + path + "\n" + e.getMessage()
+        ));
+    }
+
     /**
      * Registers a new player with the given name and icon. If a player with the
-     * same name already exists, their icon will be updated instead.
+     * same name already exists, their icon will be updated instead. If the
+     * profile file cannot be written, the user is told and nothing is saved.
      *
      * @param name the name of the player to register.
      * @param icon the icon path for the player.
@@ -166,23 +273,71 @@ public class PlayerCSV {
             throw new IllegalArgumentException("Player name cannot be empty.");
         }
 
-        ArrayList<String[]> allPlayers = getCSVContent();
-        Iterator<String[]> iterator = allPlayers.iterator();
-        boolean found = false;
+        boolean[] found = {false};
+        String[] saved = updateRow(name, row -> {
+            if (row == null) {
+                return new String[]{name, icon, "0"}; // Initialize win count to 0
+            }
+            found[0] = true;
+            row[1] = icon; // Update the icon
+            return row;
+        });
+
+        if (saved == null) {
+            return;
+        }
+        ProfileIndex.instance().put(name, icon);
+        if (!found[0]) {
+            Leaderboard.instance().put(name, 0);
+        }
+    }
 
-        while (iterator.hasNext()) {
-            String[] row = iterator.next();
-            if (row[0].equals(name)) {
-                found = true;
-                row[1] = icon; // Update the icon
-                break;
+    /**
+     * Adds a win to the player with the specified name and updates the
+     * leaderboard. Rows written before the win count column existed are
+     * padded with it. Names without a saved profile are ignored.
+     *
+     * @param name the name of the winning player.
+     * @return the player's new win count, or -1 if no profile has that name
+     *         or the win could not be saved.
+     */
+    public int recordWin(String name) {
+        String[] saved = updateRow(name, row -> {
+            if (row == null) {
+                return null;
             }
+            int wins = parseWinCount(row) + 1;
+            if (row.length <= WIN_COUNT_COLUMN) {
+                row = Arrays.copyOf(row, WIN_COUNT_COLUMN + 1);
+            }
+            row[WIN_COUNT_COLUMN] = Integer.toString(wins);
+            return row;
+        });
+
+        if (saved == null) {
+            return -1;
         }
+        int wins = parseWinCount(saved);
+        Leaderboard.instance().put(name, wins);
+        return wins;
+    }
 
-        if (!found) {
-            allPlayers.add(new String[]{name, icon, "0"}); // Initialize win count to 0
+    /**
+     * Returns the win count stored in a profile row. Missing or malformed
+     * values count as zero wins.
+     *
+     * @param row a row as returned by {@link #getCSVContent()}.
+     * @return the row's win count.
+     */
+    public static int parseWinCount(String[] row) {
+        if (row.length <= WIN_COUNT_COLUMN) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(row[WIN_COUNT_COLUMN].trim());
+        } catch (NumberFormatException e) {
+            return 0;
         }
-        rewriteFile(allPlayers);
     }
 
     /**
@@ -192,12 +347,16 @@ public class PlayerCSV {
      * @param icon the new icon path to assign to the player.
      */
     public static void changeIcon(String name, String icon) {
-        ArrayList<String[]> allPlayers = getCSVContent();
-        allPlayers.stream()
-            .filter(row -> row[0].equals(name))
-            .findFirst()
-            .ifPresent(row -> row[1] = icon);
-        rewriteFile(allPlayers);
+        String[] saved = updateRow(name, row -> {
+            if (row != null) {
+                row[1] = icon;
+            }
+            return row;
+        });
+
+        if (saved != null) {
+            ProfileIndex.instance().put(name, icon);
+        }
     }
 
     /**
@@ -0,0 +1,201 @@
+package boardgame.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A case-insensitive prefix index over player profile names, used for
+ * type-ahead suggestions when creating players.
+ * <p>
+ * Names are kept in a sorted array. A prefix query binary-searches for the
+ * first candidate and then reads forward until the prefix stops matching or
+ * the result limit is reached, so the cost depends on the limit rather than
+ * on the number of stored profiles.
+ * <p>
+ * The shared instance is built once from {@link PlayerCSV} and updated by it
+ * when profiles are saved.
+ */
+public class ProfileIndex {
+
+    private static ProfileIndex instance = null;
+
+    private String[] keys;
+    private String[] names;
+    private String[] icons;
+    private int size;
+
+    /**
+     * A profile matching a prefix query.
+     *
+     * @param name the profile name
+     * @param icon the profile's icon name
+     */
+    public record Match(String name, String icon) {
+    }
+
+    /**
+     * Constructs an index over the given profile rows. Each row must contain
+     * at least a name and an icon; if a name appears more than once, the first
+     * row wins.
+     *
+     * @param rows the profile rows, as returned by {@link PlayerCSV#getCSVContent()}.
+     */
+    public ProfileIndex(List<String[]> rows) {
+        Set<String> seen = new HashSet<>();
+        List<Match> profiles = new ArrayList<>(rows.size());
+        rows.forEach(row -> {
+            if (row.length > 1 && seen.add(row[0])) {
+                profiles.add(new Match(row[0], row[1].trim()));
+            }
+        });
+        profiles.sort(Comparator.comparing((Match m) -> key(m.name())).thenComparing(Match::name));
+
+        this.size = profiles.size();
+        this.keys = new String[Math.max(16, size)];
+        this.names = new String[keys.length];
+        this.icons = new String[keys.length];
+        for (int i = 0; i < size; i++) {
+            Match profile = profiles.get(i);
+            keys[i] = key(profile.name());
+            names[i] = profile.name();
+            icons[i] = profile.icon();
+        }
+    }
+
+    /**
+     * Returns the shared index, building it from the current profile file on
+     * first use.
+     *
+     * @return the shared {@code ProfileIndex}.
+     */
+    public static ProfileIndex instance() {
+        synchronized (ProfileIndex.class) {
+            if (instance != null) {
+                return instance;
+            }
+        }
+
+        // Read outside the lock: the profile store calls back into updateIfLoaded
+        List<String[]> rows = PlayerCSV.getCSVContent();
+        synchronized (ProfileIndex.class) {
+            if (instance == null) {
+                instance = new ProfileIndex(rows);
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Drops the shared index so that it is rebuilt from the profile file on
+     * next use, for example after importing a different file.
+     */
+    public static synchronized void invalidate() {
+        instance = null;
+    }
+
+    /**
+     * Applies a profile saved elsewhere to the shared index, if it has been
+     * built. An unbuilt index will read the change when it is built.
+     *
+     * @param name the profile name.
+     * @param icon the profile's icon name.
+     */
+    public static synchronized void updateIfLoaded(String name, String icon) {
+        if (instance != null) {
+            instance.put(name, icon);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} profiles whose names start with the given
+     * prefix, ignoring case, in alphabetical order. An empty prefix matches
+     * every profile.
+     *
+     * @param prefix the typed prefix.
+     * @param limit  the maximum number of matches to return.
+     * @return the matching profiles.
+     */
+    public synchronized List<Match> search(String prefix, int limit) {
+        String keyPrefix = key(prefix == null ? "" : prefix.trim());
+        List<Match> matches = new ArrayList<>(Math.min(limit, size));
+
+        for (int i = lowerBound(keyPrefix); i < size && matches.size() < limit; i++) {
+            if (!keys[i].startsWith(keyPrefix)) {
+                break;
+            }
+            matches.add(new Match(names[i], icons[i]));
+        }
+        return matches;
+    }
+
+    /**
+     * Adds a profile to the index, or updates its icon if it already exists.
+     *
+     * @param name the profile name.
+     * @param icon the profile's icon name.
+     */
+    public synchronized void put(String name, String icon) {
+        String key = key(name);
+        int position = lowerBound(key);
+        while (position < size && keys[position].equals(key)) {
+            int order = names[position].compareTo(name);
+            if (order == 0) {
+                icons[position] = icon;
+                return;
+            }
+            if (order > 0) {
+                break;
+            }
+            position++;
+        }
+
+        if (size == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            names = Arrays.copyOf(names, capacity);
+            icons = Arrays.copyOf(icons, capacity);
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(names, position, names, position + 1, size - position);
+        System.arraycopy(icons, position, icons, position + 1, size - position);
+        keys[position] = key;
+        names[position] = name;
+        icons[position] = icon;
+        size++;
+    }
+
+    /**
+     * Returns the number of indexed profiles.
+     *
+     * @return the profile count.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first position whose key is not smaller than {@code key}.
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
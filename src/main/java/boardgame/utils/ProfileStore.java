@@ -0,0 +1,391 @@
+package boardgame.utils;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+
+import boardgame.utils.JMX.GameMetrics;
+
+/**
+ * An in-memory copy of a player profile CSV file that can be shared safely by
+ * several running instances of the application.
+ * <p>
+ * Changes are not written by rewriting the CSV file. Each change is appended
+ * as one row to a journal file next to it ({@code <file>.journal}), while
+ * holding an exclusive {@link FileLock} on that journal. The journal starts
+ * with a generation number, and together with the journal length this forms
+ * the store's version stamp:
+ * <ul>
+ * <li>if the length grew, other instances only read and apply the new rows;</li>
+ * <li>if the generation changed, the journal was compacted into the CSV file
+ * and other instances reload everything.</li>
+ * </ul>
+ * Saving therefore holds the lock only long enough to append one line, and
+ * the CSV file is rewritten only when the journal is compacted: once it
+ * grows past 64 KB, and when the store is
+ * {@linkplain #close() closed} on shutdown. While instances are running, the
+ * CSV file together with its journal is the source of truth, not the CSV file
+ * alone.
+ * <p>
+ * If the journal cannot be created, for example because the CSV file was
+ * imported from a read-only location, the store opens read-only: it reads the
+ * CSV file (and an existing journal) but refuses to save.
+ * <p>
+ * File locks are held per process, so each file has exactly one store per
+ * process, obtained through {@link #forFile(File)}.
+ */
+public class ProfileStore {
+
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final long COMPACTION_THRESHOLD = 64 * 1024;
+    private static final Map<Path, ProfileStore> stores = new HashMap<>();
+
+    private final Path csvPath;
+    private final FileChannel journal;
+    private final boolean readOnly;
+    private final LinkedHashMap<String, String[]> rows = new LinkedHashMap<>();
+    private Consumer<String[]> changeListener = row -> { };
+    private long generation = -1;
+    private long offset = HEADER_SIZE;
+
+    /**
+     * Opens a store over the given CSV file, creating its journal if needed.
+     * If the CSV file or its journal cannot be written, the store is opened
+     * read-only. Prefer {@link #forFile(File)}, which returns one shared store
+     * per file.
+     *
+     * @param csvFile the profile CSV file.
+     * @throws IOException if an existing journal cannot be read.
+     */
+    public ProfileStore(File csvFile) throws IOException {
+        this.csvPath = csvFile.toPath().toAbsolutePath();
+        Path journalPath = Path.of(csvPath + ".journal");
+
+        FileChannel writableJournal = null;
+        if (!Files.exists(csvPath) || Files.isWritable(csvPath)) {
+            try {
+                writableJournal = FileChannel.open(journalPath,
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                writableJournal = null;
+            }
+        }
+
+        if (writableJournal != null) {
+            this.journal = writableJournal;
+            this.readOnly = false;
+            try (FileLock lock = journal.lock()) {
+                if (journal.size() < HEADER_SIZE) {
+                    writeGeneration(0);
+                }
+            }
+        } else {
+            this.journal = Files.isRegularFile(journalPath)
+                    ? FileChannel.open(journalPath, StandardOpenOption.READ)
+                    : null;
+            this.readOnly = true;
+        }
+    }
+
+    /**
+     * Returns the shared store for the given CSV file, opening it on first use.
+     *
+     * @param csvFile the profile CSV file.
+     * @return the store for that file.
+     * @throws IOException if the store cannot be opened.
+     */
+    public static synchronized ProfileStore forFile(File csvFile) throws IOException {
+        Path path = csvFile.toPath().toAbsolutePath();
+        ProfileStore store = stores.get(path);
+        if (store == null) {
+            store = new ProfileStore(csvFile);
+            stores.put(path, store);
+        }
+        return store;
+    }
+
+    /**
+     * Sets the callback invoked for each row changed by another instance and
+     * picked up during an incremental refresh. It is not called for full
+     * reloads or for changes made through this store.
+     *
+     * @param changeListener the callback receiving each changed row.
+     */
+    public synchronized void setChangeListener(Consumer<String[]> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Brings the in-memory copy up to date with changes made by other
+     * instances.
+     *
+     * @return true if a full reload was needed.
+     * @throws IOException if the files cannot be read.
+     */
+    public synchronized boolean refresh() throws IOException {
+        if (journal == null) {
+            return catchUp();
+        }
+        try (FileLock lock = journal.lock(0, Long.MAX_VALUE, true)) {
+            return catchUp();
+        }
+    }
+
+    /**
+     * Refreshes the store and returns a copy of all rows, in file order.
+     *
+     * @return a copy of every profile row.
+     * @throws IOException if the files cannot be read.
+     */
+    public synchronized ArrayList<String[]> snapshot() throws IOException {
+        refresh();
+        ArrayList<String[]> copy = new ArrayList<>(rows.size());
+        rows.values().forEach(row -> copy.add(row.clone()));
+        return copy;
+    }
+
+    /**
+     * Atomically reads, changes and saves one row. The change is computed
+     * from the latest row across all instances, so concurrent saves are never
+     * lost.
+     *
+     * @param name   the profile name.
+     * @param change computes the new row from the current one (which is
+     *               {@code null} if the profile does not exist). Returning
+     *               {@code null} leaves the store unchanged.
+     * @return the saved row, or {@code null} if nothing was saved.
+     * @throws IOException if the files cannot be read or written, or the
+     *                     store is read-only.
+     */
+    public synchronized String[] update(String name, UnaryOperator<String[]> change) throws IOException {
+        if (readOnly) {
+            throw new IOException(csvPath + " is read-only");
+        }
+        try (FileLock lock = journal.lock()) {
+            catchUp();
+
+            String[] current = rows.get(name);
+            String[] updated = change.apply(current == null ? null : current.clone());
+            if (updated == null) {
+                return null;
+            }
+
+            appendToJournal(updated);
+            rows.put(name, updated.clone());
+
+            if (journal.size() > COMPACTION_THRESHOLD) {
+                compact();
+            }
+            return updated;
+        }
+    }
+
+    /**
+     * Returns whether the store could not create a journal and refuses saves.
+     *
+     * @return true if the store is read-only.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Compacts the journal into the CSV file, so that the CSV file alone is
+     * up to date, and closes the store. Other running instances reload the
+     * compacted file on their next refresh.
+     *
+     * @throws IOException if the files cannot be written.
+     */
+    public synchronized void close() throws IOException {
+        synchronized (ProfileStore.class) {
+            stores.remove(csvPath, this);
+        }
+        if (journal == null || !journal.isOpen()) {
+            return;
+        }
+        try {
+            if (!readOnly) {
+                try (FileLock lock = journal.lock()) {
+                    catchUp();
+                    if (journal.size() > HEADER_SIZE) {
+                        compact();
+                    }
+                }
+            }
+        } finally {
+            journal.close();
+        }
+    }
+
+    /**
+     * Closes every store opened through {@link #forFile(File)}. Called when
+     * the application exits.
+     */
+    public static void closeAll() {
+        List<ProfileStore> open;
+        synchronized (ProfileStore.class) {
+            open = new ArrayList<>(stores.values());
+        }
+        for (ProfileStore store : open) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                // The journal is kept and compacted by the next instance
+            }
+        }
+    }
+
+    /**
+     * Returns the store's version stamp: the journal generation in the high
+     * bits and the number of journal bytes read in the low bits.
+     *
+     * @return the current version stamp.
+     */
+    public synchronized long getVersion() {
+        return (generation << 40) | offset;
+    }
+
+    /**
+     * Applies journal rows written since the last refresh. Must be called
+     * while holding a lock on the journal.
+     */
+    private boolean catchUp() throws IOException {
+        long currentGeneration = readGeneration();
+        if (currentGeneration != generation) {
+            GameMetrics.instance().profileCacheMiss();
+            reloadAll(currentGeneration);
+            return true;
+        }
+
+        long end = journalSize();
+        if (end <= offset) {
+            GameMetrics.instance().profileCacheHit();
+        } else {
+            GameMetrics.instance().profileCacheMiss();
+            readJournal(offset, end).forEach(row -> {
+                rows.put(row[0], row);
+                changeListener.accept(row.clone());
+            });
+            offset = end;
+        }
+        return false;
+    }
+
+    private void reloadAll(long currentGeneration) throws IOException {
+        rows.clear();
+        if (Files.exists(csvPath)) {
+            try (CSVReader reader = new CSVReader(new FileReader(csvPath.toFile(), StandardCharsets.UTF_8))) {
+                String[] row;
+                while ((row = reader.readNext()) != null) {
+                    rows.putIfAbsent(row[0], row);
+                }
+            }
+        }
+
+        long end = journalSize();
+        readJournal(HEADER_SIZE, end).forEach(row -> rows.put(row[0], row));
+        generation = currentGeneration;
+        offset = end;
+    }
+
+    private long journalSize() throws IOException {
+        return journal == null ? HEADER_SIZE : journal.size();
+    }
+
+    private ArrayList<String[]> readJournal(long from, long to) throws IOException {
+        if (to <= from) {
+            return new ArrayList<>();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining()) {
+            if (journal.read(buffer, from + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        ArrayList<String[]> entries = new ArrayList<>();
+        String text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        try (CSVReader reader = new CSVReader(new StringReader(text))) {
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                entries.add(row);
+            }
+        }
+        return entries;
+    }
+
+    private void appendToJournal(String[] row) throws IOException {
+        StringWriter line = new StringWriter();
+        try (CSVWriter writer = new CSVWriter(line)) {
+            writer.writeNext(row);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(line.toString().getBytes(StandardCharsets.UTF_8));
+        long position = journal.size();
+        while (buffer.hasRemaining()) {
+            position += journal.write(buffer, position);
+        }
+        journal.force(false);
+        offset = position;
+    }
+
+    /**
+     * Writes all rows back to the CSV file and empties the journal under a new
+     * generation. Must be called while holding the exclusive journal lock.
+     */
+    private void compact() throws IOException {
+        Path temp = Files.createTempFile(csvPath.getParent(), "profiles", ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8);
+             CSVWriter writer = new CSVWriter(out)) {
+            rows.values().forEach(writer::writeNext);
+        }
+        Files.move(temp, csvPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        journal.truncate(HEADER_SIZE);
+        writeGeneration(generation + 1);
+        generation++;
+        offset = HEADER_SIZE;
+    }
+
+    private long readGeneration() throws IOException {
+        if (journal == null) {
+            return 0;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (journal.read(header, header.position()) < 0) {
+                return 0;
+            }
+        }
+        return header.flip().getLong();
+    }
+
+    private void writeGeneration(long newGeneration) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putLong(newGeneration).flip();
+        while (header.hasRemaining()) {
+            journal.write(header, header.position());
+        }
+        journal.force(false);
+    }
+}
@@ -0,0 +1,256 @@
+package boardgame.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes Elo-style player ratings from the {@link MatchHistory}.
+ * <p>
+ * A game with several players is scored as a set of pairwise results: a
+ * player beats everyone with a worse finishing place and draws with everyone
+ * sharing their place (players who did not finish share the last place). The
+ * rating change of each pair is scaled by {@code 1 / (players - 1)}, so a
+ * game moves a rating about as much as a single two-player game would.
+ * <p>
+ * Elo depends on the order of games, but only among players who are
+ * connected through shared games. A full recompute therefore splits the
+ * history into groups of connected players, and replays each group's games
+ * in order on its own thread. After that, each finished game updates only
+ * the ratings of the players in it.
+ */
+public class RatingEngine {
+
+    /**
+     * The rating of a player with no games.
+     */
+    public static final double DEFAULT_INITIAL_RATING = 1500;
+
+    /**
+     * The largest rating change a two-player game can cause.
+     */
+    public static final double DEFAULT_K_FACTOR = 32;
+
+    private static RatingEngine instance = null;
+
+    private final double initialRating;
+    private final double kFactor;
+    private final Map<String, Integer> ids;
+    private double[] ratings;
+
+    private RatingEngine(double initialRating, double kFactor, Map<String, Integer> ids, double[] ratings) {
+        this.initialRating = initialRating;
+        this.kFactor = kFactor;
+        this.ids = ids;
+        this.ratings = ratings;
+    }
+
+    /**
+     * Returns the shared rating engine, computing it from the whole match
+     * history with the default settings on first use.
+     *
+     * @return the shared {@code RatingEngine}.
+     */
+    public static synchronized RatingEngine instance() {
+        if (instance == null) {
+            try {
+                instance = compute(readGames(MatchHistory.instance()), DEFAULT_INITIAL_RATING, DEFAULT_K_FACTOR);
+            } catch (IOException e) {
+                ErrorDialog.showAndExit(
+                        "File Reading Error",
+                        "Could not read the match history file.",
+                        e.getMessage()
+                );
+                instance = compute(List.of(), DEFAULT_INITIAL_RATING, DEFAULT_K_FACTOR);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Applies a finished game to the shared rating engine, if it has been
+     * computed. An engine that is not computed yet reads the game from the
+     * history when it is.
+     *
+     * @param game the records of every player in the game.
+     */
+    public static synchronized void updateIfLoaded(List<MatchHistory.GameRecord> game) {
+        if (instance != null) {
+            instance.update(game);
+        }
+    }
+
+    /**
+     * Groups the records of a match history into games, oldest first.
+     *
+     * @param history the match history to read.
+     * @return one list of records per game.
+     * @throws IOException if the history cannot be read.
+     */
+    public static List<List<MatchHistory.GameRecord>> readGames(MatchHistory history) throws IOException {
+        List<List<MatchHistory.GameRecord>> games = new ArrayList<>();
+        history.forEachRecord(record -> {
+            List<MatchHistory.GameRecord> last = games.isEmpty() ? null : games.get(games.size() - 1);
+            if (last != null && last.get(0).gameId() == record.gameId()) {
+                last.add(record);
+            } else {
+                List<MatchHistory.GameRecord> game = new ArrayList<>();
+                game.add(record);
+                games.add(game);
+            }
+        });
+        return games;
+    }
+
+    /**
+     * Computes every player's rating by replaying the given games. Groups of
+     * players who never shared a game with each other are replayed in
+     * parallel.
+     *
+     * @param games         the games to replay, oldest first.
+     * @param initialRating the rating of a player with no games.
+     * @param kFactor       the largest rating change a two-player game can cause.
+     * @return a rating engine holding the computed ratings.
+     */
+    public static RatingEngine compute(List<List<MatchHistory.GameRecord>> games, double initialRating, double kFactor) {
+        Map<String, Integer> ids = new HashMap<>();
+        int[][] seats = new int[games.size()][];
+        int[][] places = new int[games.size()][];
+
+        for (int g = 0; g < games.size(); g++) {
+            List<MatchHistory.GameRecord> game = games.get(g);
+            seats[g] = new int[game.size()];
+            places[g] = new int[game.size()];
+            for (int i = 0; i < game.size(); i++) {
+                seats[g][i] = ids.computeIfAbsent(game.get(i).name(), name -> ids.size());
+                places[g][i] = game.get(i).place();
+            }
+        }
+
+        int[] parent = new int[ids.size()];
+        Arrays.setAll(parent, i -> i);
+        for (int[] players : seats) {
+            for (int i = 1; i < players.length; i++) {
+                union(parent, players[0], players[i]);
+            }
+        }
+
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int g = 0; g < seats.length; g++) {
+            if (seats[g].length > 0) {
+                groups.computeIfAbsent(find(parent, seats[g][0]), root -> new ArrayList<>()).add(g);
+            }
+        }
+
+        double[] ratings = new double[Math.max(16, ids.size())];
+        Arrays.fill(ratings, initialRating);
+
+        // Groups share no players, so each one writes to its own ratings
+        groups.values().parallelStream().forEach(group ->
+                group.forEach(g -> applyGame(ratings, seats[g], places[g], kFactor)));
+
+        return new RatingEngine(initialRating, kFactor, ids, ratings);
+    }
+
+    /**
+     * Updates the ratings of the players in one finished game.
+     *
+     * @param game the records of every player in the game.
+     */
+    public synchronized void update(List<MatchHistory.GameRecord> game) {
+        int[] seats = new int[game.size()];
+        int[] places = new int[game.size()];
+        for (int i = 0; i < game.size(); i++) {
+            seats[i] = idOf(game.get(i).name());
+            places[i] = game.get(i).place();
+        }
+        applyGame(ratings, seats, places, kFactor);
+    }
+
+    /**
+     * Returns a player's rating.
+     *
+     * @param name the player's name.
+     * @return the rating, or the initial rating if the player has no games.
+     */
+    public synchronized double getRating(String name) {
+        Integer id = ids.get(name);
+        return id == null ? initialRating : ratings[id];
+    }
+
+    /**
+     * Returns the number of rated players.
+     *
+     * @return the player count.
+     */
+    public synchronized int size() {
+        return ids.size();
+    }
+
+    private int idOf(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = ids.size();
+        if (newId == ratings.length) {
+            int oldLength = ratings.length;
+            ratings = Arrays.copyOf(ratings, oldLength * 2);
+            Arrays.fill(ratings, oldLength, ratings.length, initialRating);
+        }
+        ids.put(name, newId);
+        return newId;
+    }
+
+    private static void applyGame(double[] ratings, int[] seats, int[] places, double kFactor) {
+        int n = seats.length;
+        if (n < 2) {
+            return;
+        }
+
+        double k = kFactor / (n - 1);
+        double[] deltas = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double expected = 1 / (1 + Math.pow(10, (ratings[seats[j]] - ratings[seats[i]]) / 400));
+                double change = k * (score(places[i], places[j]) - expected);
+                deltas[i] += change;
+                deltas[j] -= change;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            ratings[seats[i]] += deltas[i];
+        }
+    }
+
+    /**
+     * Returns the pairwise score of a player with place {@code a} against a
+     * player with place {@code b}, where place 0 means not finished.
+     */
+    private static double score(int a, int b) {
+        int rankA = a == 0 ? Integer.MAX_VALUE : a;
+        int rankB = b == 0 ? Integer.MAX_VALUE : b;
+        return rankA < rankB ? 1 : rankA == rankB ? 0.5 : 0;
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[rootB] = rootA;
+        }
+    }
+}
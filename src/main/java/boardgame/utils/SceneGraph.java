@@ -0,0 +1,27 @@
+package boardgame.utils;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * Utility methods for inspecting the scene graph.
+ */
+public class SceneGraph {
+
+    /**
+     * Counts a node and all nodes below it. Layout and CSS passes visit each
+     * of these, so this is what the board renderers try to keep low.
+     *
+     * @param root the node to start from.
+     * @return the number of nodes in the subtree, including {@code root}.
+     */
+    public static int countNodes(Node root) {
+        int count = 1;
+        if (root instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,143 @@
+package boardgame.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import boardgame.utils.JFR.FirstFrameEvent;
+import boardgame.utils.JSON.BoardJSON;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Warms up what the menus need while the start screen is already showing,
+ * and tracks how long the application takes to show its first frame.
+ * <p>
+ * The start screen is shown before anything else is loaded. Right after,
+ * boards.json is parsed, the profile index and match history are read on
+ * background threads, and the player icons start decoding. By the time a
+ * user opens a game menu, its board previews and player rows find
+ * everything cached. A preload that fails is ignored: the menus load the
+ * same data again on first use and report errors as before.
+ * <p>
+ * Time to first frame is measured from JVM start to the first pulse after
+ * the stage is shown and compared against
+ * {@link #FIRST_FRAME_BUDGET_MILLIS}, which can be overridden with the
+ * {@code boardgame.firstFrameBudgetMillis} system property. Both are
+ * committed as a {@link FirstFrameEvent} when Flight Recorder is recording. With
+ * {@code -Dboardgame.exitAfterStartup=true} the application exits once the
+ * first frame is shown and the preload is done; this is the training run
+ * used to record the AppCDS class-data archive (see the README).
+ */
+public final class StartupPreloader {
+
+    /**
+     * The longest time to first frame, in milliseconds, that is within budget.
+     */
+    public static final long FIRST_FRAME_BUDGET_MILLIS = Long.getLong("boardgame.firstFrameBudgetMillis", 1500);
+
+    private static final String EXIT_AFTER_STARTUP_PROPERTY = "boardgame.exitAfterStartup";
+    private static final int[] ICON_SIZES = {50, 100};
+
+    private static CompletableFuture<Void> preload = null;
+    private static long firstFrameMillis = -1;
+
+    private StartupPreloader() {
+        // Static utility class
+    }
+
+    /**
+     * Starts loading boards, profiles and icons in the background, if not
+     * already started. Must be called on the JavaFX application thread.
+     *
+     * @return a future that completes when the data has been loaded.
+     */
+    public static synchronized CompletableFuture<Void> start() {
+        if (preload != null) {
+            return preload;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2, task -> {
+            Thread thread = new Thread(task, "startup-preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<Void> boards = CompletableFuture
+                .runAsync(BoardJSON::preload, executor)
+                .exceptionally(e -> null);
+        CompletableFuture<Void> profiles = CompletableFuture
+                .runAsync(() -> {
+                    ProfileIndex.instance();
+                    MatchHistory.instance();
+                }, executor)
+                .exceptionally(e -> null);
+
+        preload = CompletableFuture.allOf(boards, profiles)
+                .whenComplete((result, e) -> executor.shutdown());
+
+        // Images decode on JavaFX's own background loader
+        preloadIcons();
+
+        return preload;
+    }
+
+    private static void preloadIcons() {
+        for (String icon : PlayerCSV.getIconNames()) {
+            for (int size : ICON_SIZES) {
+                IconCache.get("/PlayerIcons/" + icon + ".png", size);
+            }
+        }
+    }
+
+    /**
+     * Measures the time to the first frame shown after this call, and exits
+     * afterwards for a training run. Must be called on the JavaFX application
+     * thread, right after the first scene is shown.
+     */
+    public static void trackFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                recordFirstFrame(ManagementFactory.getRuntimeMXBean().getUptime());
+            }
+        }.start();
+    }
+
+    private static void recordFirstFrame(long millis) {
+        firstFrameMillis = millis;
+        FirstFrameEvent event = new FirstFrameEvent();
+        if (event.shouldCommit()) {
+            event.firstFrameMillis = millis;
+            event.budgetMillis = FIRST_FRAME_BUDGET_MILLIS;
+            event.withinBudget = isWithinBudget();
+            event.commit();
+        }
+
+        if (Boolean.getBoolean(EXIT_AFTER_STARTUP_PROPERTY)) {
+            start().whenComplete((result, e) -> Platform.runLater(Platform::exit));
+        }
+    }
+
+    /**
+     * Returns the time from JVM start to the first frame.
+     *
+     * @return the time to first frame in milliseconds, or -1 before the first
+     *         frame.
+     */
+    public static long getFirstFrameMillis() {
+        return firstFrameMillis;
+    }
+
+    /**
+     * Returns whether the first frame was shown within
+     * {@link #FIRST_FRAME_BUDGET_MILLIS}.
+     *
+     * @return {@code true} if the first frame was on time.
+     */
+    public static boolean isWithinBudget() {
+        return firstFrameMillis >= 0 && firstFrameMillis <= FIRST_FRAME_BUDGET_MILLIS;
+    }
+}
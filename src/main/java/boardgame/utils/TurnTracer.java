@@ -0,0 +1,329 @@
+package boardgame.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javafx.scene.Scene;
+
+/**
+ * Traces each turn from the roll button being clicked until its animations
+ * have settled on screen, to show where the time of a laggy turn goes.
+ * <p>
+ * A turn is split into spans, each timed with {@link System#nanoTime()}:
+ * <ul>
+ * <li>{@link Span#INPUT}: from the click to the roll being handled;</li>
+ * <li>{@link Span#LOGIC}: handling the roll, which contains
+ * {@link Span#DICE} (starting the dice animation) and {@link Span#MOVE}
+ * (updating the model and queueing the token animations);</li>
+ * <li>{@link Span#ANIMATION}: from the roll being handled until the last
+ * queued animation leaves the queue empty;</li>
+ * <li>{@link Span#LAYOUT}: from then until the tokens have been laid out
+ * and the next layout pulse has run;</li>
+ * <li>{@link Span#TOTAL}: the whole turn.</li>
+ * </ul>
+ * Finished spans are written to a fixed-size ring buffer without locking,
+ * so the newest {@link #CAPACITY} spans can be read from any thread while
+ * turns are being traced. Turns themselves are only traced on the JavaFX
+ * application thread.
+ */
+public final class TurnTracer {
+
+    /**
+     * The parts of a turn that are timed.
+     */
+    public enum Span {
+        INPUT("Input"),
+        LOGIC("Logic"),
+        DICE("Dice"),
+        MOVE("Move"),
+        ANIMATION("Animation"),
+        LAYOUT("Layout"),
+        TOTAL("Total");
+
+        private final String label;
+
+        Span(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the label shown for this span.
+         *
+         * @return the label.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * A finished span of a turn.
+     *
+     * @param turn       the number of the turn.
+     * @param span       the part of the turn.
+     * @param startNanos when the span started, from {@link System#nanoTime()}.
+     * @param endNanos   when the span ended, from {@link System#nanoTime()}.
+     */
+    public record Record(long turn, Span span, long startNanos, long endNanos) {
+
+        /**
+         * Returns the length of the span.
+         *
+         * @return the duration in nanoseconds.
+         */
+        public long durationNanos() {
+            return endNanos - startNanos;
+        }
+    }
+
+    /**
+     * A summary of the recorded lengths of one span.
+     *
+     * @param count    the number of recorded spans.
+     * @param p50Nanos the median length in nanoseconds.
+     * @param p99Nanos the 99th percentile length in nanoseconds.
+     * @param maxNanos the longest length in nanoseconds.
+     */
+    public record Summary(int count, long p50Nanos, long p99Nanos, long maxNanos) {
+    }
+
+    /**
+     * The number of spans kept in the ring buffer.
+     */
+    public static final int CAPACITY = 1024;
+
+    /**
+     * The number of turns that may wait for their animations at once; older
+     * turns are dropped untraced. Only autoplay rolls faster than turns
+     * settle.
+     */
+    private static final int MAX_OPEN_TURNS = 64;
+
+    private static final AtomicReferenceArray<Record> ring = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong written = new AtomicLong();
+
+    /**
+     * A turn that has been rolled but whose animations have not settled.
+     */
+    private static final class Turn {
+        private final long number;
+        private final long startNanos;
+        private final long logicStartNanos;
+        private long logicEndNanos;
+        private long settledNanos;
+
+        private Turn(long number, long startNanos, long logicStartNanos) {
+            this.number = number;
+            this.startNanos = startNanos;
+            this.logicStartNanos = logicStartNanos;
+        }
+    }
+
+    private static final Deque<Turn> openTurns = new ArrayDeque<>();
+    private static long turnCount = 0;
+    private static long clickNanos = -1;
+    private static Turn current = null;
+
+    private TurnTracer() {
+        // Static utility class
+    }
+
+    /**
+     * Returns the current time of the clock spans are timed with.
+     *
+     * @return the time in nanoseconds.
+     */
+    public static long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the roll button as clicked. The next roll handled is traced from
+     * this moment.
+     */
+    public static void click() {
+        clickNanos = now();
+    }
+
+    /**
+     * Starts tracing a turn as its roll begins to be handled. A turn rolled
+     * without a click, for example by autoplay, starts here.
+     */
+    public static void beginTurn() {
+        long start = now();
+        Turn turn = new Turn(++turnCount, clickNanos >= 0 ? clickNanos : start, start);
+        if (clickNanos >= 0) {
+            write(turn, Span.INPUT, clickNanos, start);
+            clickNanos = -1;
+        }
+        current = turn;
+    }
+
+    /**
+     * Records a span of the turn whose roll is being handled, ending now. Does
+     * nothing outside of handling a roll.
+     *
+     * @param span       the part of the turn.
+     * @param startNanos when the span started, from {@link #now()}.
+     */
+    public static void record(Span span, long startNanos) {
+        if (current != null) {
+            write(current, span, startNanos, now());
+        }
+    }
+
+    /**
+     * Ends the handling of the current turn's roll. The turn then waits for
+     * its animations to settle.
+     */
+    public static void endTurnLogic() {
+        if (current == null) {
+            return;
+        }
+
+        current.logicEndNanos = now();
+        write(current, Span.LOGIC, current.logicStartNanos, current.logicEndNanos);
+        openTurns.add(current);
+        if (openTurns.size() > MAX_OPEN_TURNS) {
+            openTurns.poll();
+        }
+        current = null;
+    }
+
+    /**
+     * Marks the animation queue as having run empty. Every waiting turn has
+     * settled its animations; its layout is timed until the next layout pulse
+     * of the given scene, or ends right away without a scene.
+     *
+     * @param scene the scene showing the board, or {@code null}.
+     */
+    public static void animationsSettled(Scene scene) {
+        if (openTurns.isEmpty()) {
+            return;
+        }
+
+        long settled = now();
+        List<Turn> settling = new ArrayList<>(openTurns);
+        openTurns.clear();
+        for (Turn turn : settling) {
+            turn.settledNanos = settled;
+            write(turn, Span.ANIMATION, turn.logicEndNanos, settled);
+        }
+
+        if (scene == null) {
+            finishLayout(settling);
+            return;
+        }
+
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            finishLayout(settling);
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    private static void finishLayout(List<Turn> turns) {
+        long end = now();
+        for (Turn turn : turns) {
+            write(turn, Span.LAYOUT, turn.settledNanos, end);
+            write(turn, Span.TOTAL, turn.startNanos, end);
+        }
+    }
+
+    /**
+     * Stops tracing the turns that are still waiting for their animations,
+     * for example because their game was left.
+     */
+    public static void discardOpenTurns() {
+        openTurns.clear();
+        current = null;
+        clickNanos = -1;
+    }
+
+    private static void write(Turn turn, Span span, long startNanos, long endNanos) {
+        long sequence = written.getAndIncrement();
+        ring.set((int) (sequence % CAPACITY), new Record(turn.number, span, startNanos, endNanos));
+    }
+
+    /**
+     * Returns the spans in the ring buffer, oldest first. Spans written while
+     * reading may be missing or replace older ones.
+     *
+     * @return the newest spans, at most {@link #CAPACITY} of them.
+     */
+    public static List<Record> snapshot() {
+        long end = written.get();
+        long start = Math.max(0, end - CAPACITY);
+        List<Record> records = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            Record record = ring.get((int) (i % CAPACITY));
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the lengths of the recorded spans of one kind, sorted.
+     *
+     * @param records the recorded spans.
+     * @param span    the kind of span.
+     * @return the sorted durations in nanoseconds.
+     */
+    private static long[] durations(List<Record> records, Span span) {
+        return records.stream()
+                .filter(record -> record.span() == span)
+                .mapToLong(Record::durationNanos)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Summarizes the lengths of the recorded spans of one kind.
+     *
+     * @param records the recorded spans, as returned by {@link #snapshot()}.
+     * @param span    the kind of span.
+     * @return the summary; all zero if no such span was recorded.
+     */
+    public static Summary summarize(List<Record> records, Span span) {
+        long[] durations = durations(records, span);
+        if (durations.length == 0) {
+            return new Summary(0, 0, 0, 0);
+        }
+        return new Summary(durations.length,
+                durations[rankIndex(durations.length, 0.50)],
+                durations[rankIndex(durations.length, 0.99)],
+                durations[durations.length - 1]);
+    }
+
+    private static int rankIndex(int count, double percentile) {
+        return Math.max(0, (int) Math.ceil(percentile * count) - 1);
+    }
+
+    /**
+     * Counts the recorded spans of one kind per latency bucket.
+     *
+     * @param records      the recorded spans, as returned by {@link #snapshot()}.
+     * @param span         the kind of span.
+     * @param boundsMillis the upper bounds of all but the last bucket, in
+     *                     ascending order; the last bucket has no bound.
+     * @return the number of spans per bucket, one more than there are bounds.
+     */
+    public static int[] histogram(List<Record> records, Span span, long[] boundsMillis) {
+        int[] counts = new int[boundsMillis.length + 1];
+        for (long nanos : durations(records, span)) {
+            int bucket = 0;
+            while (bucket < boundsMillis.length && nanos >= boundsMillis[bucket] * 1_000_000) {
+                bucket++;
+            }
+            counts[bucket]++;
+        }
+        return counts;
+    }
+}
@@ -29,10 +29,10 @@ public class BackButton extends Button {
 
                 Optional<ButtonType> result = alert.showAndWait();
                 if (result.isPresent() && result.get() == ButtonType.OK) {
-                    SceneManager.getInstance().changeScene(StartScreenView.getScene());
+                    SceneManager.getInstance().showMenu(SceneManager.Menu.START, StartScreenView::getRoot);
                 }
             } else {
-                SceneManager.getInstance().changeScene(StartScreenView.getScene());
+                SceneManager.getInstance().showMenu(SceneManager.Menu.START, StartScreenView::getRoot);
             }
         });
 
@@ -1,11 +1,30 @@
 package boardgame.visual.elements;
 
+import java.awt.Point;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import boardgame.model.boardFiles.Board;
 import boardgame.model.boardFiles.Tile;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
 
 
 /**
@@ -13,8 +32,27 @@ import javafx.scene.layout.StackPane;
  * It manages the underlying logical board, its tiles, and a JavaFX GridPane
  * for arranging the visual tiles. Subclasses are responsible for implementing
  * the specific layout of the tiles.
+ * <p>
+ * Subclasses place cells through {@link #addTileCell} and
+ * {@link #addFillerCell}. By default every cell becomes its own node in the
+ * grid. When canvas rendering is enabled (with
+ * {@code -Dboardgame.renderer=canvas}), the cells are instead drawn into a
+ * single {@link Canvas} inside the grid, which keeps hundreds of nodes out of
+ * every layout and CSS pass. The F3 overlay shows the scene's node count and
+ * frame time, so the two modes can be compared.
+ * <p>
+ * Independently of how cells are drawn, the static layers (the tile grid and
+ * any decoration such as ladders) can be cached as a single image (see
+ * {@link #setImageCached}). The layers are then kept out of the scene and
+ * only the image is shown. The image is re-rendered when the board's
+ * on-screen scale or the output scale of the window it is shown in changes.
+ * Nothing is rendered until the board is shown in a window, so a board built
+ * off the JavaFX application thread (as games are, while the loading screen
+ * shows) takes its first snapshot on that thread once it is attached.
+ * The board only listens to the scene and window it is currently shown in,
+ * so a board that is no longer shown is not kept alive by them.
+ *
  *
- *  
  */
 public abstract class BoardVisual extends StackPane {
 
@@ -22,6 +60,32 @@ public abstract class BoardVisual extends StackPane {
     public final ArrayList<Tile> tileLogic;
     public final GridPane tileGrid = new GridPane();
 
+    private static final boolean canvasRendering = "canvas".equals(System.getProperty("boardgame.renderer"));
+    private static final boolean imageCaching = Boolean.getBoolean("boardgame.cacheBoard");
+
+    private final boolean useCanvas = canvasRendering;
+    private boolean useImageCache = false;
+    private Node[] layers = new Node[0];
+    private final StackPane staticLayers = new StackPane();
+    private final ImageView cacheView = new ImageView();
+    private double cachedScale = 0;
+    private Scene observedScene = null;
+    private Window observedWindow = null;
+    private final InvalidationListener scaleListener = obs -> updateCache();
+    private final ChangeListener<Window> windowListener = (obs, oldWindow, window) -> observeWindow(window);
+    private final ChangeListener<Scene> sceneListener = (obs, oldScene, scene) -> observeScene(scene);
+    private final int[] tileCols;
+    private final int[] tileRows;
+    private final Map<Point, Cell> cells = new HashMap<>();
+    private Canvas canvas = null;
+    private double cellSize = 0;
+
+    /**
+     * A single square of the board: a tile, or a filler square when
+     * {@code tile} is {@code null}.
+     */
+    private record Cell(Tile tile, Color fill) {
+    }
 
     /**
      * Constructs a new visual board based on the provided {@link Board} logic.
@@ -31,6 +95,32 @@ public abstract class BoardVisual extends StackPane {
     public BoardVisual(Board board) {
         this.board = board;
         this.tileLogic = board.getTiles();
+
+        int highestNumber = tileLogic.stream().mapToInt(Tile::getNumber).max().orElse(0);
+        this.tileCols = new int[highestNumber + 1];
+        this.tileRows = new int[highestNumber + 1];
+        Arrays.fill(tileCols, -1);
+        Arrays.fill(tileRows, -1);
+    }
+
+    /**
+     * Returns whether boards created from now on draw their cells into a
+     * single canvas.
+     *
+     * @return true if canvas rendering is enabled.
+     */
+    public static boolean isCanvasRendering() {
+        return canvasRendering;
+    }
+
+    /**
+     * Returns whether boards always cache their static layers as an image,
+     * as set by the {@code boardgame.cacheBoard} system property.
+     *
+     * @return true if image caching is always on.
+     */
+    public static boolean isImageCaching() {
+        return imageCaching;
     }
 
     /**
@@ -53,4 +143,244 @@ public abstract class BoardVisual extends StackPane {
      */
     public abstract double getSpacing();
 
-}
\ No newline at end of file
+    /**
+     * Places a tile at the given grid position.
+     *
+     * @param tile the tile to show.
+     * @param col  the grid column.
+     * @param row  the grid row.
+     * @param size the width and height of the tile.
+     */
+    protected void addTileCell(Tile tile, int col, int row, double size) {
+        Color fill = tile.getEffect() != null ? tile.getEffect().getColor() : Color.WHITE;
+        addCell(new Point(col, row), new Cell(tile, fill), size);
+        tileCols[tile.getNumber()] = col;
+        tileRows[tile.getNumber()] = row;
+
+        if (!useCanvas) {
+            tileGrid.add(new TileVisual(tile, size, size), col, row);
+        }
+    }
+
+    /**
+     * Places a plain colored square at the given grid position.
+     *
+     * @param color the square's color.
+     * @param col   the grid column.
+     * @param row   the grid row.
+     * @param size  the width and height of the square.
+     */
+    protected void addFillerCell(Color color, int col, int row, double size) {
+        addCell(new Point(col, row), new Cell(null, color), size);
+
+        if (!useCanvas) {
+            tileGrid.add(new FillerTile(size, size, color), col, row);
+        }
+    }
+
+    private void addCell(Point point, Cell cell, double size) {
+        cells.put(point, cell);
+        cellSize = size;
+    }
+
+    /**
+     * Finishes the board once all cells are placed. With canvas rendering,
+     * this sizes the canvas and draws every cell; otherwise it does nothing.
+     * Must be called after the grid gaps are set.
+     */
+    protected void renderCells() {
+        if (!useCanvas) {
+            return;
+        }
+
+        int columns = cells.keySet().stream().mapToInt(p -> p.x).max().orElse(-1) + 1;
+        int rows = cells.keySet().stream().mapToInt(p -> p.y).max().orElse(-1) + 1;
+        canvas = new Canvas(columns * pitchX() - tileGrid.getHgap(), rows * pitchY() - tileGrid.getVgap());
+        tileGrid.getChildren().setAll(canvas);
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setFont(Font.getDefault());
+        cells.keySet().forEach(this::paintCell);
+    }
+
+    /**
+     * Sets the layers that make up the static board, bottom first. Without
+     * image caching they are shown directly; with it, they are rendered into
+     * the cached image and only the image is shown.
+     *
+     * @param layers the static layers, starting with the tile grid.
+     */
+    protected void setStaticLayers(Node... layers) {
+        this.layers = layers;
+        showStaticLayers();
+        setImageCached(imageCaching);
+    }
+
+    /**
+     * Chooses whether the static layers are shown as one cached image or as
+     * live nodes. The frame monitor turns caching on when frames are slow.
+     * The image is rendered once the board is shown in a window.
+     *
+     * @param enabled true to show the static layers as an image.
+     */
+    public void setImageCached(boolean enabled) {
+        if (enabled == useImageCache) {
+            return;
+        }
+        useImageCache = enabled;
+
+        if (enabled) {
+            staticLayers.getChildren().setAll(layers);
+            this.getChildren().setAll(cacheView);
+            this.localToSceneTransformProperty().addListener(scaleListener);
+            this.sceneProperty().addListener(sceneListener);
+            observeScene(getScene());
+        } else {
+            this.localToSceneTransformProperty().removeListener(scaleListener);
+            this.sceneProperty().removeListener(sceneListener);
+            observeScene(null);
+            cacheView.setImage(null);
+            cachedScale = 0;
+            showStaticLayers();
+        }
+    }
+
+    /**
+     * Returns whether the static layers are shown as one cached image.
+     *
+     * @return true if the board is cached.
+     */
+    public boolean isImageCached() {
+        return useImageCache;
+    }
+
+    private void showStaticLayers() {
+        staticLayers.getChildren().clear();
+        this.getChildren().setAll(layers);
+    }
+
+    /**
+     * Moves the window listener to the scene the board is now shown in.
+     */
+    private void observeScene(Scene scene) {
+        if (observedScene != null) {
+            observedScene.windowProperty().removeListener(windowListener);
+        }
+        observedScene = scene;
+        if (scene != null) {
+            scene.windowProperty().addListener(windowListener);
+        }
+        observeWindow(scene != null ? scene.getWindow() : null);
+    }
+
+    /**
+     * Moves the output scale listener to the window the board is now shown
+     * in, and re-renders the image for that window's scale.
+     */
+    private void observeWindow(Window window) {
+        if (observedWindow != null) {
+            observedWindow.renderScaleXProperty().removeListener(scaleListener);
+        }
+        observedWindow = window;
+        if (window != null) {
+            window.renderScaleXProperty().addListener(scaleListener);
+            updateCache();
+        }
+    }
+
+    /**
+     * Re-renders the cached image if the board is shown in a window and the
+     * scale it was rendered at no longer matches the screen.
+     */
+    private void updateCache() {
+        if (!useImageCache || observedWindow == null) {
+            return;
+        }
+        double scale = currentScale();
+        if (Math.abs(scale - cachedScale) > 0.01) {
+            renderCache(scale);
+        }
+    }
+
+    private void renderCache(double scale) {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(scale, scale));
+
+        WritableImage image = staticLayers.snapshot(parameters, null);
+        cacheView.setImage(image);
+        cacheView.setFitWidth(image.getWidth() / scale);
+        cacheView.setFitHeight(image.getHeight() / scale);
+        cachedScale = scale;
+    }
+
+    /**
+     * Returns the number of device pixels per board unit: the window's output
+     * scale times any scaling applied to the board in the scene.
+     */
+    private double currentScale() {
+        Transform transform = getLocalToSceneTransform();
+        double nodeScale = Math.hypot(transform.getMxx(), transform.getMyx());
+        return observedWindow.getRenderScaleX() * (nodeScale > 0 ? nodeScale : 1);
+    }
+
+    /**
+     * Returns the grid position of the given tile.
+     *
+     * @param tileNumber the tile number.
+     * @return the tile's column ({@code x}) and row ({@code y}), or
+     *         {@code null} if the tile is not on this board.
+     */
+    public Point getTilePosition(int tileNumber) {
+        int col = getTileColumn(tileNumber);
+        return col < 0 ? null : new Point(col, tileRows[tileNumber]);
+    }
+
+    /**
+     * Returns the grid column of the given tile. This is a single array read,
+     * and is what token layers and decorations use to place themselves.
+     *
+     * @param tileNumber the tile number.
+     * @return the tile's column, or -1 if the tile is not on this board.
+     */
+    public int getTileColumn(int tileNumber) {
+        return tileNumber >= 0 && tileNumber < tileCols.length ? tileCols[tileNumber] : -1;
+    }
+
+    /**
+     * Returns the grid row of the given tile.
+     *
+     * @param tileNumber the tile number.
+     * @return the tile's row, or -1 if the tile is not on this board.
+     */
+    public int getTileRow(int tileNumber) {
+        return tileNumber >= 0 && tileNumber < tileRows.length ? tileRows[tileNumber] : -1;
+    }
+
+    private void paintCell(Point point) {
+        Cell cell = cells.get(point);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double x = point.x * pitchX();
+        double y = point.y * pitchY();
+
+        gc.clearRect(x, y, cellSize, cellSize);
+        gc.setFill(cell.fill());
+        gc.fillRect(x, y, cellSize, cellSize);
+
+        if (cell.tile() != null) {
+            gc.setFill(cell.tile().getEffect() != null ? Color.WHITE : Color.BLACK);
+            gc.fillText(Integer.toString(cell.tile().getNumber()), x + cellSize / 2, y + cellSize / 2);
+        }
+    }
+
+    private double pitchX() {
+        return cellSize + tileGrid.getHgap();
+    }
+
+    private double pitchY() {
+        return cellSize + tileGrid.getVgap();
+    }
+
+}
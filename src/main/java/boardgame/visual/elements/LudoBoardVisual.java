@@ -17,7 +17,8 @@ import javafx.scene.paint.Color;
 /**
  * Visual representation of the Ludo game board using JavaFX's {@link GridPane}.
  * This class arranges {@link TileVisual} and {@link FillerTile} components
- * to create the Ludo board layout based on the underlying {@link LudoBoard} logic.
+ * to create the Ludo board layout based on the underlying {@link LudoBoard} logic,
+ * or draws the same cells into a canvas when canvas rendering is enabled.
  */
 public final class LudoBoardVisual extends BoardVisual {
 
@@ -37,14 +38,15 @@ public final class LudoBoardVisual extends BoardVisual {
      */
     public LudoBoardVisual(LudoBoard board) {
         super(board);
-        initializeBoard();
-
         tileGrid.setVgap(-1);
         tileGrid.setHgap(-1);
+
+        initializeBoard();
+
         this.prefWidthProperty().bind(tileGrid.widthProperty());
         this.prefHeightProperty().bind(tileGrid.heightProperty());
         this.setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
-        this.getChildren().add(tileGrid);
+        setStaticLayers(tileGrid);
     }
 
     /**
@@ -124,11 +126,11 @@ public final class LudoBoardVisual extends BoardVisual {
             Point point = new Point(col, row);
 
             if (homeTileColors.containsKey(point)) {
-                tileGrid.add(new FillerTile(TILE_SIZE, TILE_SIZE, homeTileColors.get(point)), col, row);
+                addFillerCell(homeTileColors.get(point), col, row, TILE_SIZE);
             } else if (startTileColors.containsKey(point)) {
-                tileGrid.add(new FillerTile(TILE_SIZE, TILE_SIZE, startTileColors.get(point)), col, row);
+                addFillerCell(startTileColors.get(point), col, row, TILE_SIZE);
             } else if (!playableTiles.contains(point)) {
-                tileGrid.add(new FillerTile(TILE_SIZE, TILE_SIZE), col, row);
+                addFillerCell(Color.BLACK, col, row, TILE_SIZE);
             }
         });
 
@@ -136,9 +138,10 @@ public final class LudoBoardVisual extends BoardVisual {
         IntStream.rangeClosed(1, playableTiles.size()).forEach(i -> {
             Point point = playableTiles.get(i - 1);
             Tile tile = tileLogic.get(i - 1);
-            TileVisual tileVisual = new TileVisual(tile, TILE_SIZE, TILE_SIZE);
-            tileGrid.add(tileVisual, point.x, point.y);
+            addTileCell(tile, point.x, point.y, TILE_SIZE);
         });
+
+        renderCells();
     }
 
     /**
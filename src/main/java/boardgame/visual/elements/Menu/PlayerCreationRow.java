@@ -1,19 +1,23 @@
 package boardgame.visual.elements.Menu;
 
-import java.io.InputStream;
 import java.util.List;
-import java.util.stream.IntStream;
 
 import boardgame.utils.ErrorDialog;
+import boardgame.utils.IconCache;
+import boardgame.utils.MatchHistory;
 import boardgame.utils.PlayerCSV;
+import boardgame.utils.ProfileIndex;
 import boardgame.utils.ScreenDimension;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.geometry.Side;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.control.MenuButton;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
@@ -24,12 +28,24 @@ import javafx.stage.Stage;
 /**
  * Represents a row in the player creation interface, allowing users to enter
  * their name, select an icon, save their profile, and delete the row.
+ * <p>
+ * Saved profiles are offered as type-ahead suggestions from the shared
+ * {@link ProfileIndex}. Only the best matches are turned into menu items, and
+ * only while the suggestions are shown, so creating a row does not depend on
+ * how many profiles exist.
+ * <p>
+ * Hovering the name field shows the typed profile's statistics, read from
+ * the precomputed {@link MatchHistory} rollups.
  */
 public class PlayerCreationRow extends HBox {
 
+    private static final int MAX_SUGGESTIONS = 10;
+
     private final TextField nameField;
     private final Button saveButton;
-    private final MenuButton fetchButton;
+    private final Button fetchButton;
+    private final ContextMenu suggestions = new ContextMenu();
+    private final Tooltip statsTooltip = new Tooltip();
     private final Button deleteRowButton;
     private Runnable deleteRowAction;
     private final PlayerCSV playerCSV;
@@ -49,7 +65,7 @@ public class PlayerCreationRow extends HBox {
         this.nameField = new TextField();
         this.saveButton = new Button("Save Player");
         this.deleteRowButton = new Button("X");
-        this.fetchButton = new MenuButton("Profiles");
+        this.fetchButton = new Button("Profiles");
 
         saveButton.getStyleClass().add("button-common");
         deleteRowButton.getStyleClass().add("button-common");
@@ -68,8 +84,7 @@ public class PlayerCreationRow extends HBox {
         iconWrapper.setPrefSize(50, 50);
         iconWrapper.setOnMouseClicked(e -> openIconPopup());
 
-        InputStream is = getClass().getResourceAsStream("/PlayerIcons/" + selectedIconName + ".png");
-        iconDisplay = new ImageView(new Image(is));
+        iconDisplay = new ImageView(IconCache.get("/PlayerIcons/" + selectedIconName + ".png", 50));
         iconDisplay.setFitWidth(50);
         iconDisplay.setFitHeight(50);
 
@@ -77,6 +92,8 @@ public class PlayerCreationRow extends HBox {
 
         nameField.setPromptText("Enter player name...");
         nameField.setPrefWidth(ScreenDimension.getScreenWidth() * 0.1);
+        nameField.setTooltip(statsTooltip);
+        statsTooltip.setOnShowing(e -> updateStats(nameField.getText()));
 
         saveButton.setOnAction(e -> {
             try {
@@ -93,18 +110,55 @@ public class PlayerCreationRow extends HBox {
             deleteRowAction.run();
         });
 
-        List<String[]> playerNames = PlayerCSV.getCSVContent();
-        IntStream.range(0, playerNames.size()).forEach(i -> {
-            MenuItem userOption = new MenuItem(playerNames.get(i)[0]);
-            userOption.setOnAction(e -> {
-                nameField.setText(playerNames.get(i)[0]);
-                changeDisplayIcon(playerNames.get(i)[1]);
-            });
+        fetchButton.setOnAction(e -> showSuggestions(fetchButton));
+
+        nameField.textProperty().addListener((obs, oldText, newText) -> {
+            if (nameField.isFocused() && !newText.isBlank()) {
+                showSuggestions(nameField);
+            } else {
+                suggestions.hide();
+            }
+        });
 
-            fetchButton.getItems().add(userOption);
+    }
 
+    /**
+     * Shows the saved profiles whose names start with the current text,
+     * limited to {@link #MAX_SUGGESTIONS} entries.
+     *
+     * @param anchor the node to show the suggestions below.
+     */
+    private void showSuggestions(Node anchor) {
+        PlayerCSV.refresh();
+        List<ProfileIndex.Match> matches = ProfileIndex.instance().search(nameField.getText(), MAX_SUGGESTIONS);
+
+        suggestions.getItems().clear();
+        matches.forEach(match -> {
+            MenuItem userOption = new MenuItem(match.name());
+            userOption.setOnAction(e -> {
+                nameField.setText(match.name());
+                changeDisplayIcon(match.icon());
+                suggestions.hide();
+            });
+            suggestions.getItems().add(userOption);
         });
 
+        if (matches.isEmpty()) {
+            suggestions.hide();
+        } else if (!suggestions.isShowing()) {
+            suggestions.show(anchor, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Shows the saved statistics of the given profile in the name field's
+     * tooltip.
+     *
+     * @param name the profile name.
+     */
+    private void updateStats(String name) {
+        MatchHistory.instance().refresh();
+        statsTooltip.setText(MatchHistory.instance().getRollup(name.trim()).summary());
     }
 
     /**
@@ -113,10 +167,10 @@ public class PlayerCreationRow extends HBox {
      * @param iconName the name of the icon file (without extension).
      */
     private void changeDisplayIcon(String iconName) {
-        InputStream is = getClass().getResourceAsStream("/PlayerIcons/" + iconName + ".png");
-        if (is != null) {
+        Image image = IconCache.get("/PlayerIcons/" + iconName + ".png", 50);
+        if (image != null) {
             this.selectedIconName = iconName;
-            iconDisplay.setImage(new Image(is));
+            iconDisplay.setImage(image);
         } else {
             ErrorDialog.showAndExit("Error", "Icon not found", "An unexpected error has occured.");
         }
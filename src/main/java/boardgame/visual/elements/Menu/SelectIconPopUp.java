@@ -1,12 +1,12 @@
 package boardgame.visual.elements.Menu;
 
-import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import boardgame.utils.IconCache;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -61,13 +61,12 @@ public class SelectIconPopUp extends VBox {
         String[] imageFiles = {"Red", "Lime", "White", "Orange", "Purple", "Yellow"};
 
         List<StackPane> icons = List.of(imageFiles).stream().map(i -> {
-            InputStream is = getClass().getResourceAsStream("/PlayerIcons/" + i + ".png");
-            if (is != null) {
+            Image image = IconCache.get("/PlayerIcons/" + i + ".png", 100);
+            if (image != null) {
                 StackPane imageWrapper = new StackPane();
                 imageWrapper.setPrefSize(105, 105);
                 imageWrapper.setAlignment(Pos.CENTER);
 
-                Image image = new Image(is);
                 ImageView imageView = new ImageView(image);
                 imageView.setFitWidth(100);
                 imageView.setFitHeight(100);
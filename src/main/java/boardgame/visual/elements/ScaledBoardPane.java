@@ -0,0 +1,71 @@
+package boardgame.visual.elements;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.transform.Scale;
+
+/**
+ * A container that fits a board to the space it is given with a single
+ * {@link Scale} transform.
+ * <p>
+ * The board and its layers (tiles, ladders, tokens) are built once at their
+ * design size, which is taken from the screen at construction. When the
+ * window is resized or moved to another monitor, only the scale changes:
+ * no nodes are rebuilt, and token coordinates stay in design units. The
+ * board keeps its aspect ratio and is centered in the free space.
+ *
+ *
+ */
+public class ScaledBoardPane extends Region {
+
+    private final StackPane content;
+    private final Scale scale = new Scale(1, 1, 0, 0);
+
+    /**
+     * Constructs a pane that scales the given layers together, first layer
+     * at the bottom.
+     *
+     * @param layers the board layers.
+     */
+    public ScaledBoardPane(Node... layers) {
+        this.content = new StackPane(layers);
+        content.getTransforms().add(scale);
+
+        this.getChildren().add(content);
+        this.setMinSize(0, 0);
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return content.prefWidth(-1) + snappedLeftInset() + snappedRightInset();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return content.prefHeight(-1) + snappedTopInset() + snappedBottomInset();
+    }
+
+    /**
+     * Lays the board out at its design size and scales it to fit.
+     */
+    @Override
+    protected void layoutChildren() {
+        double designWidth = content.prefWidth(-1);
+        double designHeight = content.prefHeight(-1);
+        content.resize(designWidth, designHeight);
+
+        double availableWidth = getWidth() - snappedLeftInset() - snappedRightInset();
+        double availableHeight = getHeight() - snappedTopInset() - snappedBottomInset();
+        double fit = Math.min(availableWidth / designWidth, availableHeight / designHeight);
+        if (!Double.isFinite(fit) || fit <= 0) {
+            fit = 1;
+        }
+        scale.setX(fit);
+        scale.setY(fit);
+
+        content.relocate(
+                snappedLeftInset() + (availableWidth - designWidth * fit) / 2,
+                snappedTopInset() + (availableHeight - designHeight * fit) / 2);
+    }
+}
@@ -5,6 +5,9 @@ import java.util.List;
 import java.util.Random;
 import java.util.stream.IntStream;
 
+import boardgame.controller.Autoplay;
+import boardgame.controller.FrameMonitor;
+import boardgame.utils.TurnTracer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.geometry.Insets;
@@ -25,6 +28,9 @@ public class DiceAnimation extends GridPane {
 
     private List<Circle> points;
     private final Random random = new Random();
+    private final Timeline timeline = new Timeline();
+    private int finalRoll = 1;
+    private int fakeFaces = 0;
 
     /**
      * Constructs a new {@code DiceAnimation}.
@@ -53,23 +59,22 @@ public class DiceAnimation extends GridPane {
                     this.add(die, i % 3, i / 3);
                 });
 
+        buildKeyFrames(FrameMonitor.getQuality().getDiceFaces());
     }
 
     /**
-     * Initiates the dice roll animation, displaying a sequence of random
-     * values before showing the final roll result.
+     * Fills the timeline with the given number of random faces, spread over
+     * the roll, followed by the final face.
      *
-     * @param finalRoll the result of the dice roll to be displayed at the end
-     * of the animation.
+     * @param faces the number of random faces to show.
      */
-    public void displayRoll(int finalRoll) {
-        Timeline timeline = new Timeline();
-
-        IntStream.rangeClosed(1, 10).forEach(i -> {
-            int fakeRoll = random.nextInt(6) + 1;
+    private void buildKeyFrames(int faces) {
+        fakeFaces = faces;
+        timeline.getKeyFrames().clear();
 
-            KeyFrame keyFrame = new KeyFrame(Duration.millis(i * 50), e -> {
-                displayFace(fakeRoll);
+        IntStream.rangeClosed(1, faces).forEach(i -> {
+            KeyFrame keyFrame = new KeyFrame(Duration.millis(i * 500.0 / faces), e -> {
+                displayFace(random.nextInt(6) + 1);
             });
 
             timeline.getKeyFrames().add(keyFrame);
@@ -81,7 +86,36 @@ public class DiceAnimation extends GridPane {
         });
 
         timeline.getKeyFrames().add(finalKeyFrame);
-        timeline.play();
+    }
+
+    /**
+     * Initiates the dice roll animation, displaying a sequence of random
+     * values before showing the final roll result.
+     *
+     * @param finalRoll the result of the dice roll to be displayed at the end
+     * of the animation. The same timeline is restarted for every roll, so
+     * rolling faster than the animation just cuts it short. It is rebuilt
+     * only when the {@link FrameMonitor} quality asks for a different
+     * number of random faces.
+     */
+    public void displayRoll(int finalRoll) {
+        long start = TurnTracer.now();
+        this.finalRoll = finalRoll;
+        int faces = FrameMonitor.getQuality().getDiceFaces();
+        if (faces != fakeFaces) {
+            timeline.stop();
+            buildKeyFrames(faces);
+        }
+        timeline.setRate(Autoplay.animationRate());
+        timeline.playFromStart();
+        TurnTracer.record(TurnTracer.Span.DICE, start);
+    }
+
+    /**
+     * Stops the roll animation, if one is running.
+     */
+    public void stop() {
+        timeline.stop();
     }
 
     /**
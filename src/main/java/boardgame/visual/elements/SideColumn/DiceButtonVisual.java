@@ -1,7 +1,9 @@
 package boardgame.visual.elements.SideColumn;
 
+import boardgame.utils.TurnTracer;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.input.MouseEvent;
 
 /**
  * A custom JavaFX button used for rolling dice in the game UI.
@@ -9,6 +11,7 @@ import javafx.scene.control.Button;
  * the text "Roll dice".
  * 
  * This class can be extended or styled further for visual consistency.
+ * Releasing the mouse on the button starts the trace of a turn.
  * 
  *  
  */
@@ -21,5 +24,10 @@ public class DiceButtonVisual extends Button {
     public DiceButtonVisual() {
         super("Roll dice");
         this.setAlignment(Pos.CENTER);
+        this.addEventFilter(MouseEvent.MOUSE_RELEASED, e -> {
+            if (!isDisabled()) {
+                TurnTracer.click();
+            }
+        });
     }
 }
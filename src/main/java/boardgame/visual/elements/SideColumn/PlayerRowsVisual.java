@@ -3,9 +3,10 @@ package boardgame.visual.elements.SideColumn;
 import java.util.List;
 
 import boardgame.model.Player;
+import boardgame.utils.IconCache;
+import boardgame.utils.MatchHistory;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.HBox;
@@ -21,6 +22,8 @@ import javafx.scene.text.FontWeight;
  * Used as a side panel or summary to show the current game participants visually.
  * 
  * Each row is styled with padding, spacing, and consistent fonts and sizes.
+ * Below each name, the player's saved statistics are read from the
+ * precomputed {@link MatchHistory} rollups.
  * 
  *  
  */
@@ -33,12 +36,13 @@ public class PlayerRowsVisual extends VBox {
      * @param players the list of players to display
      */
     public PlayerRowsVisual(List<Player> players) {
+        MatchHistory.instance().refresh();
         players.stream().forEach(this::createPlayerRow);
     }
 
     /**
      * Creates and adds a visual row for a single player.
-     * The row contains the player's icon and name in an HBox.
+     * The row contains the player's icon, name and statistics in an HBox.
      *
      * @param player the player to display
      */
@@ -46,7 +50,7 @@ public class PlayerRowsVisual extends VBox {
         HBox row = new HBox();
         row.setBackground(Background.fill(Color.WHITE));
 
-        ImageView playerIcon = new ImageView(new Image(getClass().getResourceAsStream(player.getIcon())));
+        ImageView playerIcon = new ImageView(IconCache.get(player.getIcon(), 50));
         playerIcon.setFitWidth(50);
         playerIcon.setFitHeight(50);
 
@@ -55,9 +59,16 @@ public class PlayerRowsVisual extends VBox {
         name.setFont(Font.font("System", FontWeight.BOLD, 18));
         name.setPrefWidth(100);
 
+        Label stats = new Label(MatchHistory.instance().getRollup(player.getName()).summary());
+        stats.setWrapText(true);
+        stats.setMaxWidth(200);
+
+        VBox details = new VBox(2, name, stats);
+        details.setAlignment(Pos.CENTER_LEFT);
+
         row.setAlignment(Pos.CENTER);
         row.setSpacing(75);
-        row.getChildren().addAll(playerIcon, name);
+        row.getChildren().addAll(playerIcon, details);
 
         this.getChildren().addAll(row);
     }
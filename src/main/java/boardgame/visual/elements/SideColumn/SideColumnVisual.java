@@ -2,11 +2,14 @@ package boardgame.visual.elements.SideColumn;
 
 import java.util.List;
 
+import boardgame.controller.Autoplay;
 import boardgame.controller.GameControllers.GameController;
 import boardgame.model.Player;
 import boardgame.utils.ScreenDimension;
 import boardgame.visual.scenes.Ingame.Ingame;
 import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 
@@ -15,13 +18,22 @@ import javafx.scene.layout.VBox;
  * This panel includes the dice animation, roll button, and player list.
  * 
  * It is used as an interactive and informative sidebar during gameplay.
+ * Pressing F3 shows a debug overlay with the latency of recent turns.
  * 
  *  
  */
 public class SideColumnVisual extends VBox {
 
+    /**
+     * The number of players from which the player list scrolls.
+     */
+    private static final int SCROLLING_PLAYER_COUNT = 6;
+
     private final DiceAnimation diceAnimation;
     private final DiceButtonVisual rollButton;
+    private final Button autoplayButton;
+    private final TurnLatencyOverlay latencyOverlay = new TurnLatencyOverlay();
+    private Autoplay autoplay;
 
     /**
      * Constructs the side column visual with a dice roller, roll button,
@@ -47,6 +59,10 @@ public class SideColumnVisual extends VBox {
 
         rollButton.getStyleClass().add("button-common");
 
+        this.autoplayButton = new Button("Autoplay: Off");
+        autoplayButton.getStyleClass().add("button-common");
+        autoplayButton.setOnAction(e -> cycleAutoplay(gameController, ingame));
+
         BorderPane diceWrapper = new BorderPane();
         diceWrapper.setCenter(diceAnimation);
         diceWrapper.setMaxWidth(Double.MAX_VALUE);
@@ -54,16 +70,65 @@ public class SideColumnVisual extends VBox {
 
         this.getChildren().add(diceWrapper);
         this.getChildren().add(rollButton);
-        this.getChildren().add(new PlayerRowsVisual(players).getPlayerRows());
+        this.getChildren().add(autoplayButton);
+        PlayerRowsVisual playerRows = new PlayerRowsVisual(players).getPlayerRows();
+        if (players.size() >= SCROLLING_PLAYER_COUNT) {
+            ScrollPane playerRowsScroller = new ScrollPane(playerRows);
+            playerRowsScroller.setFitToWidth(true);
+            playerRowsScroller.setMaxHeight(ScreenDimension.getScreenHeight() * 0.5);
+            this.getChildren().add(playerRowsScroller);
+        } else {
+            this.getChildren().add(playerRows);
+        }
+        this.getChildren().add(latencyOverlay);
 
         this.setAlignment(Pos.CENTER);
     }
 
+    /**
+     * Switches autoplay to its next setting: off, then each speed from
+     * slowest to fastest, then off again. The driver is created on first use,
+     * once the game's roll handler exists.
+     *
+     * @param gameController the game logic controller
+     * @param ingame reference to the main ingame UI for the roll handler
+     */
+    private void cycleAutoplay(GameController gameController, Ingame ingame) {
+        if (autoplay == null) {
+            autoplay = new Autoplay(gameController, ingame.getRollHandler(), rollButton);
+        }
+
+        Autoplay.Speed[] speeds = Autoplay.Speed.values();
+        if (!autoplay.isRunning()) {
+            autoplay.start(speeds[0]);
+        } else if (Autoplay.getSpeed().ordinal() == speeds.length - 1) {
+            autoplay.stop();
+        } else {
+            autoplay.start(speeds[Autoplay.getSpeed().ordinal() + 1]);
+        }
+
+        autoplayButton.setText("Autoplay: " + (autoplay.isRunning() ? Autoplay.getSpeed().getLabel() : "Off"));
+        rollButton.setDisable(autoplay.isRunning());
+    }
+
     /**
      * Re-enables the roll button to allow the player to roll the dice again.
+     * The button stays disabled while autoplay is rolling.
      */
     public void turnOnButton() {
-        rollButton.setDisable(false);
+        rollButton.setDisable(autoplay != null && autoplay.isRunning());
+    }
+
+    /**
+     * Stops autoplay, the dice animation and the latency overlay when the
+     * game is left.
+     */
+    public void dispose() {
+        if (autoplay != null) {
+            autoplay.stop();
+        }
+        diceAnimation.stop();
+        latencyOverlay.dispose();
     }
 
     /**
@@ -0,0 +1,128 @@
+package boardgame.visual.elements.SideColumn;
+
+import java.util.List;
+
+import boardgame.controller.FrameMonitor;
+import boardgame.utils.SceneGraph;
+import boardgame.utils.TurnTracer;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.event.EventHandler;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+/**
+ * A debug panel showing where the time of recent turns went, as traced by
+ * {@link TurnTracer}. For every span of a turn it shows the median, 99th
+ * percentile and longest time, followed by a histogram of whole turns. It
+ * also shows the {@link FrameMonitor} quality, the average frame time and
+ * the frames dropped so far, and the number of nodes in the scene.
+ * <p>
+ * The panel is hidden until F3 is pressed, and refreshes twice a second
+ * while shown.
+ */
+public class TurnLatencyOverlay extends VBox {
+
+    private static final long[] HISTOGRAM_BOUNDS_MILLIS = {16, 33, 50, 100, 250, 500, 1000, 2000};
+    private static final int BAR_WIDTH = 20;
+
+    private final Label text = new Label();
+    private final Timeline refresher = new Timeline(new KeyFrame(Duration.millis(500), e -> refresh()));
+    private final EventHandler<KeyEvent> toggleKey = e -> {
+        if (e.getCode() == KeyCode.F3) {
+            toggle();
+            e.consume();
+        }
+    };
+
+    /**
+     * Constructs the hidden overlay.
+     */
+    public TurnLatencyOverlay() {
+        this.setStyle("-fx-background-color: rgba(0, 0, 0, 0.75); -fx-padding: 8;");
+        text.setStyle("-fx-font-family: monospace; -fx-text-fill: white; -fx-font-size: 11;");
+        this.getChildren().add(text);
+
+        this.setVisible(false);
+        this.managedProperty().bind(visibleProperty());
+        refresher.setCycleCount(Animation.INDEFINITE);
+
+        this.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.removeEventFilter(KeyEvent.KEY_PRESSED, toggleKey);
+            }
+            if (newScene != null) {
+                newScene.addEventFilter(KeyEvent.KEY_PRESSED, toggleKey);
+            }
+        });
+    }
+
+    /**
+     * Shows the overlay if hidden, and hides it if shown.
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+        if (isVisible()) {
+            refresh();
+            refresher.play();
+        } else {
+            refresher.stop();
+        }
+    }
+
+    /**
+     * Stops refreshing and stops listening for F3 when the game is left.
+     */
+    public void dispose() {
+        refresher.stop();
+        Scene scene = getScene();
+        if (scene != null) {
+            scene.removeEventFilter(KeyEvent.KEY_PRESSED, toggleKey);
+        }
+    }
+
+    private void refresh() {
+        List<TurnTracer.Record> records = TurnTracer.snapshot();
+        StringBuilder out = new StringBuilder();
+
+        TurnTracer.Summary total = TurnTracer.summarize(records, TurnTracer.Span.TOTAL);
+        out.append(String.format("Turn latency, last %d turns (F3)%n", total.count()));
+        out.append(String.format("Quality %s, %.1f ms frames, %d dropped frames%n",
+                FrameMonitor.getQuality(), millis(FrameMonitor.getAverageFrameNanos()),
+                FrameMonitor.getDroppedFrames()));
+        if (getScene() != null) {
+            out.append(String.format("%d scene nodes%n", SceneGraph.countNodes(getScene().getRoot())));
+        }
+        out.append(String.format("%-10s %8s %8s %8s%n", "ms", "p50", "p99", "max"));
+        for (TurnTracer.Span span : TurnTracer.Span.values()) {
+            TurnTracer.Summary summary = TurnTracer.summarize(records, span);
+            out.append(String.format("%-10s %8.1f %8.1f %8.1f%n", span.getLabel(),
+                    millis(summary.p50Nanos()), millis(summary.p99Nanos()), millis(summary.maxNanos())));
+        }
+
+        out.append(String.format("%nWhole turns%n"));
+        int[] counts = TurnTracer.histogram(records, TurnTracer.Span.TOTAL, HISTOGRAM_BOUNDS_MILLIS);
+        int most = 1;
+        for (int count : counts) {
+            most = Math.max(most, count);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            String bucket = i < HISTOGRAM_BOUNDS_MILLIS.length
+                    ? "< " + HISTOGRAM_BOUNDS_MILLIS[i] + " ms"
+                    : ">= " + HISTOGRAM_BOUNDS_MILLIS[i - 1] + " ms";
+            String bar = "#".repeat((int) Math.ceil((double) counts[i] * BAR_WIDTH / most));
+            out.append(String.format("%-10s %-" + BAR_WIDTH + "s %d%n", bucket, bar, counts[i]));
+        }
+
+        text.setText(out.toString());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,496 @@
+package boardgame.visual.elements.SnL;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import boardgame.model.Observer.PlayerObserver;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.model.boardFiles.Tile;
+import boardgame.model.effectFiles.LadderEffect;
+import boardgame.model.effectFiles.MovementEffect;
+import boardgame.utils.IconCache;
+import boardgame.utils.ScreenDimension;
+import boardgame.utils.TurnTracer;
+import boardgame.utils.movementType;
+import boardgame.visual.gameLayers.AnimationQueue;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * A pannable, zoomable view of a Snakes and Ladders board of any size, with
+ * the players' tokens on it.
+ * <p>
+ * The board is drawn into one {@link Canvas} the size of the view, not the
+ * size of the board. A frame draws only the tiles inside the view, the
+ * ladders and snakes whose bounds overlap it (looked up in a grid of
+ * {@link #CHUNK_SIZE} by {@link #CHUNK_SIZE} tile chunks) and the tokens on
+ * the visible tiles, so its cost follows the size of the view. When tiles
+ * are drawn smaller than {@link #DETAIL_PITCH} pixels, tile numbers and
+ * effect art are left out: effect tiles are only shown by their color and
+ * tokens by a dot.
+ * <p>
+ * Drag to pan and scroll to zoom. The view follows each move. Moves are
+ * shown at once, so the animation queue only sequences the roll handler's
+ * follow-up work.
+ */
+public class BoardViewport extends Region implements PlayerObserver, AnimationQueue {
+
+    /**
+     * The smallest tile pitch, in pixels, at which numbers, effect art and
+     * token icons are drawn.
+     */
+    public static final double DETAIL_PITCH = 40;
+
+    /**
+     * The largest tile pitch, in pixels.
+     */
+    public static final double MAX_PITCH = 120;
+
+    /**
+     * The width and height, in tiles, of the chunks effects are indexed by.
+     */
+    public static final int CHUNK_SIZE = 16;
+
+    private static final double ART_PITCH = 100;
+    private static final double GAP = 4;
+    private static final double ZOOM_STEP = 1.15;
+    private static final double ICON_SIZE = 64;
+
+    private final SnLBoard board;
+    private final int columns;
+    private final int rows;
+    private final Canvas canvas = new Canvas();
+
+    private final int chunkColumns;
+    private final List<List<MovementEffect>> chunks = new ArrayList<>();
+    private final Set<MovementEffect> visibleEffects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Image, ChangeListener<Number>> loadingIcons = new IdentityHashMap<>();
+
+    private final Map<Player, Integer> positions = new HashMap<>();
+    private final Map<Integer, List<Player>> occupants = new HashMap<>();
+
+    private final Queue<Runnable> animationQueue = new LinkedList<>();
+    private boolean isAnimating = false;
+    private boolean disposed = false;
+
+    private double pitch = DETAIL_PITCH;
+    private double offsetX = 0;
+    private double offsetY = 0;
+    private double dragX;
+    private double dragY;
+    private boolean renderScheduled = false;
+    private boolean laidOut = false;
+
+    /**
+     * Constructs a view of the given board with all players on the first
+     * tile.
+     *
+     * @param board   the board to show.
+     * @param players the players whose tokens to show.
+     */
+    public BoardViewport(SnLBoard board, List<Player> players) {
+        this.board = board;
+        this.columns = board.getBoardWidth();
+        this.rows = board.getBoardHeight();
+
+        this.chunkColumns = (columns + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int chunkRows = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        for (int i = 0; i < chunkColumns * chunkRows; i++) {
+            chunks.add(new ArrayList<>());
+        }
+        board.getTilesWithLadders().forEach(tile -> indexEffect((MovementEffect) tile.getEffect()));
+        board.getTilesWithSnakes().forEach(tile -> indexEffect((MovementEffect) tile.getEffect()));
+
+        players.forEach(player -> moveOccupant(player, 1));
+
+        double dimension = ScreenDimension.getScreenHeight() - 200;
+        this.setPrefSize(dimension, dimension);
+        this.setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
+        this.setStyle("-fx-background-color: black;");
+        this.getChildren().add(canvas);
+
+        this.setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        this.setOnMouseDragged(e -> {
+            offsetX -= e.getX() - dragX;
+            offsetY -= e.getY() - dragY;
+            dragX = e.getX();
+            dragY = e.getY();
+            clampOffsets();
+            requestRender();
+        });
+        this.setOnScroll(e -> {
+            if (e.getDeltaY() != 0) {
+                zoomAt(e.getX(), e.getY(), e.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP);
+            }
+        });
+    }
+
+    /**
+     * Returns the current tile pitch, the on-screen distance between the
+     * starts of two neighbouring tiles.
+     *
+     * @return the pitch in pixels.
+     */
+    public double getPitch() {
+        return pitch;
+    }
+
+    /**
+     * Zooms in or out, keeping the board point under the given view
+     * position in place.
+     *
+     * @param x      the x position in the view to zoom around.
+     * @param y      the y position in the view to zoom around.
+     * @param factor the factor to multiply the tile pitch by.
+     */
+    public void zoomAt(double x, double y, double factor) {
+        double boardX = (offsetX + x) / pitch;
+        double boardY = (offsetY + y) / pitch;
+
+        pitch = Math.max(minPitch(), Math.min(MAX_PITCH, pitch * factor));
+        offsetX = boardX * pitch - x;
+        offsetY = boardY * pitch - y;
+
+        clampOffsets();
+        requestRender();
+    }
+
+    /**
+     * Pans the view so that the given tile is in its center.
+     *
+     * @param tileNumber the tile to center on.
+     */
+    public void centerOn(int tileNumber) {
+        offsetX = (board.getColumn(tileNumber) + 0.5) * pitch - getWidth() / 2;
+        offsetY = (board.getRow(tileNumber) + 0.5) * pitch - getHeight() / 2;
+        clampOffsets();
+        requestRender();
+    }
+
+    /**
+     * Moves the player's token to its new tile and follows it with the view.
+     */
+    @Override
+    public void registerPlayerMove(Player player, int newTileNumber, movementType movementType) {
+        moveOccupant(player, newTileNumber);
+        centerOn(newTileNumber);
+    }
+
+    /**
+     * Queues a follow-up of a turn. Moves are shown at once here, so only
+     * these follow-ups are ever queued, and a newer one stands for any that
+     * are still waiting; this keeps the queue at one entry under autoplay.
+     */
+    @Override
+    public void addToAnimationQueue(Runnable animation) {
+        if (disposed) {
+            return;
+        }
+        animationQueue.clear();
+        animationQueue.add(animation);
+        if (!isAnimating) {
+            isAnimating = true;
+            runNextAnimation();
+        }
+    }
+
+    @Override
+    public void runNextAnimation() {
+        if (disposed) {
+            return;
+        }
+        Runnable next = animationQueue.poll();
+        if (next != null) {
+            next.run();
+        } else {
+            isAnimating = false;
+            TurnTracer.animationsSettled(getScene());
+        }
+    }
+
+    /**
+     * Ends this view's lifecycle when its game is left: drops queued
+     * animations, detaches the listeners on loading icons and forgets the
+     * players.
+     */
+    public void dispose() {
+        disposed = true;
+        animationQueue.clear();
+        isAnimating = false;
+        TurnTracer.discardOpenTurns();
+
+        loadingIcons.forEach((icon, listener) -> icon.progressProperty().removeListener(listener));
+        loadingIcons.clear();
+        positions.clear();
+        occupants.clear();
+    }
+
+    /**
+     * Resizes the canvas to the view, keeping the view on the board.
+     */
+    @Override
+    protected void layoutChildren() {
+        if (canvas.getWidth() != getWidth() || canvas.getHeight() != getHeight()) {
+            canvas.setWidth(getWidth());
+            canvas.setHeight(getHeight());
+            pitch = Math.max(pitch, minPitch());
+            clampOffsets();
+            requestRender();
+
+            // Start at the first tile, in the bottom-left corner
+            if (!laidOut && getWidth() > 0) {
+                laidOut = true;
+                centerOn(1);
+            }
+        }
+    }
+
+    private void moveOccupant(Player player, int tileNumber) {
+        Integer previous = positions.put(player, tileNumber);
+        if (previous != null) {
+            List<Player> left = occupants.get(previous);
+            left.remove(player);
+            if (left.isEmpty()) {
+                occupants.remove(previous);
+            }
+        }
+        occupants.computeIfAbsent(tileNumber, tile -> new ArrayList<>()).add(player);
+        requestRender();
+    }
+
+    /**
+     * Adds an effect to every chunk its bounds overlap.
+     */
+    private void indexEffect(MovementEffect effect) {
+        int baseColumn = board.getColumn(effect.getBaseTileIndex());
+        int targetColumn = board.getColumn(effect.getTargetTileIndex());
+        int baseRow = board.getRow(effect.getBaseTileIndex());
+        int targetRow = board.getRow(effect.getTargetTileIndex());
+
+        for (int chunkRow = Math.min(baseRow, targetRow) / CHUNK_SIZE;
+                chunkRow <= Math.max(baseRow, targetRow) / CHUNK_SIZE; chunkRow++) {
+            for (int chunkColumn = Math.min(baseColumn, targetColumn) / CHUNK_SIZE;
+                    chunkColumn <= Math.max(baseColumn, targetColumn) / CHUNK_SIZE; chunkColumn++) {
+                chunks.get(chunkRow * chunkColumns + chunkColumn).add(effect);
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest pitch, at which the whole board fits in the view.
+     */
+    private double minPitch() {
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            return 1;
+        }
+        return Math.min(DETAIL_PITCH, Math.max(1, Math.min(getWidth() / columns, getHeight() / rows)));
+    }
+
+    /**
+     * Keeps the view on the board, centering the board along any axis it
+     * does not fill.
+     */
+    private void clampOffsets() {
+        offsetX = clampOffset(offsetX, columns * pitch, getWidth());
+        offsetY = clampOffset(offsetY, rows * pitch, getHeight());
+    }
+
+    private static double clampOffset(double offset, double boardSize, double viewSize) {
+        if (boardSize <= viewSize) {
+            return (boardSize - viewSize) / 2;
+        }
+        return Math.max(0, Math.min(boardSize - viewSize, offset));
+    }
+
+    private void requestRender() {
+        if (!renderScheduled) {
+            renderScheduled = true;
+            Platform.runLater(this::render);
+        }
+    }
+
+    /**
+     * Draws the visible part of the board.
+     */
+    private void render() {
+        renderScheduled = false;
+
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, width, height);
+
+        int firstColumn = Math.max(0, (int) Math.floor(offsetX / pitch));
+        int lastColumn = Math.min(columns - 1, (int) Math.floor((offsetX + width) / pitch));
+        int firstRow = Math.max(0, (int) Math.floor(offsetY / pitch));
+        int lastRow = Math.min(rows - 1, (int) Math.floor((offsetY + height) / pitch));
+        if (firstColumn > lastColumn || firstRow > lastRow) {
+            return;
+        }
+
+        boolean detailed = pitch >= DETAIL_PITCH;
+        double cellSize = pitch > GAP * 2 ? pitch - GAP : pitch;
+
+        if (detailed) {
+            gc.setFont(Font.font("System", Math.min(24, pitch / 4)));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+        }
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                Tile tile = board.getTiles().get(board.getTileAt(column, row) - 1);
+                double x = column * pitch - offsetX;
+                double y = row * pitch - offsetY;
+
+                gc.setFill(tile.getEffect() != null ? tile.getEffect().getColor() : Color.WHITE);
+                gc.fillRect(x, y, cellSize, cellSize);
+
+                if (detailed) {
+                    gc.setFill(tile.getEffect() != null ? Color.WHITE : Color.BLACK);
+                    gc.fillText(Integer.toString(tile.getNumber()), x + cellSize / 2, y + cellSize / 2);
+                }
+            }
+        }
+
+        if (detailed) {
+            paintEffects(gc, firstColumn, lastColumn, firstRow, lastRow);
+        }
+
+        paintTokens(gc, firstColumn, lastColumn, firstRow, lastRow, cellSize, detailed);
+    }
+
+    /**
+     * Draws the ladders and snakes in the chunks around the visible tiles.
+     * One extra tile on every side catches art that reaches past its tiles.
+     */
+    private void paintEffects(GraphicsContext gc, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        int lastChunkRow = (rows - 1) / CHUNK_SIZE;
+        int lastChunkColumn = chunkColumns - 1;
+
+        visibleEffects.clear();
+        for (int chunkRow = Math.max(0, (firstRow - 1) / CHUNK_SIZE);
+                chunkRow <= Math.min(lastChunkRow, (lastRow + 1) / CHUNK_SIZE); chunkRow++) {
+            for (int chunkColumn = Math.max(0, (firstColumn - 1) / CHUNK_SIZE);
+                    chunkColumn <= Math.min(lastChunkColumn, (lastColumn + 1) / CHUNK_SIZE); chunkColumn++) {
+                visibleEffects.addAll(chunks.get(chunkRow * chunkColumns + chunkColumn));
+            }
+        }
+
+        double scale = pitch / ART_PITCH;
+        for (MovementEffect effect : visibleEffects) {
+            int baseColumn = board.getColumn(effect.getBaseTileIndex());
+            int baseRow = board.getRow(effect.getBaseTileIndex());
+            int dx = board.getColumn(effect.getTargetTileIndex()) - baseColumn;
+            int dy = board.getRow(effect.getTargetTileIndex()) - baseRow;
+            double hypotenuse = Math.sqrt((dx * dx) + (dy * dy));
+            double angle = Math.toDegrees(Math.atan2(dx, dy));
+
+            // Same placement as LadderLayer, in art units scaled to the pitch
+            gc.save();
+            gc.translate(baseColumn * pitch - offsetX, baseRow * pitch - offsetY);
+            gc.scale(scale, scale);
+            gc.translate(12.5 + 25, (ART_PITCH - GAP) / 2);
+            gc.rotate(-angle);
+            gc.translate(-25, 0);
+            if (effect instanceof LadderEffect) {
+                LadderVisual.paint(gc, hypotenuse * ART_PITCH);
+            } else {
+                SnakeVisual.paint(gc, hypotenuse * ART_PITCH);
+            }
+            gc.restore();
+        }
+    }
+
+    /**
+     * Draws the tokens on the visible tiles: one icon with a count badge per
+     * tile when zoomed in, or one dot per occupied tile when zoomed out.
+     * Walks whichever is smaller of the visible tiles and the occupied ones.
+     */
+    private void paintTokens(GraphicsContext gc, int firstColumn, int lastColumn, int firstRow, int lastRow,
+            double cellSize, boolean detailed) {
+        int visibleTiles = (lastColumn - firstColumn + 1) * (lastRow - firstRow + 1);
+
+        if (occupants.size() < visibleTiles) {
+            for (Map.Entry<Integer, List<Player>> entry : occupants.entrySet()) {
+                int column = board.getColumn(entry.getKey());
+                int row = board.getRow(entry.getKey());
+                if (column >= firstColumn && column <= lastColumn && row >= firstRow && row <= lastRow) {
+                    paintOccupants(gc, column, row, entry.getValue(), cellSize, detailed);
+                }
+            }
+        } else {
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    List<Player> group = occupants.get(board.getTileAt(column, row));
+                    if (group != null) {
+                        paintOccupants(gc, column, row, group, cellSize, detailed);
+                    }
+                }
+            }
+        }
+    }
+
+    private void paintOccupants(GraphicsContext gc, int column, int row, List<Player> group,
+            double cellSize, boolean detailed) {
+        double x = column * pitch - offsetX;
+        double y = row * pitch - offsetY;
+
+        if (!detailed) {
+            double radius = Math.max(1, cellSize * 0.35);
+            gc.setFill(Color.BLACK);
+            gc.fillOval(x + cellSize / 2 - radius, y + cellSize / 2 - radius, radius * 2, radius * 2);
+            return;
+        }
+
+        // Icons are decoded at one size and scaled, so zooming decodes nothing
+        double iconSize = cellSize * 0.6;
+        Image icon = IconCache.get(group.get(0).getIcon(), ICON_SIZE);
+        if (icon != null && icon.getProgress() < 1 && !loadingIcons.containsKey(icon)) {
+            // The icon is shared through the cache, so the listener must not outlive its load
+            ChangeListener<Number> listener = (obs, oldValue, newValue) -> {
+                if (newValue.doubleValue() >= 1) {
+                    icon.progressProperty().removeListener(loadingIcons.remove(icon));
+                    requestRender();
+                }
+            };
+            loadingIcons.put(icon, listener);
+            icon.progressProperty().addListener(listener);
+        }
+        if (icon != null) {
+            gc.drawImage(icon, x + (cellSize - iconSize) / 2, y + (cellSize - iconSize) / 2, iconSize, iconSize);
+        }
+
+        if (group.size() > 1) {
+            double radius = cellSize * 0.18;
+            double badgeX = x + cellSize - radius;
+            double badgeY = y + radius;
+            gc.setFill(Color.web("#333333"));
+            gc.fillOval(badgeX - radius, badgeY - radius, radius * 2, radius * 2);
+            gc.setFill(Color.WHITE);
+            gc.setFont(Font.font("System", FontWeight.BOLD, radius));
+            gc.fillText(Integer.toString(group.size()), badgeX, badgeY);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package boardgame.visual.elements.SnL;
 
-import java.util.Iterator;
 import java.util.List;
 
 import boardgame.model.boardFiles.Tile;
@@ -8,10 +7,10 @@ import boardgame.model.effectFiles.LadderEffect;
 import boardgame.model.effectFiles.MovementEffect;
 import boardgame.model.effectFiles.SnakeEffect;
 import boardgame.utils.ScreenDimension;
-import boardgame.visual.elements.TileVisual;
+import boardgame.visual.elements.BoardVisual;
 import javafx.scene.Group;
-import javafx.scene.Node;
-import javafx.scene.layout.GridPane;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.scene.transform.Rotate;
 
@@ -21,6 +20,8 @@ import javafx.scene.transform.Rotate;
  * 
  * This layer is purely decorative and uses transformations to draw rotated
  * {@link LadderVisual} and {@link SnakeVisual} elements between tile positions.
+ * With canvas rendering enabled, the same shapes are drawn into one
+ * {@link Canvas} instead of being added as nodes.
  * 
  *  
  */
@@ -30,6 +31,7 @@ public class LadderLayer extends Pane {
     final double TILE_SIZE = (ScreenDimension.getScreenHeight() - 200) / 10; 
     final int GAP = 4;
     final double spacing = TILE_SIZE + GAP;
+    private Canvas canvas = null;
     
     private enum EffectType {
         LADDER, SNAKE
@@ -49,6 +51,29 @@ public class LadderLayer extends Pane {
         this.prefWidthProperty().bind(boardVisual.getTileGrid().widthProperty());
         this.prefHeightProperty().bind(boardVisual.getTileGrid().heightProperty());
 
+        if (BoardVisual.isCanvasRendering()) {
+            canvas = new Canvas(10 * spacing, 9 * spacing);
+            this.getChildren().add(canvas);
+        }
+
+        rebuild(tilesWithLadders, tilesWithSnakes);
+    }
+
+    /**
+     * Removes all ladders and snakes and renders the given ones. Each effect
+     * is placed with two lookups in the board's tile position table, so this
+     * takes time linear in the number of effects.
+     *
+     * @param tilesWithLadders tiles that contain {@link LadderEffect}s
+     * @param tilesWithSnakes tiles that contain {@link SnakeEffect}s
+     */
+    public void rebuild(List<Tile> tilesWithLadders, List<Tile> tilesWithSnakes) {
+        if (canvas != null) {
+            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        } else {
+            this.getChildren().clear();
+        }
+
         tilesWithLadders.stream()
             .map(tile -> (MovementEffect) tile.getEffect())
             .forEach(effect -> renderEffect(effect, EffectType.LADDER));
@@ -56,7 +81,6 @@ public class LadderLayer extends Pane {
         tilesWithSnakes.stream()
             .map(tile -> (MovementEffect) tile.getEffect())
             .forEach(effect -> renderEffect(effect, EffectType.SNAKE));
-    
     }
 
     /**
@@ -66,32 +90,29 @@ public class LadderLayer extends Pane {
      * @param type the type of effect (ladder or snake)
      */
     private void renderEffect(MovementEffect effect, EffectType type) {
-        Integer baseX = null, baseY = null;
-        Integer targetX = null, targetY = null;
-
-        int baseIndex = effect.getBaseTileIndex();
-        int targetIndex = effect.getTargetTileIndex();
-
-        Iterator<Node> tileIterator = boardVisual.getTileGrid().getChildren().iterator();
-
-        while (((baseX == null) || (targetX == null)) && tileIterator.hasNext()) {
-            Node tileNode = tileIterator.next();
-
-            if (tileNode instanceof TileVisual tileVisual) {
-                int number = tileVisual.getTile().getNumber();
-                if (number == baseIndex) {
-                    baseX = GridPane.getColumnIndex(tileVisual);
-                    baseY = GridPane.getRowIndex(tileVisual);
-                } else if (number == targetIndex) {
-                    targetX = GridPane.getColumnIndex(tileVisual);
-                    targetY = GridPane.getRowIndex(tileVisual);
-                }
-            }
-        }
+        int baseX = boardVisual.getTileColumn(effect.getBaseTileIndex());
+        int baseY = boardVisual.getTileRow(effect.getBaseTileIndex());
 
-        int dx = targetX - baseX;
-        int dy = targetY - baseY;
+        int dx = boardVisual.getTileColumn(effect.getTargetTileIndex()) - baseX;
+        int dy = boardVisual.getTileRow(effect.getTargetTileIndex()) - baseY;
         double hypotenuse = Math.sqrt((dx * dx) + (dy * dy));
+        double angle = Math.toDegrees(Math.atan2(dx, dy));
+
+        if (canvas != null) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.save();
+            gc.translate(baseX * spacing + 12.5, baseY * spacing + TILE_SIZE / 2);
+            gc.translate(25, 0);
+            gc.rotate(-angle);
+            gc.translate(-25, 0);
+            if (type == EffectType.LADDER) {
+                LadderVisual.paint(gc, hypotenuse * spacing);
+            } else {
+                SnakeVisual.paint(gc, hypotenuse * spacing);
+            }
+            gc.restore();
+            return;
+        }
 
         Group visual;
         if (type == EffectType.LADDER) {
@@ -103,7 +124,6 @@ public class LadderLayer extends Pane {
         visual.setLayoutX(baseX * spacing + 12.5);
         visual.setLayoutY(baseY * spacing + TILE_SIZE / 2);
 
-        double angle = Math.toDegrees(Math.atan2(dx, dy));
         visual.getTransforms().add(new Rotate(-angle, 25, 0));
 
         this.getChildren().add(visual);
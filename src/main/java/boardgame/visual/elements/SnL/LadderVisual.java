@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.stream.IntStream;
 
 import javafx.scene.Group;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
@@ -57,4 +58,21 @@ public class LadderVisual extends Group {
         this.getChildren().addAll(rightPillar, leftPillar);
     }
 
+    /**
+     * Draws the same ladder as the constructor builds, into a canvas.
+     *
+     * @param gc     the graphics context to draw into, already positioned
+     *               and rotated
+     * @param length the height of the ladder in pixels
+     */
+    public static void paint(GraphicsContext gc, double length) {
+        gc.setFill(Color.BROWN);
+
+        int stepAmount = (int) length / 25;
+        IntStream.rangeClosed(0, stepAmount - 2).forEach(i -> gc.fillRect(10, 25 + i * 25, 30, 5));
+
+        gc.fillRect(40, 0, 10, length);
+        gc.fillRect(0, 0, 10, length);
+    }
+
 }
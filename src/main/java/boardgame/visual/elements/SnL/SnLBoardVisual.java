@@ -38,7 +38,7 @@ public final class SnLBoardVisual extends BoardVisual {
         this.prefWidthProperty().bind(tileGrid.widthProperty());
         this.prefHeightProperty().bind(tileGrid.heightProperty());
         this.setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
-        this.getChildren().addAll(tileGrid, ladderLayer);
+        setStaticLayers(tileGrid, ladderLayer);
     }
 
     /**
@@ -55,7 +55,6 @@ public final class SnLBoardVisual extends BoardVisual {
 
         for (int i = 0; i < 90; i++) {
             Tile tile = tileLogic.get(i);
-            TileVisual tileVisual = new TileVisual(tile, TILE_SIZE, TILE_SIZE);
 
             if ((i % 10) == 0) {
                 movesRight = !movesRight;
@@ -66,9 +65,10 @@ public final class SnLBoardVisual extends BoardVisual {
                     ? i % 10
                     : 10 - ((i % 10) + 1);
 
-            tileGrid.add(tileVisual, col, row);
+            addTileCell(tile, col, row, TILE_SIZE);
         }
 
+        renderCells();
     }
 
     /**
@@ -1,6 +1,7 @@
 package boardgame.visual.elements.SnL;
 
 import javafx.scene.Group;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
@@ -45,4 +46,20 @@ public class SnakeVisual extends Group {
         
         this.getChildren().addAll(toungue, skull, body);
     }
+
+    /**
+     * Draws the same snake as the constructor builds, into a canvas.
+     *
+     * @param gc     the graphics context to draw into, already positioned
+     *               and rotated
+     * @param length the total height of the snake in pixels
+     */
+    public static void paint(GraphicsContext gc, double length) {
+        gc.setFill(Color.RED);
+        gc.fillRect(22.5, length + 5, 5, 10);
+
+        gc.setFill(Color.ORANGE);
+        gc.fillOval(10, length - 20, 30, 30);
+        gc.fillRect(15, 0, 20, length - 15);
+    }
 }
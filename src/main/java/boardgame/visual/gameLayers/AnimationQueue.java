@@ -0,0 +1,23 @@
+package boardgame.visual.gameLayers;
+
+/**
+ * A queue of board animations that are played one after another. Roll
+ * handlers add follow-up work to it, such as re-enabling the roll button,
+ * so that it runs only once the tokens have finished moving.
+ */
+public interface AnimationQueue {
+
+    /**
+     * Adds an animation to the queue, starting it right away if nothing else
+     * is playing.
+     *
+     * @param animation the {@code Runnable} representing the animation.
+     */
+    void addToAnimationQueue(Runnable animation);
+
+    /**
+     * Executes the next animation in the queue. Called when an animation
+     * finishes.
+     */
+    void runNextAnimation();
+}
@@ -3,25 +3,19 @@ package boardgame.visual.gameLayers;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import boardgame.controller.GameControllers.LudoGameController;
+import boardgame.controller.Autoplay;
 import boardgame.model.Player;
+import boardgame.utils.IconCache;
 import boardgame.utils.LudoBoardTiles;
 import boardgame.utils.movementType;
 import boardgame.visual.elements.LudoBoardVisual;
-import javafx.animation.PauseTransition;
 import javafx.animation.TranslateTransition;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
-import javafx.util.Duration;
 
 /**
  * Visual layer for Ludo game tokens, managing their placement and movement
@@ -30,10 +24,6 @@ import javafx.util.Duration;
 public class LudoTokenLayer extends TokenLayer {
 
     private final Map<Color, List<Point>> colorHome = new HashMap<>();
-    private final Map<Player, Integer> positions = new HashMap<>();
-
-    private final Queue<Runnable> animationQueue = new LinkedList<>();
-    private boolean isAnimating = false;
 
     private final Map<Player, Color> playerColors = new HashMap<>();
 
@@ -53,13 +43,6 @@ public class LudoTokenLayer extends TokenLayer {
     public LudoTokenLayer(LudoBoardVisual boardVisual, List<Player> players) {
         super(boardVisual, players);
 
-        List<Point> playableTileCoordinates = LudoBoardTiles.getPlayableTiles();
-
-        IntStream.rangeClosed(1, playableTileCoordinates.size()).forEach(i -> {
-            cols.put(i, playableTileCoordinates.get(i - 1).x);
-            rows.put(i, playableTileCoordinates.get(i - 1).y);
-        });
-
         Map<Color, Integer> colorStartPositions = LudoBoardTiles.getColorStartPositions();
 
         List<Color> colors = new ArrayList<>(List.of(Color.YELLOW, Color.RED, Color.BLUE, Color.GREEN));
@@ -70,22 +53,22 @@ public class LudoTokenLayer extends TokenLayer {
             Player player = players.get(i);
             Color color = colors.get(i);
             playerColors.put(player, color); // Store player color
-            ImageView token = new ImageView(new Image(player.getIcon()));
-            token.setFitWidth(50);
-            token.setFitHeight(50);
+            ImageView token = new ImageView(IconCache.get(player.getIcon(), TOKEN_SIZE));
+            token.setFitWidth(TOKEN_SIZE);
+            token.setFitHeight(TOKEN_SIZE);
 
             playerTokens.put(player, token);
             this.getChildren().add(token);
 
             Integer startPosition = colorStartPositions.get(colors.get(i));
-            int x = cols.get(startPosition);
-            int y = rows.get(startPosition);
+            int x = col(startPosition);
+            int y = row(startPosition);
             token.setTranslateX(x * spacing);
             token.setTranslateY(y * spacing);
 
-            positions.put(player, colorStartPositions.get(colors.get(i)));
+            setPosition(player, startPosition);
 
-            ImageView startPortrait = new ImageView(new Image(player.getIcon()));
+            ImageView startPortrait = new ImageView(IconCache.get(player.getIcon(), spacing * 3));
             startPortrait.setFitWidth(spacing * 3);
             startPortrait.setFitHeight(spacing * 3);
 
@@ -130,21 +113,10 @@ public class LudoTokenLayer extends TokenLayer {
     @Override
     public void moveToken(Player player, int tileNumber) {
         resetTokenSize(player);
-        positions.replace(player, tileNumber);
+        setPosition(player, tileNumber);
 
-        ImageView token = playerTokens.get(player);
-
-        Integer col = cols.get(tileNumber);
-        Integer row = rows.get(tileNumber);
-
-        double targetX = col * boardVisual.getSpacing();
-        double targetY = row * boardVisual.getSpacing();
-
-        TranslateTransition move = new TranslateTransition(Duration.millis(300), token);
-        move.setToX(targetX);
-        move.setToY(targetY);
-        move.setOnFinished(e -> runNextAnimation());
-        move.play();
+        double spacing = boardVisual.getSpacing();
+        playPath(player, new double[]{col(tileNumber) * spacing}, new double[]{row(tileNumber) * spacing});
     }
 
     /**
@@ -156,45 +128,60 @@ public class LudoTokenLayer extends TokenLayer {
      */
     public void moveTokenThroughHome(Player player, Color color, int tileNumber) {
         resetTokenSize(player);
-        ImageView token = playerTokens.get(player);
-        List<Point> houseList = colorHome.get(color);
-
-        Integer col = houseList.get(tileNumber).x;
-        Integer row = houseList.get(tileNumber).y;
-
-        double targetX = col * boardVisual.getSpacing();
-        double targetY = row * boardVisual.getSpacing();
-
-        TranslateTransition move = new TranslateTransition(Duration.millis(300), token);
-        move.setToX(targetX);
-        move.setToY(targetY);
-        move.setOnFinished(e -> runNextAnimation());
-        move.play();
+        Point tile = colorHome.get(color).get(tileNumber);
 
+        double spacing = boardVisual.getSpacing();
+        playPath(player, new double[]{tile.x * spacing}, new double[]{tile.y * spacing});
     }
 
     /**
-     * Animates a player's token moving through their home path.
+     * Animates a player's token moving through their home path as one
+     * animation, one step per home tile.
      *
      * @param player         the player whose token to move.
      * @param color          the color of the player, used to determine the home path.
+     * @param fromTile       the player's position in the home path before the move (0 if not yet inside).
      * @param stopTile       the final tile number to reach within the home path (exclusive).
-     * @param gameController the Ludo game controller to access game state.
      */
-    public void movePlayerThroughHomePath(Player player, Color color, int stopTile, LudoGameController gameController) {
-        // Find current position in home path (0 if not yet inside)
-        int currentPosition = gameController.getHomePosition().get(player);
-
-        IntStream.range(currentPosition, stopTile).forEach(i -> {
-            PauseTransition pause = new PauseTransition(Duration.millis((i - currentPosition) * 300));
-            pause.setOnFinished(event -> moveTokenThroughHome(player, color, i));
-            pause.play();
-        });
+    public void movePlayerThroughHomePath(Player player, Color color, int fromTile, int stopTile) {
+        int currentPosition = fromTile;
+        resetTokenSize(player);
+
+        List<Point> houseList = colorHome.get(color);
+        double spacing = boardVisual.getSpacing();
+        int steps = Math.max(0, stopTile - currentPosition);
+        double[] xs = new double[steps];
+        double[] ys = new double[steps];
+        for (int i = 0; i < steps; i++) {
+            Point tile = houseList.get(currentPosition + i);
+            xs[i] = tile.x * spacing;
+            ys[i] = tile.y * spacing;
+        }
+        playPath(player, xs, ys);
     }
 
     /**
-     * Animates a player's token moving across multiple tiles on the main path.
-     * A short delay is introduced between each step.
+     * Queues a player's move through their home path. If the queue is
+     * coalesced, the token jumps straight to the last home tile reached.
+     *
+     * @param player   the player whose token to move.
+     * @param color    the color of the player, used to determine the home path.
+     * @param fromTile the player's position in the home path before the move (0 if not yet inside).
+     * @param stopTile the player's position in the home path after the move.
+     */
+    public void queueHomePath(Player player, Color color, int fromTile, int stopTile) {
+        enqueueMove(player,
+                () -> movePlayerThroughHomePath(player, color, fromTile, stopTile),
+                () -> {
+                    // The move onto the home entry may have been coalesced away
+                    setPosition(player, homeEntryTiles.get(color));
+                    moveTokenThroughHome(player, color, stopTile - 1);
+                });
+    }
+
+    /**
+     * Animates a player's token moving across multiple tiles on the main path
+     * as a single queued animation, one step per tile.
      *
      * @param player  the player to move.
      * @param endTile the final tile number to reach on the main path.
@@ -204,22 +191,22 @@ public class LudoTokenLayer extends TokenLayer {
         int playerPosition = player.getPosition();
 
         int adjustedNextPosition = endTile < playerPosition ? endTile + 56 : endTile;
-
-        IntStream.rangeClosed(0, Math.abs(adjustedNextPosition - playerPosition)).forEach(i -> {
-
-            AtomicInteger nextTile = new AtomicInteger(playerPosition + i);
-            if (nextTile.get() > 56) {
-                nextTile.set(nextTile.get() - 56);
+        int steps = Math.abs(adjustedNextPosition - playerPosition) + 1;
+
+        enqueueMove(player, () -> {
+            resetTokenSize(player);
+            setPosition(player, endTile);
+
+            double spacing = boardVisual.getSpacing();
+            double[] xs = new double[steps];
+            double[] ys = new double[steps];
+            for (int i = 0; i < steps; i++) {
+                int tile = playerPosition + i > 56 ? playerPosition + i - 56 : playerPosition + i;
+                xs[i] = col(tile) * spacing;
+                ys[i] = row(tile) * spacing;
             }
-
-            animationQueue.add(() -> moveToken(player, nextTile.get()));
-
-        });
-
-        if (!isAnimating) {
-            isAnimating = true;
-            runNextAnimation();
-        }
+            playPath(player, xs, ys);
+        }, () -> moveToken(player, endTile));
     }
 
     /**
@@ -233,27 +220,13 @@ public class LudoTokenLayer extends TokenLayer {
         double targetX = 7 * boardVisual.getSpacing();
         double targetY = 7 * boardVisual.getSpacing();
 
-        TranslateTransition move = new TranslateTransition(Duration.millis(300), token);
+        TranslateTransition move = new TranslateTransition(Autoplay.scaled(stepDuration()), token);
         move.setToX(targetX);
         move.setToY(targetY);
         move.play();
 
     }
 
-    /**
-     * Executes the next animation in the queue. If the queue is empty, it resets the animation flag
-     * and refreshes token sizes and positions.
-     */
-    public void runNextAnimation() {
-        Runnable next = animationQueue.poll();
-        if (next != null) {
-            next.run(); // This will call moveToken, which sets the animation
-        } else {
-            isAnimating = false;
-            refreshTokenSizesAndPositions();
-        }
-    }
-
     /**
      * Registers a player's move and initiates the corresponding visual animation.
      *
@@ -265,11 +238,8 @@ public class LudoTokenLayer extends TokenLayer {
     public void registerPlayerMove(Player player, int tileNumber, movementType movementType) {
         switch (movementType) {
             case INSTANT -> {
-                animationQueue.add(() -> moveToken(player, tileNumber));
-                if (!isAnimating) {
-                    isAnimating = true;
-                    runNextAnimation(); // ✅ Kick off the queue
-                }
+                Runnable move = () -> moveToken(player, tileNumber);
+                enqueueMove(player, move, move);
             }
 
             case PATH ->
@@ -279,81 +249,15 @@ public class LudoTokenLayer extends TokenLayer {
     }
 
     /**
-     * Calculates the offset for tokens occupying the same tile to prevent overlap.
-     *
-     * @param tokenCount the number of tokens on the tile.
-     * @return a 2D array of x and y offsets for each token.
-     */
-    private static double[][] getTokenOffsets(int tokenCount) {
-        return switch (tokenCount) {
-            case 2 ->
-                    new double[][]{{-0.1, -0.1}, {0.35, 0.35}};
-            case 3 ->
-                    new double[][]{{-0.1, -0.1}, {0.125, 0.125}, {0.35, 0.35}};
-            case 4 ->
-                    new double[][]{{-0.1, -0.1}, {-0.1, 0.35}, {0.35, -0.1}, {0.35, 0.35}};
-            case 5 ->
-                    new double[][]{{-0.1, -0.1}, {-0.1, 0.35}, {0.125, 0.125}, {0.35, -0.1}, {0.35, 0.35}};
-            default ->
-                    new double[][]{{0, 0}};
-        };
-    }
-
-    /**
-     * Adjusts the size and position of tokens on the board to handle multiple
-     * tokens on the same tile.
+     * Leaves out tokens waiting at their home path entry, which are placed
+     * by the home path animations instead.
      */
-    public void refreshTokenSizesAndPositions() {
-        double spacing = boardVisual.getSpacing();
-
-        List<List<Player>> playerGroups = positions.entrySet().stream()
-                .collect(Collectors.groupingBy(
-                        Map.Entry::getValue,
-                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())
-                ))
-                .values().stream()
-                .toList();
-
-        playerGroups.stream().forEach(group -> {
-            int tokenCount = group.size();
-            double[][] offsets = getTokenOffsets(tokenCount);
-
-            IntStream.range(0, tokenCount).forEach(i -> {
-            Player player = group.get(i);
-            ImageView token = playerTokens.get(player);
-
-            int pos = positions.get(player);
-            Color color = playerColors.get(player);
-
-            Integer homeEntry = homeEntryTiles.get(color);
-            if (homeEntry != null && pos == homeEntry) {
-                return; // Don't move token if it's at the home path entry
-            }
-
-            Integer col = cols.get(pos);
-            Integer row = rows.get(pos);
-
-            double baseX = col * spacing;
-            double baseY = row * spacing;
-
-            if (tokenCount > 1) {
-                token.setFitWidth(25);
-                token.setFitHeight(25);
-            } else {
-                token.setFitWidth(50);
-                token.setFitHeight(50);
-            }
-
-            double offsetX = offsets[i][0] * spacing;
-            double offsetY = offsets[i][1] * spacing;
-
-            token.setTranslateX(baseX + offsetX);
-            token.setTranslateY(baseY + offsetY);
-            });
-        });
+    @Override
+    protected boolean isLaidOut(Player player, int tile) {
+        Integer homeEntry = homeEntryTiles.get(playerColors.get(player));
+        return homeEntry == null || tile != homeEntry;
     }
 
-
     /**
      * Resets a player's token to its standard size and its current position.
      *
@@ -364,11 +268,11 @@ public class LudoTokenLayer extends TokenLayer {
         ImageView token = playerTokens.get(player);
         int tile = positions.get(player);
 
-        int col = cols.get(tile);
-        int row = rows.get(tile);
+        int col = col(tile);
+        int row = row(tile);
 
-        token.setFitWidth(50);
-        token.setFitHeight(50);
+        token.setFitWidth(TOKEN_SIZE);
+        token.setFitHeight(TOKEN_SIZE);
 
         token.setTranslateX(col * spacing);
         token.setTranslateY(row * spacing);
@@ -382,22 +286,9 @@ public class LudoTokenLayer extends TokenLayer {
     public void resetTokenSize(Player player) {
         ImageView token = playerTokens.get(player);
 
-        token.setFitWidth(50);
-        token.setFitHeight(50);
-
-    }
+        token.setFitWidth(TOKEN_SIZE);
+        token.setFitHeight(TOKEN_SIZE);
 
-    /**
-     * Adds an animation to the animation queue to be played sequentially.
-     *
-     * @param animation the {@code Runnable} representing the animation.
-     */
-    public void addToAnimationQueue(Runnable animation) {
-        animationQueue.add(animation);
-        if (!isAnimating) {
-            isAnimating = true;
-            runNextAnimation();
-        }
     }
 
-}
\ No newline at end of file
+}
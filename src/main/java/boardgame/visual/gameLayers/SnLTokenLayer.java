@@ -1,33 +1,68 @@
 package boardgame.visual.gameLayers;
 
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Set;
 
+import boardgame.controller.Autoplay;
+import boardgame.controller.FrameMonitor;
 import boardgame.model.Player;
+import boardgame.utils.IconCache;
 import boardgame.utils.movementType;
 import boardgame.visual.elements.SnL.SnLBoardVisual;
 import javafx.animation.PauseTransition;
-import javafx.animation.TranslateTransition;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
 
 /**
  * A stateless visual layer for animating player tokens on a Snakes and Ladders
  * board. Uses a single global queue to animate token movements one at a time.
+ * <p>
+ * Games with {@link #MASS_MODE_PLAYERS} or more players switch to mass mode:
+ * resting tokens are drawn into one {@link Canvas} instead of being nodes of
+ * their own, and a tile holding {@link #BADGE_THRESHOLD} or more tokens shows
+ * a single token with a count badge. At {@link FrameMonitor} qualities with a
+ * lower badge threshold, smaller stacks are drawn with a badge too. Only
+ * tokens that are moving are shown as image views, and only the tiles a move
+ * touches are redrawn.
+ * <p>
+ * Tokens start on the tiles their players stand on.
  */
 public final class SnLTokenLayer extends TokenLayer {
 
-    private final Queue<Runnable> animationQueue = new LinkedList<>();
-    private boolean isAnimating = false;
+    /**
+     * The largest number of players a Snakes and Ladders game can have.
+     */
+    public static final int MAX_PLAYERS = 500;
 
-    private final Map<Player, Integer> positions = new HashMap<>();
+    /**
+     * The number of players from which tokens are drawn in mass mode.
+     */
+    public static final int MASS_MODE_PLAYERS = 6;
+
+    /**
+     * The number of tokens on one tile from which, in mass mode, the tile
+     * shows a count badge instead of every token, at full quality.
+     */
+    public static final int BADGE_THRESHOLD = 5;
+
+    private static final Color BADGE_COLOR = Color.web("#333333");
+
+    private final boolean massMode;
+    private final Canvas tokenCanvas;
+    private final Set<Player> sprites = new HashSet<>();
+    private final Map<Image, ChangeListener<Number>> iconListeners = new HashMap<>();
 
     /**
      * Constructs a new {@code SnLTokenLayer}.
@@ -38,37 +73,66 @@ public final class SnLTokenLayer extends TokenLayer {
     public SnLTokenLayer(SnLBoardVisual boardVisual, List<Player> players) {
         super(boardVisual, players);
 
-        AtomicBoolean movesRight = new AtomicBoolean(false);
+        double spacing = boardVisual.getSpacing();
+        this.massMode = players.size() >= MASS_MODE_PLAYERS;
+
+        if (massMode) {
+            tokenCanvas = new Canvas(10 * spacing, 9 * spacing);
+            this.getChildren().add(tokenCanvas);
+
+            // Icons decode in the background; redraw once each one is ready
+            players.stream()
+                    .map(Player::getIcon)
+                    .distinct()
+                    .map(icon -> IconCache.get(icon, TOKEN_SIZE))
+                    .filter(image -> image != null && image.getProgress() < 1)
+                    .forEach(this::repaintWhenLoaded);
+        } else {
+            tokenCanvas = null;
+            players.forEach(player -> this.getChildren().add(createToken(player)));
+        }
 
-        IntStream.rangeClosed(0, 89).forEach(i -> {
-            if ((i % 10) == 0) {
-                movesRight.set(!movesRight.get());
-            }
+        players.forEach(player -> setPosition(player, player.getPosition()));
 
-            int row = 8 - (i / 10);
-            int col = movesRight.get() ? i % 10 : 10 - ((i % 10) + 1);
+        refreshTokenSizesAndPositions();
+    }
 
-            cols.put(i + 1, col);
-            rows.put(i + 1, row);
-        });
+    /**
+     * Repaints the canvas once an icon has loaded. The listener removes
+     * itself then, since the icons are shared through the {@link IconCache}
+     * and would otherwise keep this layer alive.
+     *
+     * @param image the icon that is still loading.
+     */
+    private void repaintWhenLoaded(Image image) {
+        ChangeListener<Number> listener = (obs, oldValue, newValue) -> {
+            if (newValue.doubleValue() >= 1) {
+                image.progressProperty().removeListener(iconListeners.remove(image));
+                repaintAllTiles();
+            }
+        };
+        iconListeners.put(image, listener);
+        image.progressProperty().addListener(listener);
+    }
 
+    /**
+     * Creates the image view of a player's token, resting on the first tile.
+     *
+     * @param player the player.
+     * @return the token.
+     */
+    private ImageView createToken(Player player) {
         double spacing = boardVisual.getSpacing();
 
-        players.stream().forEach(player -> {
-            ImageView token = new ImageView(new Image(player.getIcon()));
-            token.setFitWidth(50);
-            token.setFitHeight(50);
-            token.setLayoutX(spacing / 2 - 25);
-            token.setLayoutY(spacing / 2 - 25);
-            token.setTranslateY(8 * spacing);
-
-            playerTokens.put(player, token);
-            this.getChildren().add(token);
-
-            positions.put(player, 1);
-        });
+        ImageView token = new ImageView(IconCache.get(player.getIcon(), TOKEN_SIZE));
+        token.setFitWidth(TOKEN_SIZE);
+        token.setFitHeight(TOKEN_SIZE);
+        token.setLayoutX(spacing / 2 - TOKEN_SIZE / 2);
+        token.setLayoutY(spacing / 2 - TOKEN_SIZE / 2);
+        token.setTranslateY(8 * spacing);
 
-        refreshTokenSizesAndPositions();
+        playerTokens.put(player, token);
+        return token;
     }
 
     /**
@@ -76,57 +140,51 @@ public final class SnLTokenLayer extends TokenLayer {
      */
     @Override
     public void moveToken(Player player, int tileNumber) {
-        resetTokenSize(player);
-
-        positions.replace(player, tileNumber);
-
-        ImageView token = playerTokens.get(player);
-
-        int col = cols.get(tileNumber);
-        int row = rows.get(tileNumber);
-
-        double targetX = col * boardVisual.getSpacing();
-        double targetY = row * boardVisual.getSpacing();
-
-        TranslateTransition move = new TranslateTransition(Duration.millis(300), token);
-        move.setToX(targetX);
-        move.setToY(targetY);
-        move.setOnFinished(e -> runNextAnimation());
-        move.play();
-
-
+        animatePath(player, tileNumber, tileNumber);
     }
 
     /**
-     * Enqueues multiple {@code moveToken(...)} calls, one per tile step, to animate movement.
-     * The actual animation is triggered sequentially.
+     * Enqueues a single animation that steps the token through every tile
+     * from its current position to {@code endTile}.
      */
     @Override
     public void moveTokenThroughPath(Player player, int endTile) {
         int startTile = player.getPosition();
-        for (int tile = startTile; tile <= endTile; tile++) {
-            final int nextTile = tile;
-            animationQueue.add(() -> moveToken(player, nextTile));
-        }
-
-        if (!isAnimating) {
-            isAnimating = true;
-            runNextAnimation();
-        }
+        enqueueMove(player,
+                () -> animatePath(player, startTile, endTile),
+                () -> animatePath(player, endTile, endTile));
     }
 
     /**
-     * Executes the next animation in the queue. If the queue is empty, it refreshes
-     * token sizes and positions and resets the animating flag.
+     * Moves the player's token through the tiles {@code startTile} to
+     * {@code endTile}, inclusive, as one animation.
+     *
+     * @param player    the player whose token to move.
+     * @param startTile the first tile to step to.
+     * @param endTile   the last tile to step to.
      */
-    public void runNextAnimation() {
-        Runnable next = animationQueue.poll();
-        if (next != null) {
-            next.run(); // This will call moveToken, which sets the animation
-        } else {
-            refreshTokenSizesAndPositions();
-            isAnimating = false;
+    private void animatePath(Player player, int startTile, int endTile) {
+        int previousTile = positions.get(player);
+        if (massMode) {
+            showSprite(player, previousTile);
+        }
+
+        resetTokenSize(player);
+        setPosition(player, endTile);
+
+        if (massMode) {
+            paintTile(previousTile);
+        }
+
+        double spacing = boardVisual.getSpacing();
+        int steps = Math.max(0, endTile - startTile + 1);
+        double[] xs = new double[steps];
+        double[] ys = new double[steps];
+        for (int i = 0; i < steps; i++) {
+            xs[i] = col(startTile + i) * spacing;
+            ys[i] = row(startTile + i) * spacing;
         }
+        playPath(player, xs, ys);
     }
 
     /**
@@ -140,12 +198,16 @@ public final class SnLTokenLayer extends TokenLayer {
     public void registerPlayerMove(Player player, int tileNumber, movementType movementType) {
         switch (movementType) {
             case INSTANT ->
-                    animationQueue.add(() -> {
-                        PauseTransition pause = new PauseTransition(Duration.millis(400));
-                        pause.setOnFinished(e -> moveToken(player, tileNumber));
+                    enqueueMove(player, () -> {
+                        PauseTransition pause = new PauseTransition(Autoplay.scaled(Duration.millis(400)));
+                        pause.setOnFinished(e -> {
+                            if (!isDisposed()) {
+                                moveToken(player, tileNumber);
+                            }
+                        });
                         pause.play();
 
-                    });
+                    }, () -> moveToken(player, tileNumber));
 
             case PATH ->
                     moveTokenThroughPath(player, tileNumber);
@@ -155,68 +217,134 @@ public final class SnLTokenLayer extends TokenLayer {
 
 
     /**
-     * Calculates the offset for tokens occupying the same tile to prevent overlap.
-     *
-     * @param tokenCount the number of tokens on the tile.
-     * @return a 2D array of x and y offsets for each token.
-     */
-    private static double[][] getTokenOffsets(int tokenCount) {
-        return switch (tokenCount) {
-            case 2 -> new double[][]{{-0.1, -0.1}, {0.35, 0.35}};
-            case 3 -> new double[][]{{-0.1, -0.1}, {0.125, 0.125}, {0.35, 0.35}};
-            case 4 -> new double[][]{{-0.1, -0.1}, {-0.1, 0.35}, {0.35, -0.1}, {0.35, 0.35}};
-            case 5 -> new double[][]{{-0.1, -0.1}, {-0.1, 0.35}, {0.125, 0.125}, {0.35, -0.1}, {0.35, 0.35}};
-            default -> new double[][]{{0, 0}};
-        };
+     * Lays out the tiles whose tokens changed. In mass mode the tokens that
+     * were moving are then handed back to the canvas.
+     */
+    @Override
+    public void refreshTokenSizesAndPositions() {
+        super.refreshTokenSizesAndPositions();
+
+        if (massMode && !sprites.isEmpty()) {
+            sprites.forEach(player -> this.getChildren().remove(playerTokens.get(player)));
+            sprites.clear();
+        }
     }
 
     /**
-     * Adjusts the size and position of tokens on the board to handle multiple
-     * tokens on the same tile.
+     * Also detaches the icon listeners and clears the canvas.
      */
-    public void refreshTokenSizesAndPositions() {
-        double spacing = boardVisual.getSpacing();
+    @Override
+    public void dispose() {
+        iconListeners.forEach((image, listener) -> image.progressProperty().removeListener(listener));
+        iconListeners.clear();
+        sprites.clear();
+        if (massMode) {
+            tokenCanvas.getGraphicsContext2D().clearRect(0, 0, tokenCanvas.getWidth(), tokenCanvas.getHeight());
+        }
 
-        List<List<Player>> playerGroups = positions.entrySet().stream()
-                .collect(Collectors.groupingBy(
-                        Map.Entry::getValue,
-                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())
-                ))
-                .values().stream()
-                .toList();
+        super.dispose();
+    }
 
-        playerGroups.forEach(group -> {
-            int tokenCount = group.size();
-            double[][] offsets = getTokenOffsets(tokenCount);
+    /**
+     * Lays out one tile, by drawing it on the canvas in mass mode.
+     */
+    @Override
+    protected void layoutTile(int tile, List<Player> group) {
+        if (massMode) {
+            paintTile(tile);
+        } else {
+            super.layoutTile(tile, group);
+        }
+    }
 
-            IntStream.range(0, tokenCount).forEach(i -> {
-            Player player = group.get(i);
-            ImageView token = playerTokens.get(player);
+    /**
+     * Shows a player's token as an image view on the given tile, so that it
+     * can be animated above the canvas.
+     *
+     * @param player the player whose token to show.
+     * @param tile   the tile the token starts on.
+     */
+    private void showSprite(Player player, int tile) {
+        ImageView token = playerTokens.get(player);
+        if (token == null) {
+            token = createToken(player);
+        }
 
-            int tile = positions.get(player);
-            int col = cols.get(tile);
-            int row = rows.get(tile);
+        if (sprites.add(player)) {
+            double spacing = boardVisual.getSpacing();
+            token.setTranslateX(col(tile) * spacing);
+            token.setTranslateY(row(tile) * spacing);
+            this.getChildren().add(token);
+        }
+    }
+
+    /**
+     * Clears the canvas and draws every occupied tile again.
+     */
+    private void repaintAllTiles() {
+        tokenCanvas.getGraphicsContext2D().clearRect(0, 0, tokenCanvas.getWidth(), tokenCanvas.getHeight());
+        occupiedTiles().forEach(this::paintTile);
+    }
+
+    /**
+     * Draws the tokens resting on one tile onto the canvas. Tiles with at
+     * least the current quality's badge threshold of tokens are drawn as a
+     * single token with a count badge.
+     *
+     * @param tile the tile number.
+     */
+    private void paintTile(int tile) {
+        double spacing = boardVisual.getSpacing();
+        double x = col(tile) * spacing;
+        double y = row(tile) * spacing;
+
+        GraphicsContext gc = tokenCanvas.getGraphicsContext2D();
+        gc.clearRect(x, y, spacing, spacing);
+
+        List<Player> group = occupantsOf(tile);
+        int tokenCount = group.size();
+        if (tokenCount == 0) {
+            return;
+        }
 
-            double baseX = col * spacing;
-            double baseY = row * spacing;
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, spacing, spacing);
+        gc.clip();
 
-            // Size
-            if (tokenCount > 1) {
-                token.setFitWidth(25);
-                token.setFitHeight(25);
-            } else {
-                token.setFitWidth(50);
-                token.setFitHeight(50);
+        double centered = spacing / 2 - TOKEN_SIZE / 2;
+        if (tokenCount < FrameMonitor.getQuality().getBadgeThreshold()) {
+            double[][] offsets = getTokenOffsets(tokenCount);
+            double size = tokenCount > 1 ? STACKED_TOKEN_SIZE : TOKEN_SIZE;
+            for (int i = 0; i < tokenCount; i++) {
+                drawIcon(gc, group.get(i),
+                        x + centered + offsets[i][0] * spacing,
+                        y + centered + offsets[i][1] * spacing,
+                        size);
             }
+        } else {
+            drawIcon(gc, group.get(0), x + centered, y + centered, TOKEN_SIZE);
+
+            double radius = spacing * 0.2;
+            double badgeX = x + spacing - radius;
+            double badgeY = y + radius;
+            gc.setFill(BADGE_COLOR);
+            gc.fillOval(badgeX - radius, badgeY - radius, radius * 2, radius * 2);
+            gc.setFill(Color.WHITE);
+            gc.setFont(Font.font("System", FontWeight.BOLD, radius));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+            gc.fillText(String.valueOf(tokenCount), badgeX, badgeY);
+        }
 
-            // Offset from normalized 0..1 range scaled by spacing
-            double offsetX = offsets[i][0] * spacing;
-            double offsetY = offsets[i][1] * spacing;
+        gc.restore();
+    }
 
-            token.setTranslateX(baseX + offsetX);
-            token.setTranslateY(baseY + offsetY);
-            });
-        });
+    private static void drawIcon(GraphicsContext gc, Player player, double x, double y, double size) {
+        Image icon = IconCache.get(player.getIcon(), TOKEN_SIZE);
+        if (icon != null) {
+            gc.drawImage(icon, x, y, size, size);
+        }
     }
 
     /**
@@ -227,21 +355,8 @@ public final class SnLTokenLayer extends TokenLayer {
     public void resetTokenSize(Player player) {
         ImageView token = playerTokens.get(player);
 
-        token.setFitWidth(50);
-        token.setFitHeight(50);
-    }
-
-    /**
-     * Adds an animation to the animation queue to be executed sequentially.
-     *
-     * @param animation the {@code Runnable} representing the animation.
-     */
-    public void addToAnimationQueue(Runnable animation) {
-        animationQueue.add(animation);
-        if (!isAnimating) {
-            isAnimating = true;
-            runNextAnimation();
-        }
+        token.setFitWidth(TOKEN_SIZE);
+        token.setFitHeight(TOKEN_SIZE);
     }
 
 }
\ No newline at end of file
@@ -1,29 +1,120 @@
 package boardgame.visual.gameLayers;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
+import boardgame.controller.Autoplay;
+import boardgame.controller.FrameMonitor;
 import boardgame.model.Observer.PlayerObserver;
 import boardgame.model.Player;
+import boardgame.utils.JFR.AnimationQueueDrainedEvent;
+import boardgame.utils.JMX.GameMetrics;
+import boardgame.utils.TurnTracer;
 import boardgame.utils.movementType;
 import boardgame.visual.elements.BoardVisual;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
+import javafx.util.Duration;
 
 /**
  * An abstract layer for displaying and animating player tokens on a game board.
  * Subclasses are specific to the type of board (e.g., Ludo, Snakes and Ladders).
+ * <p>
+ * A token's whole move, however many tiles long, is played as a single
+ * {@link Timeline} with one key frame per tile. Each token keeps its timeline
+ * between moves, so a move only replaces the key frames.
+ * <p>
+ * The layer keeps an index of which players stand on each tile. Moves mark
+ * the tiles they leave and enter, and only those tiles have their tokens
+ * resized and spread out when the animations finish.
+ * <p>
+ * Animations play one at a time from a shared queue. When moves are queued
+ * faster than they can be shown (more than {@link #MAX_QUEUED_ANIMATIONS},
+ * or any backlog at all at {@link Autoplay.Speed#MAX} speed), the queue is
+ * coalesced: each player's queued moves become a single jump to their last
+ * destination. This keeps the queue no longer than the number of players.
+ * The queue's length is published to {@link GameMetrics} while the layer
+ * is alive.
  */
-public abstract class TokenLayer extends Pane implements PlayerObserver {
+public abstract class TokenLayer extends Pane implements PlayerObserver, AnimationQueue {
 
     protected final Map<Player, ImageView> playerTokens = new HashMap<>();
-    protected final Map<Integer, Integer> cols = new HashMap<>();
-    protected final Map<Integer, Integer> rows = new HashMap<>();
     protected final BoardVisual boardVisual;
 
     protected final List<Player> players;
 
+    protected final Map<Player, Integer> positions = new HashMap<>();
+    private final Map<Integer, List<Player>> occupants = new HashMap<>();
+    private final Set<Integer> dirtyTiles = new LinkedHashSet<>();
+
+    /**
+     * The size of a token that has a tile to itself.
+     */
+    protected static final double TOKEN_SIZE = 50;
+
+    /**
+     * The size of a token that shares its tile with other tokens.
+     */
+    protected static final double STACKED_TOKEN_SIZE = 25;
+
+    private static final double[][][] TOKEN_OFFSETS = {
+            {{0, 0}},
+            {{0, 0}},
+            {{-0.1, -0.1}, {0.35, 0.35}},
+            {{-0.1, -0.1}, {0.125, 0.125}, {0.35, 0.35}},
+            {{-0.1, -0.1}, {-0.1, 0.35}, {0.35, -0.1}, {0.35, 0.35}},
+            {{-0.1, -0.1}, {-0.1, 0.35}, {0.125, 0.125}, {0.35, -0.1}, {0.35, 0.35}}
+    };
+
+    /**
+     * The time a token takes to step from one tile to the next.
+     */
+    protected static final Duration STEP_DURATION = Duration.millis(300);
+
+    /**
+     * Returns the time a token takes to step from one tile to the next at
+     * the current {@link FrameMonitor} quality.
+     *
+     * @return the step duration.
+     */
+    protected static Duration stepDuration() {
+        return STEP_DURATION.multiply(FrameMonitor.getQuality().getStepFactor());
+    }
+
+    private final Map<Player, Timeline> pathTimelines = new HashMap<>();
+
+    /**
+     * The number of queued animations beyond which queued moves are
+     * coalesced into jumps.
+     */
+    public static final int MAX_QUEUED_ANIMATIONS = 8;
+
+    /**
+     * A queued animation. Moves name the player they move and a jump that
+     * shows the same move as a single step; other animations have neither.
+     */
+    private record QueuedAnimation(Player player, Runnable animation, Runnable jump) {
+    }
+
+    private final Deque<QueuedAnimation> animationQueue = new ArrayDeque<>();
+    private boolean isAnimating = false;
+    private boolean disposed = false;
+    private AnimationQueueDrainedEvent drainEvent = null;
+    private final LongAdder queueDepth = GameMetrics.instance().registerAnimationQueue(getClass().getSimpleName());
+    private int publishedDepth = 0;
+
     /**
      * Constructs a new {@code TokenLayer}.
      *
@@ -40,6 +131,143 @@ public abstract class TokenLayer extends Pane implements PlayerObserver {
 
     }
 
+    /**
+     * Returns the grid column of a tile, read from the board's tile position
+     * table.
+     *
+     * @param tileNumber the tile number.
+     * @return the tile's column.
+     */
+    protected int col(int tileNumber) {
+        return boardVisual.getTileColumn(tileNumber);
+    }
+
+    /**
+     * Returns the grid row of a tile, read from the board's tile position
+     * table.
+     *
+     * @param tileNumber the tile number.
+     * @return the tile's row.
+     */
+    protected int row(int tileNumber) {
+        return boardVisual.getTileRow(tileNumber);
+    }
+
+    /**
+     * Records that a player now stands on the given tile, and marks both the
+     * tile they left and the tile they entered for layout.
+     *
+     * @param player     the player who moved.
+     * @param tileNumber the tile the player now stands on.
+     */
+    protected void setPosition(Player player, int tileNumber) {
+        Integer previous = positions.put(player, tileNumber);
+        if (previous != null) {
+            if (previous == tileNumber) {
+                dirtyTiles.add(tileNumber);
+                return;
+            }
+            List<Player> left = occupants.get(previous);
+            if (left != null) {
+                left.remove(player);
+                if (left.isEmpty()) {
+                    occupants.remove(previous);
+                }
+            }
+            dirtyTiles.add(previous);
+        }
+        occupants.computeIfAbsent(tileNumber, tile -> new ArrayList<>()).add(player);
+        dirtyTiles.add(tileNumber);
+    }
+
+    /**
+     * Lays out the tokens on every tile whose occupants changed since the
+     * last layout.
+     */
+    public void refreshTokenSizesAndPositions() {
+        for (int tile : dirtyTiles) {
+            layoutTile(tile, occupantsOf(tile));
+        }
+        dirtyTiles.clear();
+    }
+
+    /**
+     * Returns the players standing on a tile.
+     *
+     * @param tile the tile number.
+     * @return the players on the tile, in the order they arrived.
+     */
+    protected List<Player> occupantsOf(int tile) {
+        return occupants.getOrDefault(tile, List.of());
+    }
+
+    /**
+     * Returns the numbers of all tiles that at least one player stands on.
+     *
+     * @return the occupied tiles.
+     */
+    protected Set<Integer> occupiedTiles() {
+        return occupants.keySet();
+    }
+
+    /**
+     * Sizes and spreads out the tokens on one tile, so that tokens sharing a
+     * tile do not cover each other.
+     *
+     * @param tile  the tile number.
+     * @param group the players on the tile, in the order they arrived; empty
+     *              if the tile was just left.
+     */
+    protected void layoutTile(int tile, List<Player> group) {
+        double spacing = boardVisual.getSpacing();
+        int tokenCount = group.size();
+        double[][] offsets = getTokenOffsets(tokenCount);
+        double size = tokenCount > 1 ? STACKED_TOKEN_SIZE : TOKEN_SIZE;
+
+        double baseX = col(tile) * spacing;
+        double baseY = row(tile) * spacing;
+
+        for (int i = 0; i < tokenCount; i++) {
+            Player player = group.get(i);
+            if (!isLaidOut(player, tile)) {
+                continue;
+            }
+
+            ImageView token = playerTokens.get(player);
+            token.setFitWidth(size);
+            token.setFitHeight(size);
+
+            // Offset from normalized 0..1 range scaled by spacing
+            token.setTranslateX(baseX + offsets[i][0] * spacing);
+            token.setTranslateY(baseY + offsets[i][1] * spacing);
+        }
+    }
+
+    /**
+     * Returns whether a player's token is placed by the tile layout. Tokens
+     * that are placed some other way still take up their slot on the tile.
+     *
+     * @param player the player.
+     * @param tile   the tile the player stands on.
+     * @return {@code true} if the token should be laid out on the tile.
+     */
+    protected boolean isLaidOut(Player player, int tile) {
+        return true;
+    }
+
+    /**
+     * Returns the offsets of tokens sharing a tile, as fractions of the tile
+     * spacing. At most five tokens are ever laid out on one tile: games with
+     * more players draw crowded tiles with a count badge instead (see
+     * {@link SnLTokenLayer}). The arrays are shared and must not be modified.
+     *
+     * @param tokenCount the number of tokens on the tile, at most five.
+     * @return a 2D array of x and y offsets for each token.
+     */
+    protected static double[][] getTokenOffsets(int tokenCount) {
+        return TOKEN_OFFSETS[tokenCount];
+    }
+
     /**
      * Moves a player's token to a specific tile number on the board.
      * The implementation will handle the visual transition.
@@ -57,6 +285,214 @@ public abstract class TokenLayer extends Pane implements PlayerObserver {
      */
     protected abstract void moveTokenThroughPath(Player player, int endTile);
 
+    /**
+     * Executes the next animation in the queue. Called when a token finishes
+     * its move. Once the queue is empty, the tokens of the tiles that changed
+     * are laid out.
+     */
+    @Override
+    public void runNextAnimation() {
+        if (disposed) {
+            return;
+        }
+
+        QueuedAnimation next = animationQueue.poll();
+        publishQueueDepth();
+        if (next != null) {
+            if (drainEvent != null) {
+                drainEvent.animations++;
+            }
+            next.animation().run(); // Calls runNextAnimation again when it finishes
+        } else {
+            isAnimating = false;
+            TurnTracer.animationsSettled(getScene());
+            refreshTokenSizesAndPositions();
+            commitDrainEvent();
+        }
+    }
+
+    /**
+     * Adds an animation to the animation queue to be played sequentially.
+     *
+     * @param animation the {@code Runnable} representing the animation.
+     */
+    @Override
+    public void addToAnimationQueue(Runnable animation) {
+        enqueue(new QueuedAnimation(null, animation, null));
+    }
+
+    /**
+     * Adds a player's move to the animation queue.
+     *
+     * @param player    the player whose token moves.
+     * @param animation the full animation of the move.
+     * @param jump      the move shown as a single step, used when the queue
+     *                  is coalesced.
+     */
+    protected void enqueueMove(Player player, Runnable animation, Runnable jump) {
+        enqueue(new QueuedAnimation(player, animation, jump));
+    }
+
+    /**
+     * Ends this layer's lifecycle when its game is left: stops every running
+     * token animation, drops queued ones, and releases the token images and
+     * nodes. Animations that finish or are queued afterwards are ignored.
+     */
+    public void dispose() {
+        disposed = true;
+        animationQueue.clear();
+        isAnimating = false;
+        drainEvent = null;
+        GameMetrics.instance().unregisterAnimationQueue(queueDepth);
+        TurnTracer.discardOpenTurns();
+
+        pathTimelines.values().forEach(Timeline::stop);
+        pathTimelines.clear();
+
+        playerTokens.values().forEach(token -> token.setImage(null));
+        playerTokens.clear();
+        positions.clear();
+        occupants.clear();
+        dirtyTiles.clear();
+        getChildren().clear();
+    }
+
+    /**
+     * Returns whether this layer has been disposed.
+     *
+     * @return {@code true} once {@link #dispose()} has been called.
+     */
+    protected boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * Returns the number of animations waiting in the queue.
+     *
+     * @return the queue length.
+     */
+    public int getQueuedAnimationCount() {
+        return animationQueue.size();
+    }
+
+    private void enqueue(QueuedAnimation entry) {
+        if (disposed) {
+            return;
+        }
+
+        animationQueue.add(entry);
+        if (!isAnimating) {
+            drainEvent = new AnimationQueueDrainedEvent();
+            drainEvent.begin();
+        }
+
+        int limit = Autoplay.getSpeed() == Autoplay.Speed.MAX ? 1 : MAX_QUEUED_ANIMATIONS;
+        if (animationQueue.size() > limit) {
+            coalesce();
+        }
+
+        if (drainEvent != null) {
+            drainEvent.peakQueueLength = Math.max(drainEvent.peakQueueLength, animationQueue.size());
+        }
+        publishQueueDepth();
+
+        if (!isAnimating) {
+            isAnimating = true;
+            runNextAnimation();
+        }
+    }
+
+    /**
+     * Brings the queue depth seen by {@link GameMetrics} up to date.
+     */
+    private void publishQueueDepth() {
+        int depth = animationQueue.size();
+        queueDepth.add(depth - publishedDepth);
+        publishedDepth = depth;
+    }
+
+    /**
+     * Commits the Flight Recorder event for the run of animations that just
+     * drained, if it is being recorded.
+     */
+    private void commitDrainEvent() {
+        if (drainEvent == null) {
+            return;
+        }
+
+        drainEvent.end();
+        if (drainEvent.shouldCommit()) {
+            drainEvent.layer = getClass().getSimpleName();
+            drainEvent.commit();
+        }
+        drainEvent = null;
+    }
+
+    /**
+     * Replaces each player's queued moves with one jump to their last queued
+     * destination. Of the other queued animations only the last one is kept:
+     * they are follow-ups of a turn, such as re-enabling the roll button,
+     * and the last one stands for all of them.
+     */
+    private void coalesce() {
+        int queued = animationQueue.size();
+        Map<Player, QueuedAnimation> lastMoves = new LinkedHashMap<>();
+        QueuedAnimation lastOther = null;
+
+        for (QueuedAnimation entry : animationQueue) {
+            if (entry.player() == null) {
+                lastOther = entry;
+            } else {
+                lastMoves.remove(entry.player());
+                lastMoves.put(entry.player(), entry);
+            }
+        }
+
+        animationQueue.clear();
+        lastMoves.values().forEach(move ->
+                animationQueue.add(new QueuedAnimation(move.player(), move.jump(), move.jump())));
+        if (lastOther != null) {
+            animationQueue.add(lastOther);
+        }
+
+        if (drainEvent != null) {
+            drainEvent.coalesced += queued - animationQueue.size();
+        }
+    }
+
+    /**
+     * Moves a player's token through the given board positions, one step per
+     * position, and runs the next queued animation when it arrives.
+     *
+     * @param player the player whose token to move.
+     * @param xs     the x translation of each step.
+     * @param ys     the y translation of each step.
+     */
+    protected void playPath(Player player, double[] xs, double[] ys) {
+        if (xs.length == 0) {
+            runNextAnimation();
+            return;
+        }
+
+        ImageView token = playerTokens.get(player);
+        Timeline timeline = pathTimelines.computeIfAbsent(player, p -> {
+            Timeline created = new Timeline();
+            created.setOnFinished(e -> runNextAnimation());
+            return created;
+        });
+        timeline.stop();
+
+        List<KeyFrame> frames = new ArrayList<>(xs.length);
+        for (int i = 0; i < xs.length; i++) {
+            frames.add(new KeyFrame(stepDuration().multiply(i + 1),
+                    new KeyValue(token.translateXProperty(), xs[i], Interpolator.EASE_BOTH),
+                    new KeyValue(token.translateYProperty(), ys[i], Interpolator.EASE_BOTH)));
+        }
+        timeline.getKeyFrames().setAll(frames);
+        timeline.setRate(Autoplay.animationRate());
+        timeline.playFromStart();
+    }
+
     /**
      * Registers a player's move and initiates the corresponding visual update
      * of the token's position.
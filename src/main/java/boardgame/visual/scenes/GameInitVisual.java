@@ -1,6 +1,8 @@
 package boardgame.visual.scenes;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import boardgame.controller.GameInitController;
 import boardgame.model.Player;
@@ -13,13 +15,17 @@ import boardgame.visual.elements.BackButton;
 import boardgame.visual.elements.LudoBoardVisual;
 import boardgame.visual.elements.Menu.PlayerCreationRow;
 import boardgame.visual.elements.Menu.PopUpAlert;
+import boardgame.visual.elements.SnL.BoardViewport;
 import boardgame.visual.elements.SnL.LadderLayer;
 import boardgame.visual.elements.SnL.SnLBoardVisual;
+import boardgame.visual.gameLayers.SnLTokenLayer;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
@@ -28,6 +34,9 @@ import javafx.scene.layout.VBox;
 /**
  * Visual interface for the game initialization screen, allowing users to select
  * the game, board (if applicable), and create players.
+ * <p>
+ * Each board preview is built the first time its board is chosen and reused
+ * when the user switches back to it.
  */
 public class GameInitVisual {
 
@@ -37,6 +46,7 @@ public class GameInitVisual {
     private final VBox playerRowsContainer;
     private final HBox boardChoices = new HBox(25);
     private final StackPane boardChoiceHolder = new StackPane();
+    private final Map<Integer, List<Node>> snlPreviews = new HashMap<>();
     private final HBox sceneWrapper = new HBox(25);
 
     private final Button addPlayerButton = new Button("Add Player");
@@ -53,13 +63,13 @@ public class GameInitVisual {
     }
 
     /**
-     * Creates and returns the scene for game initialization based on the chosen
-     * game.
+     * Creates and returns the root of the game initialization screen based on
+     * the chosen game.
      *
      * @param chosenGame the type of game to initialize.
-     * @return the game initialization scene.
+     * @return the game initialization screen root.
      */
-    public Scene getScene(GameType chosenGame) {
+    public Parent getRoot(GameType chosenGame) {
         this.chosenGame = chosenGame;
         addEmptyPlayerRow();
 
@@ -130,7 +140,11 @@ public class GameInitVisual {
             board3Button.setOnAction(e -> loadBoard(2));
             board3Button.getStyleClass().add("button-common");
 
-            boardChoices.getChildren().addAll(board1Button, board2Button, board3Button);
+            Button board4Button = new Button("Board 4");
+            board4Button.setOnAction(e -> loadBoard(3));
+            board4Button.getStyleClass().add("button-common");
+
+            boardChoices.getChildren().addAll(board1Button, board2Button, board3Button, board4Button);
 
         } else {
             boardChoices.getChildren().clear(); // Don't show board choices for Ludo
@@ -149,7 +163,13 @@ public class GameInitVisual {
             sideColumn.getChildren().add(boardChoices);
         }
 
-        sideColumn.getChildren().addAll(playerRowsContainer, addPlayerButton, startGameButton);
+        // Snakes and Ladders allows hundreds of players, so the rows scroll
+        ScrollPane playerRowsScroller = new ScrollPane(playerRowsContainer);
+        playerRowsScroller.setFitToWidth(true);
+        playerRowsScroller.setMaxHeight(ScreenDimension.getScreenHeight() * 0.5);
+        playerRowsScroller.setStyle("-fx-background-color: transparent; -fx-background: transparent;");
+
+        sideColumn.getChildren().addAll(playerRowsScroller, addPlayerButton, startGameButton);
         sideColumn.setPadding(new Insets(20));
         sideColumn.setPrefWidth(ScreenDimension.getScreenWidth() * 0.3);
         sideColumn.setAlignment(Pos.TOP_CENTER);
@@ -162,7 +182,7 @@ public class GameInitVisual {
 
         loadBoard(0); // Load default board after chosenGame is set
 
-        return new Scene(sceneWrapper);
+        return sceneWrapper;
     }
 
     /**
@@ -170,24 +190,14 @@ public class GameInitVisual {
      * based on the chosen game.
      */
     public void addEmptyPlayerRow() {
-        switch (chosenGame) {
-            case SnakesNLadders -> {
-                if (playerRowsContainer.getChildren().size() == 4) {
-                    addPlayerButton.setDisable(true);
-                }
-            }
-
-            case Ludo -> {
-                if (playerRowsContainer.getChildren().size() == 3) { // Ludo supports up to 4 players
-                    addPlayerButton.setDisable(true);
-                }
-            }
+        if (playerRowsContainer.getChildren().size() == maxPlayers() - 1) {
+            addPlayerButton.setDisable(true);
         }
 
         PlayerCreationRow row = new PlayerCreationRow();
         row.setDeleteRowAction(() -> {
             playerRowsContainer.getChildren().remove(row);
-            if (playerRowsContainer.getChildren().size() < (chosenGame == GameType.SnakesNLadders ? 5 : 4)) {
+            if (playerRowsContainer.getChildren().size() < maxPlayers()) {
                 addPlayerButton.setDisable(false);
             }
         });
@@ -195,6 +205,18 @@ public class GameInitVisual {
         playerRowsContainer.getChildren().add(row);
     }
 
+    /**
+     * Returns the largest number of players the chosen game supports.
+     *
+     * @return the player limit.
+     */
+    private int maxPlayers() {
+        return switch (chosenGame) {
+            case SnakesNLadders -> SnLTokenLayer.MAX_PLAYERS;
+            case Ludo -> 4;
+        };
+    }
+
     /**
      * Loads the visual representation of the selected board.
      *
@@ -217,12 +239,25 @@ public class GameInitVisual {
      * @param boardIndex the index of the Snakes and Ladders board to load.
      */
     private void handleSnL(int boardIndex) {
+        boardChoiceHolder.getChildren().setAll(
+                snlPreviews.computeIfAbsent(boardIndex, GameInitVisual::buildSnLPreview));
+    }
+
+    /**
+     * Builds the preview of a Snakes and Ladders board.
+     *
+     * @param boardIndex the index of the Snakes and Ladders board to preview.
+     * @return the layers of the preview, bottom first.
+     */
+    private static List<Node> buildSnLPreview(int boardIndex) {
         SnLBoard board = BoardJSON.constructSnLBoardFromJSON(boardIndex);
+        if (!board.hasDefaultSize()) {
+            return List.of(new BoardViewport(board, List.of()));
+        }
+
         SnLBoardVisual boardVisual = new SnLBoardVisual(board);
         LadderLayer ladderLayer = new LadderLayer(boardVisual, board.getTilesWithLadders(), board.getTilesWithSnakes());
-
-        boardChoiceHolder.getChildren().clear();
-        boardChoiceHolder.getChildren().addAll(boardVisual, ladderLayer);
+        return List.of(boardVisual, ladderLayer);
     }
 
     /**
@@ -1,7 +1,7 @@
 package boardgame.visual.scenes.Ingame;
 
 import boardgame.controller.RollHandlers.RollHandler;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 
 
 /**
@@ -10,19 +10,38 @@ import javafx.scene.Scene;
  * and managing gameplay flow such as player movement and dice rolling.
  * <p>
  * This interface defines the contract for an in-game scene, providing access
- * to the scene itself and the roll handler. Implementations of this interface
+ * to its view and the roll handler. Implementations of this interface
  * connect the game's logic with the visual layers.
+ * <p>
+ * The view is built in two steps. {@link #getRoot()} builds the scene graph
+ * without touching any showing window, so it may run on a worker thread.
+ * {@link #start()} then starts the game on the JavaFX application thread.
+ * When the game's screen is left, {@link #dispose()} releases the game.
  *
  *  
  */
 public interface Ingame {
 
     /**
-     * Returns the JavaFX {@code Scene} representing the in-game view.
+     * Returns the root of the in-game view, building it on first call. May be
+     * called off the JavaFX application thread while the view is not shown.
      *
-     * @return the in-game scene.
+     * @return the root node of the in-game view.
+     */
+    Parent getRoot();
+
+    /**
+     * Starts the game by placing the players on the board. Must be called on
+     * the JavaFX application thread.
+     */
+    void start();
+
+    /**
+     * Ends the game's lifecycle: stops its running animations, detaches its
+     * observers and releases its images, so that nothing outside keeps the
+     * game alive. Must be called on the JavaFX application thread.
      */
-    Scene getScene();
+    void dispose();
 
     /**
      * Returns the {@code RollHandler} associated with the in-game scene,
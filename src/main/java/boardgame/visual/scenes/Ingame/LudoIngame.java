@@ -1,20 +1,21 @@
 package boardgame.visual.scenes.Ingame;
 
+import boardgame.controller.FrameMonitor;
 import boardgame.controller.GameControllers.LudoGameController;
 import boardgame.controller.RollHandlers.LudoRollHandler;
 import boardgame.model.boardFiles.LudoBoard;
 import boardgame.utils.GameFactory;
 import boardgame.visual.elements.BackButton;
+import boardgame.visual.elements.ScaledBoardPane;
 import boardgame.visual.elements.LudoBoardVisual;
 import boardgame.visual.elements.SideColumn.SideColumnVisual;
 import boardgame.visual.gameLayers.LudoTokenLayer;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
-import javafx.scene.layout.VBox;
 
 /**
  * The main scene handler for the Ludo in-game screen. Responsible for initializing
@@ -35,6 +36,8 @@ public class LudoIngame implements Ingame {
     public final LudoTokenLayer playerTokenLayer;
 
     private final BackButton backButton = new BackButton(true);
+    private final FrameMonitor frameMonitor;
+    private Parent root = null;
 
     /**
      * Constructs an in-game scene for Ludo based on the given game setup.
@@ -47,6 +50,7 @@ public class LudoIngame implements Ingame {
         this.boardVisual = new LudoBoardVisual(board);
         this.sideColumn = new SideColumnVisual(gameController, gameSetup.getPlayers(), this);
         this.playerTokenLayer = new LudoTokenLayer(boardVisual, gameSetup.getPlayers());
+        this.frameMonitor = new FrameMonitor(boardVisual);
 
         gameSetup.getPlayers().forEach(p -> p.addObserver(playerTokenLayer));
 
@@ -55,12 +59,17 @@ public class LudoIngame implements Ingame {
     }
 
     /**
-     * Builds and displays the Ludo game scene, initializing all layers and visuals.
+     * Builds the Ludo game view, initializing all layers and visuals.
+     * The view is built once; later calls return the same root.
      *
-     * @return the scene containing the in-game UI
+     * @return the root of the in-game UI
      */
     @Override
-    public Scene getScene() {
+    public Parent getRoot() {
+        if (root != null) {
+            return root;
+        }
+
 
         StackPane sceneStacker = new StackPane();
 
@@ -72,17 +81,12 @@ public class LudoIngame implements Ingame {
         HBox sceneWrapper = new HBox(25);
 
         // --- Left side: Board visuals ---
-        StackPane boardPane = new StackPane();
-        boardPane.getChildren().addAll(boardVisual, playerTokenLayer);
-        boardPane.setAlignment(Pos.CENTER);
-
         playerTokenLayer.prefWidthProperty().bind(boardVisual.widthProperty());
         playerTokenLayer.prefHeightProperty().bind(boardVisual.heightProperty());
         playerTokenLayer.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
 
-        // NEW: Wrap boardPane in a VBox to center it properly
-        VBox boardContainer = new VBox(boardPane);
-        boardContainer.setAlignment(Pos.CENTER);
+        // Scales the board and tokens together to fit the window
+        ScaledBoardPane boardContainer = new ScaledBoardPane(boardVisual, playerTokenLayer);
         HBox.setHgrow(boardContainer, Priority.ALWAYS); // Important to make it take up space
 
         // --- Right side: Side column ---
@@ -95,11 +99,29 @@ public class LudoIngame implements Ingame {
         StackPane.setAlignment(backButton, Pos.TOP_LEFT);
         sceneStacker.getChildren().addAll(sceneWrapper, backButton);
 
-        Scene scene = new Scene(sceneStacker);
+        root = sceneStacker;
+        return root;
+    }
 
+    /**
+     * Places the players on the board and starts watching the frame rate.
+     */
+    @Override
+    public void start() {
         gameController.start();
+        frameMonitor.start();
+    }
 
-        return scene;
+    /**
+     * Stops the frame monitor, the side column and the token animations, then
+     * disposes the game.
+     */
+    @Override
+    public void dispose() {
+        frameMonitor.stop();
+        sideColumn.dispose();
+        playerTokenLayer.dispose();
+        gameController.dispose();
     }
 
     /**
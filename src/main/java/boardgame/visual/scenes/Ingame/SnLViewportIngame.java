@@ -0,0 +1,118 @@
+package boardgame.visual.scenes.Ingame;
+
+import boardgame.controller.FrameMonitor;
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.controller.RollHandlers.SnLRollHandler;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.utils.GameFactory;
+import boardgame.visual.elements.BackButton;
+import boardgame.visual.elements.SideColumn.SideColumnVisual;
+import boardgame.visual.elements.SnL.BoardViewport;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+/**
+ * The in-game screen for Snakes and Ladders boards that are not the default
+ * 10x9 size. The board and tokens are shown in a pannable, zoomable
+ * {@link BoardViewport}, so boards with thousands of tiles stay responsive.
+ *
+ *  
+ */
+public class SnLViewportIngame implements Ingame {
+
+    public final SnLBoard board;
+    public final BoardViewport viewport;
+    public final SnLRollHandler rollHandler;
+    public final SnLGameController gameController;
+    public final SideColumnVisual sideColumn;
+
+    private final BackButton backButton = new BackButton(true);
+    private final FrameMonitor frameMonitor;
+    private Parent root = null;
+
+    /**
+     * Constructs an in-game scene for a large Snakes and Ladders board based
+     * on the given game setup.
+     *
+     * @param gameSetup contains references to board, players, and controller
+     */
+    public SnLViewportIngame(GameFactory gameSetup) {
+        this.gameController = (SnLGameController) gameSetup.getGameController();
+        this.board = (SnLBoard) gameSetup.getBoard();
+        this.viewport = new BoardViewport(board, gameSetup.getPlayers());
+        this.sideColumn = new SideColumnVisual(gameController, gameSetup.getPlayers(), this);
+        // The viewport redraws its canvas as it pans, so there is no static board to cache
+        this.frameMonitor = new FrameMonitor(null);
+
+        gameSetup.getPlayers().forEach(p -> p.addObserver(viewport));
+
+        this.rollHandler = new SnLRollHandler(gameController, viewport, sideColumn, board.getTileCount());
+    }
+
+    /**
+     * Builds the game view with the board viewport and the side column.
+     * The view is built once; later calls return the same root.
+     *
+     * @return the root of the in-game UI
+     */
+    @Override
+    public Parent getRoot() {
+        if (root != null) {
+            return root;
+        }
+
+        StackPane sceneStacker = new StackPane();
+
+        gameController.setIngame(this);
+
+        HBox sceneWrapper = new HBox(25);
+
+        VBox boardContainer = new VBox(viewport);
+        boardContainer.setAlignment(Pos.CENTER);
+        HBox.setHgrow(boardContainer, Priority.ALWAYS);
+
+        sideColumn.setAlignment(Pos.CENTER);
+        sceneWrapper.getChildren().addAll(boardContainer, sideColumn);
+
+        StackPane.setAlignment(backButton, Pos.TOP_LEFT);
+        sceneStacker.getChildren().addAll(sceneWrapper, backButton);
+
+        root = sceneStacker;
+        return root;
+    }
+
+    /**
+     * Places the players on the board and starts watching the frame rate.
+     */
+    @Override
+    public void start() {
+        gameController.start();
+        frameMonitor.start();
+    }
+
+    /**
+     * Stops the frame monitor, the side column and the token animations, then
+     * disposes the game.
+     */
+    @Override
+    public void dispose() {
+        frameMonitor.stop();
+        sideColumn.dispose();
+        viewport.dispose();
+        gameController.dispose();
+    }
+
+    /**
+     * Returns the Snakes and Ladders roll handler associated with this scene.
+     *
+     * @return the Snakes and Ladders roll handler.
+     */
+    @Override
+    public SnLRollHandler getRollHandler() {
+        return rollHandler;
+    }
+}
@@ -0,0 +1,109 @@
+package boardgame.visual.scenes;
+
+import java.util.List;
+
+import boardgame.utils.Leaderboard;
+import boardgame.utils.PlayerCSV;
+import boardgame.utils.RatingEngine;
+import boardgame.visual.elements.BackButton;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Screen listing player profiles ordered by win count, along with each
+ * player's {@link RatingEngine} rating. Only one page of rows
+ * exists at a time, and each page is read straight from the
+ * {@link Leaderboard} index, so paging stays fast regardless of how many
+ * profiles are stored.
+ */
+public class LeaderboardView {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final GridPane rows = new GridPane();
+    private final Label pageLabel = new Label();
+    private final Button previousButton = new Button("Previous");
+    private final Button nextButton = new Button("Next");
+    private int page = 0;
+
+    /**
+     * Creates and returns the root of the leaderboard screen, showing the
+     * first page. The current page is read again every time the screen is
+     * shown, so a cached leaderboard stays up to date.
+     *
+     * @return the leaderboard root.
+     */
+    public Parent getRoot() {
+        VBox root = new VBox(20);
+        root.setAlignment(Pos.TOP_CENTER);
+        root.setPadding(new Insets(20));
+
+        Label titleLabel = new Label("Leaderboard");
+        titleLabel.setStyle("-fx-font-size: 32px; -fx-text-fill: #333; -fx-font-weight: bold;");
+
+        rows.setHgap(40);
+        rows.setVgap(6);
+        rows.setAlignment(Pos.CENTER);
+
+        previousButton.getStyleClass().add("button-common");
+        previousButton.setOnAction(e -> showPage(page - 1));
+        nextButton.getStyleClass().add("button-common");
+        nextButton.setOnAction(e -> showPage(page + 1));
+
+        HBox pager = new HBox(20, previousButton, pageLabel, nextButton);
+        pager.setAlignment(Pos.CENTER);
+
+        root.getChildren().addAll(new BackButton(false), titleLabel, rows, pager);
+
+        showPage(0);
+        root.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                showPage(page);
+            }
+        });
+
+        return root;
+    }
+
+    /**
+     * Replaces the visible rows with the given page.
+     *
+     * @param newPage the 0-based page to show.
+     */
+    private void showPage(int newPage) {
+        PlayerCSV.refresh();
+        Leaderboard leaderboard = Leaderboard.instance();
+        RatingEngine ratings = RatingEngine.instance();
+        int pageCount = Math.max(1, (leaderboard.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.max(0, Math.min(newPage, pageCount - 1));
+
+        List<Leaderboard.Entry> entries = leaderboard.page(page * PAGE_SIZE, PAGE_SIZE);
+
+        rows.getChildren().clear();
+        rows.addRow(0, headerLabel("Rank"), headerLabel("Player"), headerLabel("Wins"), headerLabel("Rating"));
+        for (int i = 0; i < entries.size(); i++) {
+            Leaderboard.Entry entry = entries.get(i);
+            rows.addRow(i + 1,
+                    new Label(Integer.toString(entry.rank())),
+                    new Label(entry.name()),
+                    new Label(Integer.toString(entry.wins())),
+                    new Label(String.format("%.0f", ratings.getRating(entry.name()))));
+        }
+
+        pageLabel.setText(String.format("Page %d of %d", page + 1, pageCount));
+        previousButton.setDisable(page == 0);
+        nextButton.setDisable(page >= pageCount - 1);
+    }
+
+    private static Label headerLabel(String text) {
+        Label label = new Label(text);
+        label.setStyle("-fx-font-weight: bold;");
+        return label;
+    }
+}
@@ -0,0 +1,34 @@
+package boardgame.visual.scenes;
+
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.VBox;
+
+/**
+ * A lightweight screen shown while the next screen is being built in the
+ * background.
+ */
+public class LoadingView {
+
+    /**
+     * Creates and returns the root of the loading screen.
+     *
+     * @param message the text shown under the progress indicator.
+     * @return the loading screen root.
+     */
+    public static Parent getRoot(String message) {
+        VBox root = new VBox(20);
+        root.setAlignment(Pos.CENTER);
+
+        ProgressIndicator progress = new ProgressIndicator();
+        Label messageLabel = new Label(message);
+        messageLabel.setStyle("-fx-font-size: 24px; -fx-text-fill: #555;");
+
+        root.getChildren().addAll(progress, messageLabel);
+
+        return root;
+    }
+
+}
@@ -5,7 +5,7 @@ import boardgame.utils.GameType;
 import boardgame.utils.PlayerCSV;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
@@ -18,11 +18,12 @@ import javafx.scene.layout.VBox;
 public class StartScreenView {
 
     /**
-     * Creates and returns the scene for the start screen.
+     * Creates and returns the root of the start screen. The game menus are
+     * only built when their button is first pressed.
      *
-     * @return the start screen scene.
+     * @return the start screen root.
      */
-    public static Scene getScene() {
+    public static Parent getRoot() {
         VBox root = new VBox();
         root.setSpacing(30);
         root.setAlignment(Pos.CENTER);
@@ -41,18 +42,19 @@ public class StartScreenView {
         root.getChildren().addAll(titleLabel, subtitleLabel, menuPane);
         menuPane.setAlignment(Pos.CENTER);
 
-        GameInitVisual gameInitVisual = new GameInitVisual();
         SceneManager sceneManager = SceneManager.getInstance();
 
         Button SnLButton = new Button("Snakes & Ladders");
         SnLButton.setOnAction(e -> {
-            sceneManager.changeScene(gameInitVisual.getScene(GameType.SnakesNLadders));
+            sceneManager.showMenu(SceneManager.Menu.SNL_SETUP,
+                    () -> new GameInitVisual().getRoot(GameType.SnakesNLadders));
         });
         SnLButton.getStyleClass().add("button-common");
 
         Button LudoButton = new Button("Ludo");
         LudoButton.setOnAction(e -> {
-            sceneManager.changeScene(gameInitVisual.getScene(GameType.Ludo));
+            sceneManager.showMenu(SceneManager.Menu.LUDO_SETUP,
+                    () -> new GameInitVisual().getRoot(GameType.Ludo));
         });
         LudoButton.getStyleClass().add("button-common");
 
@@ -61,13 +63,22 @@ public class StartScreenView {
 
         Button importCSVButton = new Button("Import CSV");
         importCSVButton.setOnAction(e -> {
-            PlayerCSV.instance().handleImport(SceneManager.getPrimaryStage());
+            if (PlayerCSV.instance().handleImport(SceneManager.getPrimaryStage())) {
+                // The setup screens and leaderboard show the old profiles
+                sceneManager.invalidateMenus();
+            }
         });
         importCSVButton.getStyleClass().add("button-common");
 
-        root.getChildren().add(importCSVButton);
+        Button leaderboardButton = new Button("Leaderboard");
+        leaderboardButton.setOnAction(e -> {
+            sceneManager.showMenu(SceneManager.Menu.LEADERBOARD, () -> new LeaderboardView().getRoot());
+        });
+        leaderboardButton.getStyleClass().add("button-common");
+
+        root.getChildren().addAll(importCSVButton, leaderboardButton);
 
-        return new Scene(root);
+        return root;
 
     }
 
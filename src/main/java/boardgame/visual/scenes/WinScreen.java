@@ -1,11 +1,12 @@
 package boardgame.visual.scenes;
 
 import boardgame.controller.SceneManager;
+import boardgame.utils.IconCache;
+import boardgame.utils.RatingEngine;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 
@@ -17,7 +18,8 @@ public class WinScreen {
     private final String winnerIconPath;
 
     /**
-     * Constructs a new {@code WinScreen}.
+     * Constructs a new {@code WinScreen}. The win itself is saved by the game
+     * controller when the game ends.
      *
      * @param winnerName     the name of the winning player.
      * @param winnerIconPath the file path to the winner's icon.
@@ -46,11 +48,11 @@ public class WinScreen {
     }
 
     /**
-     * Builds the winning scene displaying the winner's name and icon.
+     * Builds the winning screen displaying the winner's name, icon and rating.
      *
-     * @return the winner screen Scene
+     * @return the winner screen root
      */
-    public Scene getScene() {
+    public Parent getRoot() {
         VBox root = new VBox(30);
         root.setAlignment(Pos.CENTER);
 
@@ -60,19 +62,22 @@ public class WinScreen {
         Label winnerLabel = new Label(winnerName + " wins!");
         winnerLabel.setStyle("-fx-font-size: 24px; -fx-text-fill: #555;");
 
-        ImageView winnerImage = new ImageView(new Image(winnerIconPath));
+        Label ratingLabel = new Label(String.format("Rating: %.0f", RatingEngine.instance().getRating(winnerName)));
+        ratingLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: #555;");
+
+        ImageView winnerImage = new ImageView(IconCache.get(winnerIconPath, 150));
         winnerImage.setFitWidth(150);
         winnerImage.setFitHeight(150);
 
         Button mainMenuButton = new Button("Return to Main Menu");
         mainMenuButton.setOnAction(e -> {
-            SceneManager.getInstance().changeScene(StartScreenView.getScene());
+            SceneManager.getInstance().showMenu(SceneManager.Menu.START, StartScreenView::getRoot);
         });
         mainMenuButton.getStyleClass().add("button-common");
 
-        root.getChildren().addAll(congratsLabel, winnerImage, winnerLabel, mainMenuButton);
+        root.getChildren().addAll(congratsLabel, winnerImage, winnerLabel, ratingLabel, mainMenuButton);
 
-        return new Scene(root, 600, 400);
+        return root;
     }
 
 
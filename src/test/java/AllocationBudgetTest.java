@@ -0,0 +1,153 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import boardgame.controller.GameControllers.LudoGameController;
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.LudoBoard;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.model.diceFiles.Dice;
+import boardgame.utils.LoopingIterator;
+import boardgame.utils.movementType;
+
+/**
+ * Allocation regression tests for the model side of the turn loop.
+ * <p>
+ * Each test runs one path of a simulated turn many times and measures the
+ * bytes the test thread allocated with
+ * {@link ThreadMXBean#getThreadAllocatedBytes(long)}. The average per call
+ * must stay within the budget checked in as
+ * {@code allocation-budgets.properties}, so a change that adds a stream,
+ * a capturing lambda or boxing to a hot path fails with the measured delta.
+ * <p>
+ * Maven runs this class in a JVM of its own: the inline mocks of other
+ * tests instrument the model classes, which then allocate on every call.
+ */
+public class AllocationBudgetTest {
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 100_000;
+
+    private static final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Properties budgets = new Properties();
+
+    @BeforeAll
+    public static void loadBudgets() throws IOException {
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            assertNotNull(in, "allocation-budgets.properties not found");
+            budgets.load(in);
+        }
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "Allocation measurement not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs a call until warmed up, measures its average allocation and
+     * checks it against the budget of the given path.
+     *
+     * @param path the name of the path in the budgets file.
+     * @param call one call of the path.
+     */
+    private static void assertWithinBudget(String path, Runnable call) {
+        String budget = budgets.getProperty(path);
+        assertNotNull(budget, "No allocation budget for " + path);
+        long budgetBytes = Long.parseLong(budget.trim());
+
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run();
+        }
+
+        // The measurement itself may allocate; measure it once and subtract it
+        long overhead = -allocatedBytes() + allocatedBytes();
+        long start = allocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        long allocated = allocatedBytes() - start - overhead;
+
+        // One-off allocations, such as a list growing once, round away
+        double perCall = (double) allocated / MEASURED_CALLS;
+        assertTrue(Math.round(perCall) <= budgetBytes, String.format(
+                "%s allocates %.1f bytes per call, %.1f over its budget of %d bytes",
+                path, perCall, perCall - budgetBytes, budgetBytes));
+    }
+
+    //Tests moving a player along a board observed by a view, as every roll does
+    @Test
+    public void testMovePlayer() {
+        Player player = new Player("icon1.png", "Alice");
+        player.addObserver((movedPlayer, tile, type) -> { });
+        SnLGameController controller = new SnLGameController(new SnLBoard(), List.of(player));
+        controller.start();
+
+        int[] tile = {1};
+        assertWithinBudget("GameController.movePlayer", () -> {
+            tile[0] = tile[0] % 80 + 1;
+            controller.movePlayer(player, tile[0], movementType.PATH);
+        });
+    }
+
+    //Tests advancing turns, including skipping a player who lost a turn
+    @Test
+    public void testAdvanceTurn() {
+        Player alice = new Player("icon1.png", "Alice");
+        Player bob = new Player("icon2.png", "Bob");
+        SnLGameController controller = new SnLGameController(new SnLBoard(), List.of(alice, bob));
+        controller.start();
+
+        int[] turn = {0};
+        assertWithinBudget("SnLGameController.advanceTurn", () -> {
+            if (++turn[0] % 10 == 0) {
+                controller.markPlayerToSkip(bob);
+            }
+            controller.advanceTurn();
+        });
+    }
+
+    //Tests cycling through the players
+    @Test
+    public void testLoopingIteratorNext() {
+        LoopingIterator<String> iterator = new LoopingIterator<>(List.of("Alice", "Bob", "Carol"));
+
+        assertWithinBudget("LoopingIterator.next", iterator::next);
+    }
+
+    //Tests rolling the dice
+    @Test
+    public void testDiceRoll() {
+        Dice dice = new Dice(2);
+
+        assertWithinBudget("Dice.roll", dice::roll);
+    }
+
+    //Tests moving through the home path, going back to its first tile once at the goal
+    @Test
+    public void testMovePlayerThroughHomeBy() {
+        Player player = new Player("icon1.png", "Alice");
+        LudoGameController controller = new LudoGameController(new LudoBoard(), List.of(player));
+        controller.start();
+        controller.movePlayerThroughHome(player, 1);
+
+        assertWithinBudget("LudoGameController.movePlayerThroughHomeBy", () -> {
+            if (controller.getHomePosition().get(player) == 6) {
+                controller.movePlayerThroughHome(player, 1);
+            } else {
+                controller.movePlayerThroughHomeBy(player, 1);
+            }
+        });
+    }
+}
@@ -59,6 +59,26 @@ public class BoardJSONTest {
         assertEquals(90, board.getTiles().size());
     }
 
+    @Test
+    public void testConstructSizedSnLBoardFromJSON() {
+        SnLBoard board = BoardJSON.constructSnLBoardFromJSON(3);
+        assertEquals(40, board.getBoardWidth());
+        assertEquals(60, board.getBoardHeight());
+        assertEquals(2400, board.getTiles().size());
+        assertTrue(board.getTilesWithLadders().size() > 0);
+    }
+
+    @Test
+    public void testPreloadedBoardsAreNotShared() {
+        BoardJSON.preload();
+        SnLBoard first = BoardJSON.constructSnLBoardFromJSON(0);
+        SnLBoard second = BoardJSON.constructSnLBoardFromJSON(0);
+
+        assertTrue(first != second);
+        assertTrue(first.getTiles().get(0) != second.getTiles().get(0));
+        assertEquals(first.getTilesWithLadders().size(), second.getTilesWithLadders().size());
+    }
+
     @Test
     public void testValidLadderEffectParsed() {
         SnLBoard board = new SnLBoard();
@@ -0,0 +1,83 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.visual.elements.BoardVisual;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+
+public class BoardVisualCacheTest {
+
+    /**
+     * A board of plain nodes, since tile visuals need a running toolkit.
+     * Also used by {@link FrameMonitorTest}.
+     */
+    static class PlainBoard extends BoardVisual {
+
+        private final Rectangle decoration = new Rectangle(100, 100);
+
+        PlainBoard() {
+            super(new SnLBoard());
+        }
+
+        @Override
+        public void initializeBoard() {
+            tileGrid.add(new Rectangle(10, 10), 0, 0);
+            setStaticLayers(tileGrid, decoration);
+        }
+
+        @Override
+        public GridPane getTileGrid() {
+            return tileGrid;
+        }
+
+        @Override
+        public double getSpacing() {
+            return 0;
+        }
+    }
+
+    //Tests that a cached board can be built off the FX thread, as games are, without taking a snapshot
+    @Test
+    public void testCachedBoardBuiltOffThread() throws Exception {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            PlainBoard board = CompletableFuture.supplyAsync(() -> {
+                PlainBoard built = new PlainBoard();
+                built.initializeBoard();
+                built.setImageCached(true);
+                return built;
+            }, worker).get();
+
+            assertTrue(board.isImageCached());
+            assertEquals(1, board.getChildren().size());
+            ImageView cacheView = assertInstanceOf(ImageView.class, board.getChildren().get(0));
+            assertNull(cacheView.getImage());
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    //Tests that turning the cache off shows the static layers again
+    @Test
+    public void testCacheOffShowsLayers() {
+        PlainBoard board = new PlainBoard();
+        board.initializeBoard();
+        board.setImageCached(true);
+        board.setImageCached(false);
+
+        assertFalse(board.isImageCached());
+        assertEquals(2, board.getChildren().size());
+        assertEquals(board.tileGrid, board.getChildren().get(0));
+        assertEquals(board.decoration, board.getChildren().get(1));
+    }
+}
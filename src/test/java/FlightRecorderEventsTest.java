@@ -0,0 +1,71 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.model.effectFiles.LadderEffect;
+import boardgame.utils.JFR.BoardParsedEvent;
+import boardgame.utils.JFR.EffectExecutedEvent;
+import boardgame.utils.JSON.BoardJSON;
+import boardgame.utils.movementType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderEventsTest {
+
+    private static List<RecordedEvent> record(Class<? extends jdk.jfr.Event> eventType, Runnable action) throws IOException {
+        Path file = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventType).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return new ArrayList<>(RecordingFile.readAllEvents(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    //Tests that building a board records its index, size and number of effects
+    @Test
+    public void testBoardParsedEvent() throws IOException {
+        List<RecordedEvent> events = record(BoardParsedEvent.class, () -> BoardJSON.constructSnLBoardFromJSON(0));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(0, event.getInt("boardIndex"));
+        assertEquals(90, event.getInt("tiles"));
+        assertTrue(event.getInt("effects") > 0);
+        assertTrue(event.getLong("fileBytes") > 0);
+    }
+
+    //Tests that landing on a ladder records the effect and where it took the player
+    @Test
+    public void testEffectExecutedEvent() throws IOException {
+        SnLBoard board = new SnLBoard();
+        board.getTiles().get(4).setEffect(new LadderEffect(5, 15));
+        Player player = new Player("icon1.png", "Alice");
+        SnLGameController controller = new SnLGameController(board, List.of(player));
+        controller.start();
+
+        List<RecordedEvent> events = record(EffectExecutedEvent.class,
+                () -> controller.movePlayer(player, 5, movementType.PATH));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("LadderEffect", event.getString("effect"));
+        assertEquals("Alice", event.getString("player"));
+        assertEquals(5, event.getInt("tile"));
+        assertEquals(15, event.getInt("targetTile"));
+    }
+}
@@ -0,0 +1,127 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import boardgame.controller.FrameMonitor;
+import boardgame.controller.FrameMonitor.Quality;
+
+public class FrameMonitorTest {
+
+    private static final long ON_TIME = FrameMonitor.FRAME_BUDGET_NANOS;
+    private static final long SLOW = FrameMonitor.FRAME_BUDGET_NANOS * 3;
+
+    private FrameMonitor monitor;
+
+    @BeforeEach
+    public void setup() {
+        FrameMonitor.resetQuality();
+        monitor = new FrameMonitor(null);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        FrameMonitor.resetQuality();
+    }
+
+    private void playWindow(int slowFrames) {
+        for (int i = 0; i < FrameMonitor.WINDOW_FRAMES; i++) {
+            monitor.recordFrame(i < slowFrames ? SLOW : ON_TIME);
+        }
+    }
+
+    //Tests that each window with too many slow frames lowers the quality one step
+    @Test
+    public void testSlowWindowsLowerQuality() {
+        playWindow(FrameMonitor.WINDOW_FRAMES / 2);
+        assertEquals(Quality.MEDIUM, FrameMonitor.getQuality());
+
+        playWindow(FrameMonitor.WINDOW_FRAMES / 2);
+        assertEquals(Quality.LOW, FrameMonitor.getQuality());
+
+        playWindow(FrameMonitor.WINDOW_FRAMES);
+        assertEquals(Quality.LOW, FrameMonitor.getQuality());
+    }
+
+    //Tests that quality only comes back after several good windows in a row
+    @Test
+    public void testQualityRecoversAfterGoodWindows() {
+        playWindow(FrameMonitor.WINDOW_FRAMES);
+        assertEquals(Quality.MEDIUM, FrameMonitor.getQuality());
+
+        for (int i = 0; i < FrameMonitor.RECOVERY_WINDOWS - 1; i++) {
+            playWindow(0);
+        }
+        assertEquals(Quality.MEDIUM, FrameMonitor.getQuality());
+
+        playWindow(0);
+        assertEquals(Quality.HIGH, FrameMonitor.getQuality());
+    }
+
+    //Tests that a window between the thresholds neither lowers quality nor counts towards recovery
+    @Test
+    public void testBorderlineWindowResetsRecovery() {
+        playWindow(FrameMonitor.WINDOW_FRAMES);
+        playWindow(0);
+        playWindow(0);
+        playWindow(FrameMonitor.WINDOW_FRAMES / 10);
+        playWindow(0);
+        playWindow(0);
+        assertEquals(Quality.MEDIUM, FrameMonitor.getQuality());
+
+        playWindow(0);
+        assertEquals(Quality.HIGH, FrameMonitor.getQuality());
+    }
+
+    //Tests that long pauses are ignored and slow frames count the frames they dropped
+    @Test
+    public void testPausesIgnoredAndDroppedFramesCounted() {
+        long dropped = FrameMonitor.getDroppedFrames();
+
+        monitor.recordFrame(5_000_000_000L);
+        monitor.recordFrame(SLOW);
+        monitor.recordFrame(ON_TIME);
+
+        assertEquals(dropped + 2, FrameMonitor.getDroppedFrames());
+    }
+
+    //Tests that frames are slow from the slow-frame threshold on, not at the first nanosecond over budget
+    @Test
+    public void testSlowFrameThreshold() {
+        long dropped = FrameMonitor.getDroppedFrames();
+
+        monitor.recordFrame(FrameMonitor.FRAME_BUDGET_NANOS + 1_000_000);
+        monitor.recordFrame(FrameMonitor.SLOW_FRAME_NANOS);
+        assertEquals(dropped, FrameMonitor.getDroppedFrames());
+
+        monitor.recordFrame(FrameMonitor.SLOW_FRAME_NANOS + 1);
+        assertEquals(dropped + 1, FrameMonitor.getDroppedFrames());
+    }
+
+    //Tests that lowering the quality caches the board as an image, and raising it shows the live board again
+    @Test
+    public void testQualityCachesBoard() {
+        BoardVisualCacheTest.PlainBoard board = new BoardVisualCacheTest.PlainBoard();
+        board.initializeBoard();
+        monitor = new FrameMonitor(board);
+
+        playWindow(FrameMonitor.WINDOW_FRAMES);
+        assertEquals(Quality.MEDIUM, FrameMonitor.getQuality());
+        assertTrue(board.isImageCached());
+
+        for (int i = 0; i < FrameMonitor.RECOVERY_WINDOWS; i++) {
+            playWindow(0);
+        }
+        assertFalse(board.isImageCached());
+    }
+
+    //Tests that the average frame time of the last window is kept
+    @Test
+    public void testAverageFrameTime() {
+        playWindow(FrameMonitor.WINDOW_FRAMES / 2);
+
+        assertEquals((ON_TIME + SLOW) / 2, FrameMonitor.getAverageFrameNanos(), 1);
+    }
+}
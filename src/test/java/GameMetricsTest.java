@@ -0,0 +1,90 @@
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.utils.GameType;
+import boardgame.utils.JMX.GameMetrics;
+
+public class GameMetricsTest {
+
+    private GameMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        metrics = GameMetrics.instance();
+        metrics.reset();
+    }
+
+    //Tests that roll latency percentiles are exact for short latencies and an upper bound for long ones
+    @Test
+    public void testRollLatencyPercentiles() {
+        for (int i = 0; i < 98; i++) {
+            metrics.rollAnimated(5_000_000);
+        }
+        metrics.rollAnimated(1_000_000_000);
+        metrics.rollAnimated(1_000_000_000);
+
+        assertEquals(5, metrics.getRollLatencyP50Millis());
+        long p99 = metrics.getRollLatencyP99Millis();
+        assertTrue(p99 >= 1000 && p99 <= 1250, "p99 was " + p99);
+    }
+
+    //Tests that turns are counted by the game controller
+    @Test
+    public void testGameControllerCountsTurns() {
+        Player alice = new Player("icon1.png", "Alice");
+        SnLGameController controller = new SnLGameController(new SnLBoard(), List.of(alice));
+        controller.start();
+
+        controller.countTurn(alice);
+        controller.countTurn(alice);
+
+        assertEquals(2, metrics.getTurns());
+        assertTrue(metrics.getTurnsPerSecond() > 0);
+    }
+
+    //Tests that reading the turn rate does not change it for other readers
+    @Test
+    public void testTurnRateReadWithoutSideEffects() {
+        for (int i = 0; i < 20; i++) {
+            metrics.turnTaken();
+        }
+
+        double rate = metrics.getTurnsPerSecond();
+        assertEquals(2.0, rate, 1e-9);
+        assertEquals(rate, metrics.getTurnsPerSecond(), 1e-9);
+
+        metrics.reset();
+        assertEquals(0, metrics.getTurnsPerSecond());
+    }
+
+    //Tests that the metrics can be read through the platform MBean server
+    @Test
+    public void testRegisteredWithPlatformMBeanServer() throws Exception {
+        assertTrue(GameMetrics.register());
+        metrics.gameStarted(GameType.Ludo);
+        metrics.profileCacheHit();
+        metrics.profileCacheHit();
+        metrics.profileCacheHit();
+        metrics.profileCacheMiss();
+
+        ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        TabularData started = (TabularData) server.getAttribute(name, "GamesStarted");
+        CompositeData ludo = started.get(new Object[]{GameType.Ludo.name()});
+
+        assertEquals(1L, ludo.get("value"));
+        assertEquals(0.75, (double) server.getAttribute(name, "ProfileCacheHitRate"), 1e-9);
+    }
+}
@@ -0,0 +1,79 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.MockedStatic;
+
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.utils.GameType;
+import boardgame.utils.MatchHistory;
+import boardgame.utils.PlayerCSV;
+import boardgame.utils.RatingEngine;
+
+public class GameResultTest {
+
+    private MockedStatic<MatchHistory> historyStatics;
+    private MockedStatic<PlayerCSV> csvStatics;
+    private MockedStatic<RatingEngine> ratingStatics;
+    private MatchHistory history;
+    private PlayerCSV csv;
+    private Player alice;
+    private SnLGameController controller;
+
+    @BeforeEach
+    public void setup() {
+        history = mock(MatchHistory.class);
+        csv = mock(PlayerCSV.class);
+        historyStatics = mockStatic(MatchHistory.class);
+        csvStatics = mockStatic(PlayerCSV.class);
+        ratingStatics = mockStatic(RatingEngine.class);
+        historyStatics.when(MatchHistory::instance).thenReturn(history);
+        csvStatics.when(PlayerCSV::instance).thenReturn(csv);
+
+        alice = new Player("/PlayerIcons/Red.png", "Alice");
+        controller = new SnLGameController(new SnLBoard(),
+                List.of(alice, new Player("/PlayerIcons/Lime.png", "Bob")));
+        controller.setVariant(new MatchHistory.Variant(GameType.SnakesNLadders, 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        historyStatics.close();
+        csvStatics.close();
+        ratingStatics.close();
+    }
+
+    //Tests that the history, ratings and profile win are saved together, once
+    @Test
+    public void testResultSavedOnce() {
+        controller.recordResult(alice);
+        controller.recordResult(alice);
+
+        assertTrue(controller.isFinished());
+        verify(history, times(1)).recordGame(anyList());
+        ratingStatics.verify(() -> RatingEngine.updateIfLoaded(anyList()), times(1));
+        verify(csv, times(1)).recordWin("Alice");
+    }
+
+    //Tests that a game played by autoplay finishes without saving a result
+    @Test
+    public void testAutoplayedGameNotSaved() {
+        controller.markAutoplayed();
+        controller.recordResult(alice);
+
+        assertTrue(controller.isFinished());
+        verifyNoInteractions(history, csv);
+        ratingStatics.verify(() -> RatingEngine.updateIfLoaded(anyList()), never());
+    }
+}
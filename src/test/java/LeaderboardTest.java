@@ -0,0 +1,96 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import boardgame.utils.Leaderboard;
+
+public class LeaderboardTest {
+
+    private Leaderboard leaderboard;
+
+    @BeforeEach
+    public void setup() {
+        leaderboard = new Leaderboard();
+    }
+
+    //Tests that entries are ordered by wins, then by name
+    @Test
+    public void testOrdering() {
+        leaderboard.put("Bob", 3);
+        leaderboard.put("Alice", 3);
+        leaderboard.put("Eve", 7);
+        leaderboard.put("Carl", 0);
+
+        List<Leaderboard.Entry> top = leaderboard.topK(10);
+        assertEquals(List.of("Eve", "Alice", "Bob", "Carl"), top.stream().map(Leaderboard.Entry::name).toList());
+        assertEquals(1, leaderboard.rankOf("Eve"));
+        assertEquals(3, leaderboard.rankOf("Bob"));
+        assertEquals(-1, leaderboard.rankOf("Nobody"));
+    }
+
+    //Tests that recording a win moves the player up
+    @Test
+    public void testIncrementMovesPlayer() {
+        leaderboard.put("Alice", 1);
+        leaderboard.put("Bob", 1);
+
+        assertEquals(2, leaderboard.increment("Bob"));
+        assertEquals(1, leaderboard.rankOf("Bob"));
+        assertEquals(2, leaderboard.rankOf("Alice"));
+        assertEquals(2, leaderboard.size());
+    }
+
+    //Tests removal and out-of-range pages
+    @Test
+    public void testRemoveAndEmptyPages() {
+        leaderboard.put("Alice", 1);
+        leaderboard.remove("Alice");
+
+        assertFalse(leaderboard.contains("Alice"));
+        assertEquals(0, leaderboard.size());
+        assertTrue(leaderboard.page(0, 10).isEmpty());
+        assertTrue(leaderboard.page(5, 10).isEmpty());
+    }
+
+    //Compares ranks and pages against a plain sort after many random updates
+    @Test
+    public void testMatchesSortedReference() {
+        Random random = new Random(42);
+        Map<String, Integer> reference = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            String name = "Player" + random.nextInt(800);
+            if (random.nextInt(10) == 0) {
+                leaderboard.remove(name);
+                reference.remove(name);
+            } else {
+                int wins = random.nextInt(50);
+                leaderboard.put(name, wins);
+                reference.put(name, wins);
+            }
+        }
+
+        List<String> sorted = new ArrayList<>(reference.keySet());
+        sorted.sort(Comparator.comparing((String name) -> -reference.get(name)).thenComparing(name -> name));
+
+        assertEquals(sorted.size(), leaderboard.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, leaderboard.rankOf(sorted.get(i)));
+        }
+
+        List<Leaderboard.Entry> page = leaderboard.page(100, 25);
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals(sorted.get(100 + i), page.get(i).name());
+            assertEquals(101 + i, page.get(i).rank());
+        }
+    }
+}
@@ -57,10 +57,9 @@ public class LudoRollHandlerMoveByTest {
     @Test
     public void testMoveByEnteringHome() {
         gameController.movePlayer(player, 38, movementType.INSTANT); // Move player to the start of the home path
-        handler.getTilesMoved().replace(player, 53);
+        handler.getTilesMoved().replace(player, 51);
 
         handler.moveBy(player, 6);
-        handler.applyHomeMove(player, 4); //acts as the deferred (due to animation) move
         
         assertFalse(board.getTiles().get(39).getPlayers().contains(player));
         verify(tokenLayer, atLeastOnce()).addToAnimationQueue(any());
@@ -76,10 +75,7 @@ public class LudoRollHandlerMoveByTest {
         handler.getTilesMoved().replace(player, 53);
 
         handler.moveBy(player, 2); 
-        handler.applyHomeMove(player, 2); //acts as the deferred (due to animation) move
-
         handler.moveBy(player, 3); 
-        handler.applyHomeByMove(player, 3); //acts as the deferred (due to animation) move
 
         assertEquals(5, gameController.getHomePosition().get(player));
         assertFalse(board.getTiles().get(39).getPlayers().contains(player));
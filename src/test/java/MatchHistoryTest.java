@@ -0,0 +1,135 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import boardgame.model.MatchTracker;
+import boardgame.model.Player;
+import boardgame.utils.GameType;
+import boardgame.utils.MatchHistory;
+
+public class MatchHistoryTest {
+
+    private static final MatchHistory.Variant BOARD_1 = new MatchHistory.Variant(GameType.SnakesNLadders, 1);
+    private static final MatchHistory.Variant LUDO = new MatchHistory.Variant(GameType.Ludo, 0);
+
+    @TempDir
+    Path dir;
+
+    private File file;
+    private Player alice;
+    private Player bob;
+    private MatchTracker tracker;
+
+    @BeforeEach
+    public void setup() {
+        file = dir.resolve("history.bin").toFile();
+        alice = new Player("/PlayerIcons/Red.png", "Alice");
+        bob = new Player("/PlayerIcons/Lime.png", "Bob");
+        tracker = new MatchTracker(List.of(alice, bob));
+    }
+
+    //Tests that the tracker's counts end up in the rollups of each player and variant
+    @Test
+    public void testRollups() throws IOException {
+        MatchHistory history = new MatchHistory(file);
+
+        for (int i = 0; i < 10; i++) {
+            tracker.countTurn(alice);
+            tracker.countTurn(bob);
+        }
+        tracker.countSnake(bob);
+        tracker.countLadder(alice);
+        history.recordGame(tracker.results(BOARD_1, alice));
+        history.recordGame(new MatchTracker(List.of(alice, bob)).results(LUDO, bob));
+
+        MatchHistory.Rollup aliceTotal = history.getRollup("Alice");
+        assertEquals(2, aliceTotal.games());
+        assertEquals(1, aliceTotal.wins());
+        assertEquals(10.0, aliceTotal.averageTurnsToWin());
+        assertEquals(1, aliceTotal.ladders());
+
+        MatchHistory.Rollup bobOnBoard1 = history.getRollup("Bob", BOARD_1);
+        assertEquals(1, bobOnBoard1.games());
+        assertEquals(0, bobOnBoard1.wins());
+        assertEquals(1, bobOnBoard1.snakes());
+        assertEquals(1, history.getRollup("Bob", LUDO).wins());
+        assertEquals(MatchHistory.Rollup.EMPTY, history.getRollup("Carol"));
+    }
+
+    //Tests that records are read back in order with their fields intact
+    @Test
+    public void testForEachRecord() throws IOException {
+        MatchHistory history = new MatchHistory(file);
+        tracker.countTurn(alice);
+        history.recordGame(tracker.results(BOARD_1, alice));
+
+        List<MatchHistory.GameRecord> records = new ArrayList<>();
+        history.forEachRecord(records::add);
+
+        assertEquals(2, records.size());
+        assertEquals("Alice", records.get(0).name());
+        assertEquals(1, records.get(0).place());
+        assertEquals(1, records.get(0).turns());
+        assertEquals(BOARD_1, records.get(1).variant());
+        assertEquals(1, records.get(1).seat());
+        assertEquals(records.get(0).gameId(), records.get(1).gameId());
+    }
+
+    //Tests that seats, places and boards past one byte are read back intact after reopening
+    @Test
+    public void testWideFieldsRoundTrip() throws IOException {
+        MatchHistory.Variant board300 = new MatchHistory.Variant(GameType.SnakesNLadders, 300);
+        MatchHistory history = new MatchHistory(file);
+        history.recordGame(List.of(
+                new MatchHistory.GameRecord(1, 2, board300, 130, 1, 40, 3, 4, "Alice"),
+                new MatchHistory.GameRecord(1, 2, board300, 499, 200, 41, 5, 6, "Bob")));
+
+        MatchHistory reopened = new MatchHistory(file);
+        List<MatchHistory.GameRecord> records = new ArrayList<>();
+        reopened.forEachRecord(records::add);
+
+        assertEquals(130, records.get(0).seat());
+        assertEquals(board300, records.get(0).variant());
+        assertEquals(499, records.get(1).seat());
+        assertEquals(200, records.get(1).place());
+        assertEquals(1, reopened.getRollup("Alice", board300).wins());
+        assertEquals(0, reopened.getRollup("Bob", board300).wins());
+    }
+
+    //Tests that reopening uses the rollup snapshot plus the records written after it
+    @Test
+    public void testReopenWithSnapshot() throws IOException {
+        MatchHistory history = new MatchHistory(file);
+        for (int i = 0; i < 2100; i++) {
+            history.recordGame(tracker.results(BOARD_1, i % 3 == 0 ? bob : alice));
+        }
+        assertTrue(Files.exists(Path.of(file.getPath() + ".rollups")));
+
+        MatchHistory reopened = new MatchHistory(file);
+        assertEquals(history.getRollup("Alice"), reopened.getRollup("Alice"));
+        assertEquals(history.getRollup("Bob", BOARD_1), reopened.getRollup("Bob", BOARD_1));
+        assertEquals(2100, reopened.getRollup("Bob").games());
+        assertEquals(700, reopened.getRollup("Bob").wins());
+    }
+
+    //Tests that games recorded by another instance are picked up on refresh
+    @Test
+    public void testRefresh() throws IOException {
+        MatchHistory first = new MatchHistory(file);
+        MatchHistory second = new MatchHistory(file);
+
+        first.recordGame(tracker.results(LUDO, alice));
+        second.refresh();
+
+        assertEquals(1, second.getRollup("Alice", LUDO).wins());
+    }
+}
@@ -0,0 +1,68 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import boardgame.utils.ProfileIndex;
+
+public class ProfileIndexTest {
+
+    private ProfileIndex index;
+
+    @BeforeEach
+    public void setup() {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"bob", "Lime"});
+        rows.add(new String[]{"Alice", "Red"});
+        rows.add(new String[]{"Albert", "White"});
+        rows.add(new String[]{"Alice", "Purple"}); // duplicate, first row wins
+        rows.add(new String[]{"Charlie", "Yellow"});
+        index = new ProfileIndex(rows);
+    }
+
+    //Tests case-insensitive prefix matching in alphabetical order
+    @Test
+    public void testPrefixSearch() {
+        List<ProfileIndex.Match> matches = index.search("al", 10);
+
+        assertEquals(List.of("Albert", "Alice"), matches.stream().map(ProfileIndex.Match::name).toList());
+        assertEquals("Red", matches.get(1).icon());
+        assertEquals(4, index.size());
+    }
+
+    //Tests that the result limit is respected and empty prefixes match everything
+    @Test
+    public void testLimitAndEmptyPrefix() {
+        assertEquals(2, index.search("", 2).size());
+        assertEquals(4, index.search("", 10).size());
+        assertTrue(index.search("z", 10).isEmpty());
+    }
+
+    //Tests that new profiles are inserted in order and existing ones are updated
+    @Test
+    public void testPut() {
+        index.put("Alfred", "Orange");
+        index.put("bob", "Red");
+
+        assertEquals(List.of("Albert", "Alfred", "Alice"),
+                index.search("AL", 10).stream().map(ProfileIndex.Match::name).toList());
+        assertEquals("Red", index.search("bo", 1).get(0).icon());
+        assertEquals(5, index.size());
+    }
+
+    //Tests that the backing arrays grow past their initial capacity
+    @Test
+    public void testManyInserts() {
+        for (int i = 0; i < 1000; i++) {
+            index.put(String.format("Player%04d", i), "Lime");
+        }
+
+        assertEquals(1004, index.size());
+        List<ProfileIndex.Match> matches = index.search("player05", 3);
+        assertEquals(List.of("Player0500", "Player0501", "Player0502"),
+                matches.stream().map(ProfileIndex.Match::name).toList());
+    }
+}
@@ -0,0 +1,172 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import org.mockito.MockedStatic;
+
+import boardgame.utils.PlayerCSV;
+import boardgame.utils.ProfileStore;
+import javafx.application.Platform;
+
+public class ProfileStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private File csv;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        csv = dir.resolve("profiles.csv").toFile();
+        Files.writeString(csv.toPath(), "\"Alice\",\"Red\"\n\"Bob\",\"Lime\"\n");
+    }
+
+    //Tests that the store reads the existing CSV file in order
+    @Test
+    public void testSnapshot() throws IOException {
+        ProfileStore store = new ProfileStore(csv);
+        List<String[]> rows = store.snapshot();
+
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[]{"Alice", "Red"}, rows.get(0));
+        assertArrayEquals(new String[]{"Bob", "Lime"}, rows.get(1));
+    }
+
+    //Tests that a second store picks up another store's saves without a full reload
+    @Test
+    public void testIncrementalRefresh() throws IOException {
+        ProfileStore first = new ProfileStore(csv);
+        ProfileStore second = new ProfileStore(csv);
+        second.snapshot();
+
+        List<String[]> changes = new ArrayList<>();
+        second.setChangeListener(changes::add);
+
+        first.update("Bob", row -> new String[]{"Bob", "Lime", "3"});
+        first.update("Carol", row -> new String[]{"Carol", "Blue"});
+
+        assertFalse(second.refresh());
+        assertEquals(List.of("Bob", "Carol"), changes.stream().map(row -> row[0]).toList());
+        assertEquals(3, second.snapshot().size());
+        assertEquals(first.getVersion(), second.getVersion());
+    }
+
+    //Tests that updates made through two stores are applied on top of each other, never lost
+    @Test
+    public void testNoLostUpdates() throws IOException {
+        ProfileStore first = new ProfileStore(csv);
+        ProfileStore second = new ProfileStore(csv);
+
+        for (int i = 0; i < 50; i++) {
+            ProfileStore store = i % 2 == 0 ? first : second;
+            store.update("Alice", row -> {
+                int wins = row.length > 2 ? Integer.parseInt(row[2]) : 0;
+                return new String[]{row[0], row[1], Integer.toString(wins + 1)};
+            });
+        }
+
+        assertEquals("50", first.snapshot().get(0)[2]);
+        assertEquals("50", second.snapshot().get(0)[2]);
+    }
+
+    //Tests that several instances saving at once, each from several threads, lose no wins
+    @Test
+    public void testNoLostUpdatesAcrossProcesses() throws IOException, InterruptedException {
+        Files.writeString(csv.toPath(), "\"Alice\",\"Red\",\"0\"\n");
+        int instances = 4;
+        int threads = 2;
+        int wins = 25;
+
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            processes.add(new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    ProfileStoreWriter.class.getName(),
+                    csv.getPath(), "Alice", Integer.toString(threads), Integer.toString(wins))
+                    .inheritIO()
+                    .start());
+        }
+        for (Process process : processes) {
+            assertEquals(0, process.waitFor());
+        }
+
+        ProfileStore store = new ProfileStore(csv);
+        assertEquals(Integer.toString(instances * threads * wins), store.snapshot().get(0)[2]);
+        assertTrue(store.getVersion() >>> 40 > 0, "the journal should have been compacted meanwhile");
+    }
+
+    //Tests that closing the store compacts the journal, so the CSV file alone is up to date
+    @Test
+    public void testCloseCompacts() throws IOException {
+        ProfileStore store = new ProfileStore(csv);
+        store.update("Bob", row -> new String[]{"Bob", "Lime", "7"});
+
+        store.close();
+
+        assertTrue(Files.readString(csv.toPath()).contains("\"Bob\",\"Lime\",\"7\""));
+        assertEquals(8, Files.size(Path.of(csv.getPath() + ".journal")));
+    }
+
+    //Tests that a store whose journal cannot be created reads the file but refuses saves
+    @Test
+    public void testReadOnlyFallback() throws IOException {
+        Files.createDirectory(Path.of(csv.getPath() + ".journal"));
+
+        ProfileStore store = new ProfileStore(csv);
+
+        assertTrue(store.isReadOnly());
+        assertEquals(2, store.snapshot().size());
+        assertThrows(IOException.class, () -> store.update("Alice", row -> row));
+    }
+
+    //Tests that saving profiles to a read-only store reports the error instead of throwing
+    @Test
+    public void testReadOnlySaveReported() throws IOException {
+        Files.createDirectory(Path.of(csv.getPath() + ".journal"));
+        ProfileStore store = new ProfileStore(csv);
+
+        try (MockedStatic<ProfileStore> stores = mockStatic(ProfileStore.class);
+             MockedStatic<Platform> platform = mockStatic(Platform.class)) {
+            stores.when(() -> ProfileStore.forFile(any())).thenReturn(store);
+
+            assertEquals(-1, PlayerCSV.instance().recordWin("Alice"));
+            assertDoesNotThrow(() -> PlayerCSV.instance().registerNewPlayer("Carol", "Red"));
+            platform.verify(() -> Platform.runLater(any()), times(2));
+        }
+    }
+
+    //Tests that compaction rewrites the CSV file and other stores reload it
+    @Test
+    public void testCompaction() throws IOException {
+        ProfileStore first = new ProfileStore(csv);
+        ProfileStore second = new ProfileStore(csv);
+        second.snapshot();
+
+        String padding = "x".repeat(1000);
+        for (int i = 0; i < 80; i++) {
+            String name = "Player" + i;
+            first.update(name, row -> new String[]{name, padding});
+        }
+
+        assertTrue(second.refresh());
+        assertEquals(82, second.snapshot().size());
+        assertTrue(Files.readString(csv.toPath()).contains("Player0"));
+        assertTrue(Files.size(Path.of(csv.getPath() + ".journal")) < 64 * 1024);
+    }
+}
@@ -0,0 +1,51 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import boardgame.utils.ProfileStore;
+
+/**
+ * A separate application instance for {@link ProfileStoreTest}: adds wins to
+ * one profile from several threads through the shared store of the file.
+ * <p>
+ * Arguments: the CSV file, the profile name, the number of threads and the
+ * number of wins each thread adds.
+ */
+public class ProfileStoreWriter {
+
+    public static void main(String[] args) throws Exception {
+        File csv = new File(args[0]);
+        String name = args[1];
+        int threadCount = Integer.parseInt(args[2]);
+        int wins = Integer.parseInt(args[3]);
+        String padding = "x".repeat(500);
+
+        ProfileStore store = ProfileStore.forFile(csv);
+        List<Thread> threads = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < wins; i++) {
+                        // Padding makes the journal compact while other instances are saving
+                        store.update(name, row -> new String[]{row[0], row[1],
+                                Integer.toString(Integer.parseInt(row[2]) + 1), padding});
+                    }
+                } catch (IOException e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (!failures.isEmpty()) {
+            throw failures.get(0);
+        }
+    }
+}
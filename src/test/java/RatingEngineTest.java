@@ -0,0 +1,75 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import boardgame.utils.GameType;
+import boardgame.utils.MatchHistory;
+import boardgame.utils.RatingEngine;
+
+public class RatingEngineTest {
+
+    private static final MatchHistory.Variant BOARD_1 = new MatchHistory.Variant(GameType.SnakesNLadders, 1);
+
+    private static List<MatchHistory.GameRecord> game(long id, String winner, String... others) {
+        List<MatchHistory.GameRecord> records = new ArrayList<>();
+        records.add(new MatchHistory.GameRecord(id, id, BOARD_1, 0, 1, 10, 0, 0, winner));
+        for (int i = 0; i < others.length; i++) {
+            records.add(new MatchHistory.GameRecord(id, id, BOARD_1, i + 1, 0, 10, 0, 0, others[i]));
+        }
+        return records;
+    }
+
+    //Tests that a two-player game between equal players moves each rating by half the K-factor
+    @Test
+    public void testSingleGame() {
+        RatingEngine engine = RatingEngine.compute(List.of(game(1, "Alice", "Bob")), 1500, 32);
+
+        assertEquals(1516, engine.getRating("Alice"), 1e-9);
+        assertEquals(1484, engine.getRating("Bob"), 1e-9);
+        assertEquals(1500, engine.getRating("Carol"), 1e-9);
+    }
+
+    //Tests that non-finishers draw with each other and ratings are conserved
+    @Test
+    public void testMultiplayerGame() {
+        RatingEngine engine = RatingEngine.compute(List.of(game(1, "Alice", "Bob", "Carol")), 1500, 32);
+
+        assertEquals(engine.getRating("Bob"), engine.getRating("Carol"), 1e-9);
+        assertEquals(4500, engine.getRating("Alice") + engine.getRating("Bob") + engine.getRating("Carol"), 1e-9);
+        assertTrue(engine.getRating("Alice") > 1500);
+    }
+
+    //Tests that the parallel batch recompute matches replaying every game incrementally
+    @Test
+    public void testBatchMatchesIncremental() {
+        Random random = new Random(7);
+        List<List<MatchHistory.GameRecord>> games = new ArrayList<>();
+        for (int g = 0; g < 5000; g++) {
+            // Players are split into 50 leagues that never play each other
+            int league = random.nextInt(50);
+            String[] names = new String[2 + random.nextInt(3)];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = "P" + league + "-" + random.nextInt(20);
+            }
+            String[] others = new String[names.length - 1];
+            System.arraycopy(names, 1, others, 0, others.length);
+            games.add(game(g, names[0], others));
+        }
+
+        RatingEngine batch = RatingEngine.compute(games, 1500, 32);
+        RatingEngine incremental = RatingEngine.compute(List.of(), 1500, 32);
+        games.forEach(incremental::update);
+
+        assertEquals(incremental.size(), batch.size());
+        for (int league = 0; league < 50; league++) {
+            for (int p = 0; p < 20; p++) {
+                String name = "P" + league + "-" + p;
+                assertEquals(incremental.getRating(name), batch.getRating(name), 1e-6);
+            }
+        }
+    }
+}
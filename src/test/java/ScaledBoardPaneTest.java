@@ -0,0 +1,32 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import boardgame.visual.elements.ScaledBoardPane;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+
+public class ScaledBoardPaneTest {
+
+    //Tests that the board is scaled to fit, keeps its aspect ratio and is centered
+    @Test
+    public void testFitsAndCenters() {
+        ScaledBoardPane pane = new ScaledBoardPane(new Rectangle(200, 100));
+        Node content = pane.getChildrenUnmodifiable().get(0);
+        Scale scale = (Scale) content.getTransforms().get(0);
+
+        pane.resize(400, 400);
+        pane.layout();
+
+        assertEquals(2, scale.getX(), 1e-9);
+        assertEquals(2, scale.getY(), 1e-9);
+        assertEquals(0, content.getLayoutX(), 1e-9);
+        assertEquals(100, content.getLayoutY(), 1e-9);
+
+        pane.resize(100, 400);
+        pane.layout();
+
+        assertEquals(0.5, scale.getX(), 1e-9);
+        assertEquals(100, content.getBoundsInParent().getWidth(), 1e-9);
+    }
+}
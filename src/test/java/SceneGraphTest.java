@@ -0,0 +1,36 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import boardgame.utils.SceneGraph;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Rectangle;
+
+public class SceneGraphTest {
+
+    //Tests that every node below the root is counted, including the root
+    @Test
+    public void testCountNodes() {
+        StackPane root = new StackPane(new Rectangle(1, 1), new StackPane(new Rectangle(1, 1), new Rectangle(1, 1)));
+
+        assertEquals(5, SceneGraph.countNodes(root));
+        assertEquals(1, SceneGraph.countNodes(new Rectangle(1, 1)));
+    }
+
+    //Tests that a grid drawn into one canvas has far fewer nodes than one node per cell
+    @Test
+    public void testCanvasGridHasFewerNodes() {
+        GridPane cellGrid = new GridPane();
+        for (int i = 0; i < 90; i++) {
+            cellGrid.add(new StackPane(new Rectangle(10, 10)), i % 10, i / 10);
+        }
+        GridPane canvasGrid = new GridPane();
+        canvasGrid.add(new Canvas(140, 126), 0, 0);
+
+        assertEquals(181, SceneGraph.countNodes(cellGrid));
+        assertEquals(2, SceneGraph.countNodes(canvasGrid));
+        assertTrue(SceneGraph.countNodes(canvasGrid) < SceneGraph.countNodes(cellGrid));
+    }
+}
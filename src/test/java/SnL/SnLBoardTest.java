@@ -109,4 +109,21 @@ public class SnLBoardTest {
         List<Tile> snakes = defaultBoard.getTilesWithSnakes();
         assertTrue(snakes.isEmpty(), "List of snakes should be empty");
     }
+
+    @Test
+    @DisplayName("Tile positions should snake from the bottom-left corner and map back to tiles")
+    public void tilePositionsShouldSnakeAndRoundTrip() {
+        assertEquals(0, defaultBoard.getColumn(1));
+        assertEquals(8, defaultBoard.getRow(1));
+        assertEquals(9, defaultBoard.getColumn(11), "Second row should run right to left");
+        assertEquals(7, defaultBoard.getRow(11));
+        assertEquals(9, defaultBoard.getColumn(90));
+        assertEquals(0, defaultBoard.getRow(90));
+
+        SnLBoard largeBoard = new SnLBoard(40, 60);
+        for (int tile = 1; tile <= largeBoard.getTileCount(); tile++) {
+            assertEquals(tile, largeBoard.getTileAt(largeBoard.getColumn(tile), largeBoard.getRow(tile)));
+        }
+        assertEquals(-1, largeBoard.getTileAt(40, 0), "Positions off the board should have no tile");
+    }
 }
\ No newline at end of file
@@ -84,4 +84,32 @@ public class SnLGCTest {
         assertTrue(board.getTiles().get(4).getPlayers().contains(player));
     }
 
+    /**
+     * Checks that a large game rotates turns in order and removes the player
+     * who moved, not the first one on the tile.
+     */
+    @Test
+    public void testManyPlayers() {
+        List<Player> crowd = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            crowd.add(new Player("icon.png", "Player " + i));
+        }
+        SnLBoard crowdBoard = new SnLBoard();
+        SnLGameController crowdController = new SnLGameController(crowdBoard, crowd);
+        crowdController.start();
+
+        for (int round = 0; round < 2; round++) {
+            for (Player player : crowd) {
+                assertEquals(player, crowdController.getCurrentPlayer());
+                crowdController.advanceTurn();
+            }
+        }
+
+        Player mover = crowd.get(100);
+        crowdController.movePlayer(mover, 10, movementType.PATH);
+        assertFalse(crowdBoard.getTiles().get(0).getPlayers().contains(mover));
+        assertTrue(crowdBoard.getTiles().get(0).getPlayers().contains(crowd.get(0)));
+        assertEquals(249, crowdBoard.getTiles().get(0).getPlayers().size());
+    }
+
 }
@@ -0,0 +1,71 @@
+package SnL;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.model.Observer.PlayerObserver;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.utils.movementType;
+
+/**
+ * Tests that leaving a game through {@link SnLGameController#dispose()}
+ * detaches the game's observers from its players, so players that outlive
+ * the game do not keep its views alive.
+ */
+public class SnLGameControllerDisposeTest {
+
+    /**
+     * Stands in for a token layer and counts the moves it is told about.
+     */
+    private static class CountingView implements PlayerObserver {
+        private int moves = 0;
+
+        @Override
+        public void registerPlayerMove(Player player, int newTileNumber, movementType movementType) {
+            moves++;
+        }
+    }
+
+    private static CountingView playAndLeaveGame(List<Player> players) {
+        SnLGameController controller = new SnLGameController(new SnLBoard(), players);
+        CountingView view = new CountingView();
+        players.forEach(player -> player.addObserver(view));
+
+        controller.start();
+        for (int tile = 2; tile < 40; tile += 3) {
+            controller.movePlayer(controller.getCurrentPlayer(), tile, movementType.PATH);
+            controller.advanceTurn();
+        }
+
+        controller.dispose();
+        return view;
+    }
+
+    //Tests that disposing a game detaches its observers from the players
+    @Test
+    public void testDisposeDetachesObservers() {
+        List<Player> players = List.of(new Player("icon1.png", "Alice"), new Player("icon2.png", "Bob"));
+
+        CountingView view = playAndLeaveGame(players);
+
+        assertTrue(view.moves > 0);
+        assertTrue(players.stream().allMatch(player -> player.getObservers().isEmpty()));
+    }
+
+    //Tests that players joining game after game never collect the observers of earlier games
+    @Test
+    public void testObserversDoNotAccumulateAcrossGames() {
+        List<Player> players = List.of(new Player("icon1.png", "Alice"), new Player("icon2.png", "Bob"));
+
+        for (int game = 0; game < 100; game++) {
+            playAndLeaveGame(players);
+            for (Player player : players) {
+                assertEquals(0, player.getObservers().size(), "after game " + game);
+            }
+        }
+    }
+}
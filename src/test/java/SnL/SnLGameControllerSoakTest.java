@@ -0,0 +1,111 @@
+package SnL;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.model.Observer.PlayerObserver;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.utils.movementType;
+
+/**
+ * Soak test for {@link SnLGameController#dispose()}: starts and leaves 1,000
+ * games and checks that heap usage stays flat, as on a kiosk that runs for
+ * days.
+ * <p>
+ * The players of every game are kept, the way profiles and rosters outlive
+ * sessions. Each game's view is stood in for by an observer that holds as
+ * much memory as a set of decoded token images. Without disposal, every
+ * player would keep its game's view alive through its observer list.
+ * <p>
+ * Only the controller's part of leaving a game is covered. Token layers,
+ * ingame views, the scene switch and icon listeners need a running JavaFX
+ * toolkit, which the test run does not have. The heap checks depend on
+ * {@code System.gc()}, so this test is left out of the normal test run and
+ * runs with {@code mvn test -Psoak}.
+ */
+public class SnLGameControllerSoakTest {
+
+    private static final int CYCLES = 1000;
+    private static final int WARMUP_CYCLES = 100;
+    private static final int VIEW_BYTES = 64 * 1024;
+    private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+
+    /**
+     * Stands in for a token layer: observes the players and holds images.
+     */
+    private static class FakeView implements PlayerObserver {
+        private final byte[] images = new byte[VIEW_BYTES];
+        private int moves = 0;
+
+        @Override
+        public void registerPlayerMove(Player player, int newTileNumber, movementType movementType) {
+            moves++;
+            images[moves % images.length]++;
+        }
+    }
+
+    private final List<Player> retainedPlayers = new ArrayList<>();
+    private final List<WeakReference<FakeView>> views = new ArrayList<>();
+
+    private void playAndLeaveGame(int cycle) {
+        List<Player> players = List.of(
+                new Player("icon1.png", "Alice" + cycle),
+                new Player("icon2.png", "Bob" + cycle));
+        retainedPlayers.addAll(players);
+
+        SnLGameController controller = new SnLGameController(new SnLBoard(), players);
+        FakeView view = new FakeView();
+        players.forEach(player -> player.addObserver(view));
+        views.add(new WeakReference<>(view));
+
+        controller.start();
+        for (int tile = 2; tile < 40; tile += 3) {
+            controller.movePlayer(controller.getCurrentPlayer(), tile, movementType.PATH);
+            controller.advanceTurn();
+        }
+
+        controller.dispose();
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private boolean retainedPlayersHaveNoObservers() {
+        return retainedPlayers.stream().allMatch(player -> player.getObservers().isEmpty());
+    }
+
+    /**
+     * Starts and leaves 1,000 games and checks that heap usage after the
+     * warmup stays flat and that the games' views are collected.
+     */
+    @Test
+    public void testHeapStaysFlatAcrossGames() throws InterruptedException {
+        for (int cycle = 0; cycle < WARMUP_CYCLES; cycle++) {
+            playAndLeaveGame(cycle);
+        }
+        long heapAfterWarmup = usedHeapAfterGc();
+
+        for (int cycle = WARMUP_CYCLES; cycle < CYCLES; cycle++) {
+            playAndLeaveGame(cycle);
+        }
+        long heapAfterSoak = usedHeapAfterGc();
+
+        long liveViews = views.stream().filter(view -> view.get() != null).count();
+        assertTrue(liveViews < 10, liveViews + " of " + CYCLES + " game views are still reachable");
+        assertTrue(heapAfterSoak - heapAfterWarmup < MAX_HEAP_GROWTH,
+                "Heap grew by " + (heapAfterSoak - heapAfterWarmup) / 1024 + " KiB over "
+                        + (CYCLES - WARMUP_CYCLES) + " games");
+        assertTrue(retainedPlayersHaveNoObservers());
+    }
+}
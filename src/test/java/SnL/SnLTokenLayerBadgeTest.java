@@ -0,0 +1,106 @@
+package SnL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+
+import boardgame.controller.FrameMonitor;
+import boardgame.controller.FrameMonitor.Quality;
+import boardgame.model.Player;
+import boardgame.utils.IconCache;
+import boardgame.utils.movementType;
+import boardgame.visual.elements.SnL.SnLBoardVisual;
+import boardgame.visual.gameLayers.SnLTokenLayer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Tests what a mass-mode token layer draws on its canvas at each quality.
+ * The toolkit is not running, so the canvas, board and icons are mocks and
+ * the drawing calls are checked instead of pixels.
+ */
+public class SnLTokenLayerBadgeTest {
+
+    private SnLBoardVisual boardVisual;
+    private Image icon;
+    private GraphicsContext gc;
+
+    @BeforeEach
+    public void setUp() {
+        FrameMonitor.resetQuality();
+        boardVisual = mock(SnLBoardVisual.class);
+        when(boardVisual.getTileGrid()).thenReturn(new GridPane());
+        when(boardVisual.getSpacing()).thenReturn(100.0);
+        icon = mock(Image.class);
+        when(icon.getProgress()).thenReturn(1.0);
+        gc = mock(GraphicsContext.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        FrameMonitor.resetQuality();
+    }
+
+    /**
+     * Builds a mass-mode layer for six players, three on tile 1 and three on
+     * tile 10, which paints both tiles.
+     */
+    private void paintTwoStacksOfThree() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < SnLTokenLayer.MASS_MODE_PLAYERS; i++) {
+            Player player = new Player("/PlayerIcons/Red.png", "Player" + i);
+            if (i % 2 == 1) {
+                player.setPosition(10, movementType.INSTANT);
+            }
+            players.add(player);
+        }
+
+        try (MockedStatic<IconCache> icons = mockStatic(IconCache.class);
+                MockedConstruction<Canvas> canvases = mockConstruction(Canvas.class,
+                        (canvas, context) -> when(canvas.getGraphicsContext2D()).thenReturn(gc))) {
+            icons.when(() -> IconCache.get(anyString(), anyDouble())).thenReturn(icon);
+            new SnLTokenLayer(boardVisual, players);
+        }
+    }
+
+    //Tests that small stacks draw every token at full quality
+    @Test
+    public void testSmallStacksDrawEveryToken() {
+        paintTwoStacksOfThree();
+
+        verify(gc, times(6)).drawImage(eq(icon), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(gc, never()).fillOval(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    //Tests that at low quality small stacks collapse into one token with a count badge
+    @Test
+    public void testLowQualityDrawsBadges() {
+        FrameMonitor monitor = new FrameMonitor(null);
+        while (FrameMonitor.getQuality() != Quality.LOW) {
+            monitor.recordFrame(FrameMonitor.SLOW_FRAME_NANOS + 1);
+        }
+
+        paintTwoStacksOfThree();
+
+        verify(gc, times(2)).drawImage(eq(icon), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(gc, times(2)).fillOval(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(gc, times(2)).fillText(eq("3"), anyDouble(), anyDouble());
+    }
+}
@@ -0,0 +1,99 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import boardgame.utils.TurnTracer;
+import boardgame.utils.TurnTracer.Record;
+import boardgame.utils.TurnTracer.Span;
+
+public class TurnTracerTest {
+
+    @BeforeEach
+    public void setup() {
+        TurnTracer.discardOpenTurns();
+    }
+
+    private static List<Span> spansOfLastTurn() {
+        List<Record> records = TurnTracer.snapshot();
+        long turn = records.get(records.size() - 1).turn();
+        return records.stream().filter(record -> record.turn() == turn).map(Record::span).toList();
+    }
+
+    //Tests that a clicked turn records every span, in the order they end
+    @Test
+    public void testClickedTurnRecordsAllSpans() {
+        TurnTracer.click();
+        TurnTracer.beginTurn();
+        TurnTracer.record(Span.DICE, TurnTracer.now());
+        TurnTracer.record(Span.MOVE, TurnTracer.now());
+        TurnTracer.endTurnLogic();
+        TurnTracer.animationsSettled(null);
+
+        assertEquals(List.of(Span.INPUT, Span.DICE, Span.MOVE, Span.LOGIC, Span.ANIMATION, Span.LAYOUT, Span.TOTAL),
+                spansOfLastTurn());
+    }
+
+    //Tests that a turn rolled without a click, as by autoplay, has no input span
+    @Test
+    public void testTurnWithoutClickHasNoInputSpan() {
+        TurnTracer.beginTurn();
+        TurnTracer.endTurnLogic();
+        TurnTracer.animationsSettled(null);
+
+        assertEquals(List.of(Span.LOGIC, Span.ANIMATION, Span.LAYOUT, Span.TOTAL), spansOfLastTurn());
+    }
+
+    //Tests that the whole turn spans from the click to the end of its layout
+    @Test
+    public void testTotalContainsTheOtherSpans() {
+        TurnTracer.click();
+        TurnTracer.beginTurn();
+        TurnTracer.endTurnLogic();
+        TurnTracer.animationsSettled(null);
+
+        List<Record> records = TurnTracer.snapshot();
+        Record total = records.get(records.size() - 1);
+        for (Record record : records.subList(records.size() - 5, records.size() - 1)) {
+            assertTrue(record.startNanos() >= total.startNanos() && record.endNanos() <= total.endNanos());
+        }
+    }
+
+    //Tests that the ring buffer keeps only the newest spans
+    @Test
+    public void testRingBufferKeepsNewestSpans() {
+        for (int i = 0; i < TurnTracer.CAPACITY; i++) {
+            TurnTracer.beginTurn();
+            TurnTracer.endTurnLogic();
+            TurnTracer.animationsSettled(null);
+        }
+
+        List<Record> records = TurnTracer.snapshot();
+        assertEquals(TurnTracer.CAPACITY, records.size());
+        assertEquals(Span.TOTAL, records.get(records.size() - 1).span());
+        for (int i = 1; i < records.size(); i++) {
+            assertTrue(records.get(i).turn() >= records.get(i - 1).turn());
+        }
+    }
+
+    //Tests the percentiles and histogram computed from recorded spans
+    @Test
+    public void testSummaryAndHistogram() {
+        List<Record> records = List.of(
+                new Record(1, Span.TOTAL, 0, 10_000_000),
+                new Record(2, Span.TOTAL, 0, 20_000_000),
+                new Record(3, Span.TOTAL, 0, 40_000_000),
+                new Record(3, Span.LOGIC, 0, 1_000_000));
+
+        TurnTracer.Summary summary = TurnTracer.summarize(records, Span.TOTAL);
+        assertEquals(3, summary.count());
+        assertEquals(20_000_000, summary.p50Nanos());
+        assertEquals(40_000_000, summary.p99Nanos());
+        assertEquals(40_000_000, summary.maxNanos());
+
+        assertArrayEquals(new int[]{1, 1, 1}, TurnTracer.histogram(records, Span.TOTAL, new long[]{16, 33}));
+    }
+}
@@ -0,0 +1,251 @@
+package perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * A stored set of benchmark results, kept as one JSON file per application
+ * version in the {@code perf-baselines} directory of the repository.
+ * <p>
+ * A baseline holds every sample rather than averages, so that later runs
+ * can be compared with confidence intervals. It also records the Java
+ * version, operating system and processor count it was measured on, since
+ * results are only comparable on the same kind of machine.
+ */
+public class Baseline {
+
+    /**
+     * The version of the file format, stored in every baseline.
+     */
+    public static final int FORMAT = 2;
+
+    private final String version;
+    private final String recorded;
+    private final String environment;
+    private final Map<String, BenchmarkResult> results;
+
+    /**
+     * Constructs a baseline.
+     *
+     * @param version     the application version the results belong to.
+     * @param recorded    when the results were measured, as an ISO-8601
+     *                    instant.
+     * @param environment a description of the machine they were measured on.
+     * @param results     the results, in the order they were run.
+     */
+    public Baseline(String version, String recorded, String environment, List<BenchmarkResult> results) {
+        this.version = version;
+        this.recorded = recorded;
+        this.environment = environment;
+        this.results = new LinkedHashMap<>();
+        results.forEach(result -> this.results.put(result.name(), result));
+    }
+
+    /**
+     * Constructs a baseline of results measured now, on this machine.
+     *
+     * @param version the application version the results belong to.
+     * @param results the results, in the order they were run.
+     * @return the new baseline.
+     */
+    public static Baseline ofCurrentRun(String version, List<BenchmarkResult> results) {
+        String environment = String.format("Java %s, %s %s, %d processors",
+                System.getProperty("java.version"), System.getProperty("os.name"),
+                System.getProperty("os.arch"), Runtime.getRuntime().availableProcessors());
+        return new Baseline(version, Instant.now().toString(), environment, results);
+    }
+
+    /**
+     * Returns the application version the results belong to.
+     *
+     * @return the version.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns when the results were measured.
+     *
+     * @return an ISO-8601 instant.
+     */
+    public String getRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Returns a description of the machine the results were measured on.
+     *
+     * @return the environment.
+     */
+    public String getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Returns the result of a benchmark.
+     *
+     * @param name the benchmark name.
+     * @return the result, or {@code null} if the benchmark was not run.
+     */
+    public BenchmarkResult get(String name) {
+        return results.get(name);
+    }
+
+    /**
+     * Returns all results, in the order they were run.
+     *
+     * @return the results.
+     */
+    public List<BenchmarkResult> getResults() {
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Returns the JSON form of this baseline.
+     *
+     * @return the JSON document.
+     */
+    public JSONObject toJSON() {
+        JSONObject benchmarks = new JSONObject();
+        results.values().forEach(result -> benchmarks.put(result.name(), new JSONObject()
+                .put("forks", result.forks())
+                .put("throughput", new JSONArray(result.throughput()))
+                .put("bytesPerOp", new JSONArray(result.bytesPerOp()))));
+
+        return new JSONObject()
+                .put("format", FORMAT)
+                .put("version", version)
+                .put("recorded", recorded)
+                .put("environment", environment)
+                .put("benchmarks", benchmarks);
+    }
+
+    /**
+     * Reads a baseline from its JSON form.
+     *
+     * @param json the JSON document.
+     * @return the baseline.
+     * @throws IllegalArgumentException if the document has another format.
+     */
+    public static Baseline fromJSON(JSONObject json) {
+        int format = json.getInt("format");
+        if (format != FORMAT) {
+            throw new IllegalArgumentException("Unsupported baseline format " + format + ", expected " + FORMAT);
+        }
+
+        JSONObject benchmarks = json.getJSONObject("benchmarks");
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (String name : benchmarks.keySet()) {
+            JSONObject benchmark = benchmarks.getJSONObject(name);
+            results.add(new BenchmarkResult(name, benchmark.getInt("forks"),
+                    toArray(benchmark.getJSONArray("throughput")),
+                    toArray(benchmark.getJSONArray("bytesPerOp"))));
+        }
+        results.sort((a, b) -> a.name().compareTo(b.name()));
+
+        return new Baseline(json.getString("version"), json.getString("recorded"),
+                json.getString("environment"), results);
+    }
+
+    private static double[] toArray(JSONArray array) {
+        double[] values = new double[array.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.getDouble(i);
+        }
+        return values;
+    }
+
+    /**
+     * Writes this baseline to {@code <version>.json} in the given directory,
+     * replacing an earlier baseline of the same version.
+     *
+     * @param directory the baseline directory.
+     * @return the written file.
+     * @throws IOException if the file cannot be written.
+     */
+    public Path save(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(version + ".json");
+        Files.writeString(file, toJSON().toString(2) + System.lineSeparator(), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * Reads the baseline of a version from the given directory.
+     *
+     * @param directory the baseline directory.
+     * @param version   the application version.
+     * @return the baseline, or empty if there is none for that version.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Optional<Baseline> load(Path directory, String version) throws IOException {
+        Path file = directory.resolve(version + ".json");
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(fromJSON(new JSONObject(Files.readString(file, StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Returns the newest version that has a baseline in the given directory.
+     * Versions are compared number by number, so 1.10 is newer than 1.9.
+     *
+     * @param directory the baseline directory.
+     * @return the newest version, or empty if there are no baselines.
+     * @throws IOException if the directory cannot be listed.
+     */
+    public static Optional<String> latestVersion(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".json"))
+                    .map(name -> name.substring(0, name.length() - ".json".length()))
+                    .max(Baseline::compareVersions);
+        }
+    }
+
+    /**
+     * Compares two version strings number by number, treating parts that
+     * are not numbers as text and versions with a qualifier as older than
+     * the release.
+     *
+     * @param a the first version.
+     * @param b the second version.
+     * @return a negative number, zero or a positive number as {@code a} is
+     *         older than, the same as or newer than {@code b}.
+     */
+    public static int compareVersions(String a, String b) {
+        String[] partsA = a.split("[.-]");
+        String[] partsB = b.split("[.-]");
+        for (int i = 0; i < Math.min(partsA.length, partsB.length); i++) {
+            int order = partsA[i].matches("\\d+") && partsB[i].matches("\\d+")
+                    ? Long.compare(Long.parseLong(partsA[i]), Long.parseLong(partsB[i]))
+                    : partsA[i].compareTo(partsB[i]);
+            if (order != 0) {
+                return order;
+            }
+        }
+        if (partsA.length == partsB.length) {
+            return 0;
+        }
+        // A qualifier such as SNAPSHOT comes before the release, 1.0.1 after it
+        String[] longer = partsA.length > partsB.length ? partsA : partsB;
+        int order = longer[Math.min(partsA.length, partsB.length)].matches("\\d+") ? 1 : -1;
+        return partsA.length > partsB.length ? order : -order;
+    }
+}
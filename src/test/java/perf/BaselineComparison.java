@@ -0,0 +1,329 @@
+package perf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares a benchmark run with a stored {@link Baseline}.
+ * <p>
+ * For each benchmark the difference of the means is estimated with a 95%
+ * confidence interval (Welch's t-interval, which does not assume both runs
+ * have the same variance). Samples from one forked JVM are not independent,
+ * so if a run has several forks the interval is computed from the mean of
+ * each fork; only a single-fork run is compared sample by sample. A change is only reported as a regression if the
+ * whole interval lies on the worse side of zero <em>and</em> the estimated
+ * change is larger than a tolerance, so noise between runs and tiny but
+ * consistent differences do not fail a release check.
+ * <p>
+ * Throughput depends on the machine, so it only counts towards a regression
+ * if the baseline was recorded in the same environment. Bytes allocated per
+ * operation do not, and are always compared.
+ */
+public class BaselineComparison {
+
+    /**
+     * The relative drop in throughput that counts as a regression, if it is
+     * also statistically significant.
+     */
+    public static final double THROUGHPUT_TOLERANCE = 0.10;
+
+    /**
+     * The relative growth in allocation that counts as a regression, if it
+     * is also statistically significant.
+     */
+    public static final double ALLOCATION_TOLERANCE = 0.05;
+
+    /**
+     * The smallest change in bytes per operation that counts as an
+     * allocation regression, so that benchmarks allocating next to nothing
+     * do not fail on a single extra object header.
+     */
+    public static final double MIN_ALLOCATION_BYTES = 16;
+
+    /**
+     * The result of comparing one sample set with another.
+     *
+     * @param baselineMean the mean of the baseline samples.
+     * @param currentMean  the mean of the current samples.
+     * @param low          the lower bound of the 95% interval of
+     *                     {@code currentMean - baselineMean}.
+     * @param high         the upper bound of that interval.
+     */
+    public record Delta(double baselineMean, double currentMean, double low, double high) {
+
+        /**
+         * Returns the estimated change, current minus baseline.
+         *
+         * @return the difference of the means.
+         */
+        public double difference() {
+            return currentMean - baselineMean;
+        }
+
+        /**
+         * Returns a value relative to the baseline mean.
+         *
+         * @param value an absolute difference.
+         * @return the difference as a fraction of the baseline mean.
+         */
+        public double relative(double value) {
+            return baselineMean == 0 ? 0 : value / baselineMean;
+        }
+    }
+
+    /**
+     * The verdict on one benchmark.
+     */
+    public enum Verdict {
+        IMPROVED, UNCHANGED, REGRESSED, NEW
+    }
+
+    /**
+     * The comparison of one benchmark.
+     *
+     * @param name       the benchmark name.
+     * @param throughput the change in operations per second, or {@code null}
+     *                   if the baseline does not have the benchmark.
+     * @param allocation the change in bytes per operation, or {@code null}
+     *                   if the baseline does not have the benchmark.
+     * @param current    the current result.
+     * @param comparable whether both runs were in the same environment, so
+     *                   that throughput can be compared.
+     */
+    public record Entry(String name, Delta throughput, Delta allocation, BenchmarkResult current,
+            boolean comparable) {
+
+        /**
+         * Returns whether fewer operations per second is a significant
+         * regression.
+         *
+         * @return true if throughput regressed.
+         */
+        public boolean throughputRegressed() {
+            return comparable && throughput != null && throughput.high() < 0
+                    && throughput.relative(throughput.difference()) < -THROUGHPUT_TOLERANCE;
+        }
+
+        /**
+         * Returns whether more bytes per operation is a significant
+         * regression.
+         *
+         * @return true if allocation regressed.
+         */
+        public boolean allocationRegressed() {
+            return allocation != null && allocation.low() > 0
+                    && allocation.difference() > Math.max(MIN_ALLOCATION_BYTES,
+                            ALLOCATION_TOLERANCE * allocation.baselineMean());
+        }
+
+        /**
+         * Returns the verdict on this benchmark.
+         *
+         * @return the verdict.
+         */
+        public Verdict verdict() {
+            if (throughput == null) {
+                return Verdict.NEW;
+            }
+            if (throughputRegressed() || allocationRegressed()) {
+                return Verdict.REGRESSED;
+            }
+            boolean faster = comparable && throughput.low() > 0
+                    && throughput.relative(throughput.difference()) > THROUGHPUT_TOLERANCE;
+            boolean leaner = allocation.high() < 0
+                    && -allocation.difference() > Math.max(MIN_ALLOCATION_BYTES,
+                            ALLOCATION_TOLERANCE * allocation.baselineMean());
+            return faster || leaner ? Verdict.IMPROVED : Verdict.UNCHANGED;
+        }
+    }
+
+    private final Baseline baseline;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Compares every benchmark of a run with the same benchmark in a
+     * baseline.
+     *
+     * @param baseline the stored baseline.
+     * @param current  the current run.
+     */
+    public BaselineComparison(Baseline baseline, Baseline current) {
+        this.baseline = baseline;
+        boolean comparable = baseline.getEnvironment().equals(current.getEnvironment());
+        for (BenchmarkResult result : current.getResults()) {
+            BenchmarkResult stored = baseline.get(result.name());
+            if (stored == null) {
+                entries.add(new Entry(result.name(), null, null, result, comparable));
+            } else {
+                entries.add(new Entry(result.name(),
+                        compare(independent(stored, stored.throughput()), independent(result, result.throughput())),
+                        compare(independent(stored, stored.bytesPerOp()), independent(result, result.bytesPerOp())),
+                        result, comparable));
+            }
+        }
+    }
+
+    /**
+     * Returns the values of a result that can be treated as independent: the
+     * mean of each fork, or the samples themselves if there was one fork.
+     *
+     * @param result  the benchmark result.
+     * @param samples its throughput or bytes per operation.
+     * @return the values to compare.
+     */
+    private static double[] independent(BenchmarkResult result, double[] samples) {
+        return result.forks() > 1 ? result.forkMeans(samples) : samples;
+    }
+
+    /**
+     * Returns the comparison of each benchmark, in the order they were run.
+     *
+     * @return the entries.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns whether any benchmark regressed.
+     *
+     * @return true if at least one benchmark regressed.
+     */
+    public boolean hasRegressions() {
+        return entries.stream().anyMatch(entry -> entry.verdict() == Verdict.REGRESSED);
+    }
+
+    /**
+     * Returns a plain-text report of the comparison.
+     *
+     * @param current the current run, for its environment.
+     * @return the report.
+     */
+    public String report(Baseline current) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Baseline %s, recorded %s%n  on %s%n",
+                baseline.getVersion(), baseline.getRecorded(), baseline.getEnvironment()));
+        report.append(String.format("Current  %s, recorded %s%n  on %s%n",
+                current.getVersion(), current.getRecorded(), current.getEnvironment()));
+        if (!baseline.getEnvironment().equals(current.getEnvironment())) {
+            report.append("The environments differ, so only allocation is checked for regressions.\n");
+        }
+        report.append(String.format("Changes are current minus baseline, with 95%% confidence intervals.%n"));
+
+        for (Entry entry : entries) {
+            report.append('\n').append(entry.name()).append("  ").append(entry.verdict()).append('\n');
+            if (entry.throughput() == null) {
+                report.append(String.format("  throughput  %,14.0f ops/s (no baseline)%n",
+                        mean(entry.current().throughput())));
+                report.append(String.format("  allocation  %,14.1f B/op  (no baseline)%n",
+                        mean(entry.current().bytesPerOp())));
+                continue;
+            }
+
+            Delta throughput = entry.throughput();
+            report.append(String.format("  throughput  %,14.0f -> %,14.0f ops/s  %+6.1f%% [%+6.1f%%, %+6.1f%%]%n",
+                    throughput.baselineMean(), throughput.currentMean(),
+                    100 * throughput.relative(throughput.difference()),
+                    100 * throughput.relative(throughput.low()),
+                    100 * throughput.relative(throughput.high())));
+            Delta allocation = entry.allocation();
+            report.append(String.format("  allocation  %,14.1f -> %,14.1f B/op   %+,.1f B [%+,.1f, %+,.1f]%n",
+                    allocation.baselineMean(), allocation.currentMean(),
+                    allocation.difference(), allocation.low(), allocation.high()));
+        }
+
+        long regressions = entries.stream().filter(entry -> entry.verdict() == Verdict.REGRESSED).count();
+        report.append(String.format("%n%d of %d benchmarks regressed.%n", regressions, entries.size()));
+        return report.toString();
+    }
+
+    /**
+     * Estimates the difference of the means of two sample sets with a 95%
+     * Welch confidence interval. The samples must be independent of each
+     * other. If either set has a single sample its spread is unknown, and so
+     * is the interval, which then spans all values.
+     *
+     * @param baseline the baseline samples.
+     * @param current  the current samples.
+     * @return the difference and its interval.
+     */
+    public static Delta compare(double[] baseline, double[] current) {
+        double baselineMean = mean(baseline);
+        double currentMean = mean(current);
+        double baselineError = variance(baseline, baselineMean) / baseline.length;
+        double currentError = variance(current, currentMean) / current.length;
+        double standardError = Math.sqrt(baselineError + currentError);
+
+        double difference = currentMean - baselineMean;
+        if (Double.isInfinite(standardError)) {
+            return new Delta(baselineMean, currentMean, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        if (standardError == 0) {
+            return new Delta(baselineMean, currentMean, difference, difference);
+        }
+
+        // Welch-Satterthwaite approximation of the degrees of freedom
+        double degreesOfFreedom = Math.pow(baselineError + currentError, 2)
+                / (baselineError * baselineError / (baseline.length - 1)
+                        + currentError * currentError / (current.length - 1));
+        double margin = tQuantile975(degreesOfFreedom) * standardError;
+        return new Delta(baselineMean, currentMean, difference - margin, difference + margin);
+    }
+
+    /**
+     * Returns the 97.5th percentile of Student's t-distribution, the factor
+     * of a two-sided 95% interval, using the Cornish-Fisher expansion around
+     * the normal quantile. It is within about 0.1% of tabulated values from three
+     * degrees of freedom up, and 1% at two, the fewest that a comparison of
+     * three forks with three forks can have.
+     *
+     * @param degreesOfFreedom the degrees of freedom, which need not be whole.
+     * @return the quantile.
+     */
+    public static double tQuantile975(double degreesOfFreedom) {
+        double z = 1.959963984540054;
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        double z7 = z5 * z * z;
+        double z9 = z7 * z * z;
+        double v = degreesOfFreedom;
+        return z
+                + (z3 + z) / (4 * v)
+                + (5 * z5 + 16 * z3 + 3 * z) / (96 * v * v)
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384 * v * v * v)
+                + (79 * z9 + 776 * z7 + 1482 * z5 - 1920 * z3 - 945 * z) / (92160 * v * v * v * v);
+    }
+
+    /**
+     * Returns the mean of some samples.
+     *
+     * @param samples the samples.
+     * @return the mean.
+     */
+    public static double mean(double[] samples) {
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        return sum / samples.length;
+    }
+
+    /**
+     * Returns the sample variance, or infinity for fewer than two samples,
+     * whose spread cannot be estimated.
+     *
+     * @param samples the samples.
+     * @param mean    their mean.
+     * @return the variance.
+     */
+    private static double variance(double[] samples, double mean) {
+        if (samples.length < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double sum = 0;
+        for (double sample : samples) {
+            sum += (sample - mean) * (sample - mean);
+        }
+        return sum / (samples.length - 1);
+    }
+}
@@ -0,0 +1,177 @@
+package perf;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import perf.BaselineComparison.Verdict;
+
+public class BaselineComparisonTest {
+
+    @TempDir
+    Path dir;
+
+    private static final double[] STEADY = {1000, 1010, 990, 1005, 995, 1000, 1002, 998, 1008, 992};
+
+    private static double[] scaled(double[] samples, double factor) {
+        double[] scaled = new double[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            scaled[i] = samples[i] * factor;
+        }
+        return scaled;
+    }
+
+    private static Baseline baseline(String version, double[] throughput, double[] bytesPerOp) {
+        return new Baseline(version, "2026-01-01T00:00:00Z", "test",
+                List.of(new BenchmarkResult("bench", throughput, bytesPerOp)));
+    }
+
+    //Tests the t-quantile against tabulated values
+    @Test
+    public void testTQuantile() {
+        assertEquals(3.182, BaselineComparison.tQuantile975(3), 0.005);
+        assertEquals(2.228, BaselineComparison.tQuantile975(10), 0.001);
+        assertEquals(2.042, BaselineComparison.tQuantile975(30), 0.001);
+        assertEquals(1.960, BaselineComparison.tQuantile975(1e9), 0.001);
+    }
+
+    //Tests that the interval contains the difference of the means
+    @Test
+    public void testIntervalContainsDifference() {
+        BaselineComparison.Delta delta = BaselineComparison.compare(STEADY, scaled(STEADY, 0.9));
+
+        assertEquals(-100, delta.difference(), 1e-9);
+        assertTrue(delta.low() < -100 && delta.high() > -100);
+        assertTrue(delta.high() < 0);
+    }
+
+    //Tests that a significant drop in throughput is a regression
+    @Test
+    public void testThroughputRegression() {
+        Baseline stored = baseline("1.0", STEADY, new double[] {64, 64, 64});
+        Baseline current = baseline("1.1", scaled(STEADY, 0.8), new double[] {64, 64, 64});
+
+        BaselineComparison comparison = new BaselineComparison(stored, current);
+
+        assertEquals(Verdict.REGRESSED, comparison.getEntries().get(0).verdict());
+        assertTrue(comparison.hasRegressions());
+    }
+
+    //Tests that a drop smaller than the tolerance is not a regression, even if significant
+    @Test
+    public void testSmallChangeIsTolerated() {
+        Baseline stored = baseline("1.0", STEADY, new double[] {64, 64, 64});
+        Baseline current = baseline("1.1", scaled(STEADY, 0.98), new double[] {64, 64, 64});
+
+        assertFalse(new BaselineComparison(stored, current).hasRegressions());
+    }
+
+    //Tests that noisy samples with overlapping ranges are not a regression
+    @Test
+    public void testNoiseIsNotRegression() {
+        Baseline stored = baseline("1.0", new double[] {1000, 600, 1400, 800, 1200}, new double[] {64, 64, 64});
+        Baseline current = baseline("1.1", new double[] {900, 500, 1300, 700, 1100}, new double[] {64, 64, 64});
+
+        assertEquals(Verdict.UNCHANGED, new BaselineComparison(stored, current).getEntries().get(0).verdict());
+    }
+
+    //Tests that samples from the same fork are not treated as independent
+    @Test
+    public void testForksVaryMoreThanSamples() {
+        double[] forks = new double[15];
+        double[] means = {1000, 1100, 900};
+        double[] offsets = {-1, 0, 1, 0, 0};
+        for (int i = 0; i < forks.length; i++) {
+            forks[i] = means[i / 5] + offsets[i % 5];
+        }
+        double[] allocation = new double[15];
+        Baseline stored = new Baseline("1.0", "2026-01-01T00:00:00Z", "test",
+                List.of(new BenchmarkResult("bench", 3, forks, allocation)));
+        Baseline current = new Baseline("1.1", "2026-01-01T00:00:00Z", "test",
+                List.of(new BenchmarkResult("bench", 3, scaled(forks, 0.85), allocation)));
+
+        assertArrayEquals(means, stored.get("bench").forkMeans(forks), 1e-9);
+        assertTrue(BaselineComparison.compare(forks, scaled(forks, 0.85)).high() < 0,
+                "the pooled samples alone look like a regression");
+        assertEquals(Verdict.UNCHANGED, new BaselineComparison(stored, current).getEntries().get(0).verdict());
+    }
+
+    //Tests that a single sample gives an unbounded interval instead of dividing by zero
+    @Test
+    public void testSingleSample() {
+        BaselineComparison.Delta delta = BaselineComparison.compare(new double[] {1000}, new double[] {500});
+
+        assertEquals(-500, delta.difference(), 1e-9);
+        assertEquals(Double.NEGATIVE_INFINITY, delta.low());
+        assertEquals(Double.POSITIVE_INFINITY, delta.high());
+    }
+
+    //Tests that throughput from another environment is reported but not checked
+    @Test
+    public void testOtherEnvironment() {
+        Baseline stored = new Baseline("1.0", "2026-01-01T00:00:00Z", "other machine",
+                List.of(new BenchmarkResult("bench", STEADY, new double[] {64, 64, 64})));
+        Baseline slower = baseline("1.1", scaled(STEADY, 0.5), new double[] {64, 64, 64});
+        Baseline leakier = baseline("1.1", STEADY, new double[] {640, 640, 640});
+
+        assertEquals(Verdict.UNCHANGED, new BaselineComparison(stored, slower).getEntries().get(0).verdict());
+        assertEquals(Verdict.REGRESSED, new BaselineComparison(stored, leakier).getEntries().get(0).verdict());
+    }
+
+    //Tests that allocating more per operation is a regression and less is an improvement
+    @Test
+    public void testAllocationChanges() {
+        Baseline stored = baseline("1.0", STEADY, new double[] {100, 101, 99, 100});
+        Baseline more = baseline("1.1", STEADY, new double[] {200, 201, 199, 200});
+        Baseline less = baseline("1.1", STEADY, new double[] {0, 1, 0, 1});
+
+        assertEquals(Verdict.REGRESSED, new BaselineComparison(stored, more).getEntries().get(0).verdict());
+        assertEquals(Verdict.IMPROVED, new BaselineComparison(stored, less).getEntries().get(0).verdict());
+    }
+
+    //Tests that a benchmark missing from the baseline is reported as new
+    @Test
+    public void testNewBenchmark() {
+        Baseline stored = new Baseline("1.0", "2026-01-01T00:00:00Z", "test", List.of());
+        BaselineComparison comparison = new BaselineComparison(stored, baseline("1.1", STEADY, STEADY));
+
+        assertEquals(Verdict.NEW, comparison.getEntries().get(0).verdict());
+        assertFalse(comparison.hasRegressions());
+        assertTrue(comparison.report(stored).contains("no baseline"));
+    }
+
+    //Tests that a baseline is saved and loaded unchanged
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        new Baseline("1.0", "2026-01-01T00:00:00Z", "test",
+                List.of(new BenchmarkResult("bench", 2, STEADY, new double[] {12.5, 13}))).save(dir);
+
+        Baseline loaded = Baseline.load(dir, "1.0").orElseThrow();
+
+        assertEquals("1.0", loaded.getVersion());
+        assertEquals(2, loaded.get("bench").forks());
+        assertArrayEquals(STEADY, loaded.get("bench").throughput());
+        assertArrayEquals(new double[] {12.5, 13}, loaded.get("bench").bytesPerOp());
+        assertEquals(Optional.empty(), Baseline.load(dir, "2.0"));
+    }
+
+    //Tests that the newest version is found by comparing version numbers
+    @Test
+    public void testLatestVersion() throws IOException {
+        baseline("1.9", STEADY, STEADY).save(dir);
+        baseline("1.10", STEADY, STEADY).save(dir);
+        baseline("1.2-SNAPSHOT", STEADY, STEADY).save(dir);
+
+        assertEquals(Optional.of("1.10"), Baseline.latestVersion(dir));
+        assertTrue(Baseline.compareVersions("1.0", "1.0-SNAPSHOT") > 0);
+        assertTrue(Baseline.compareVersions("1.0", "1.0.1") < 0);
+    }
+}
@@ -0,0 +1,11 @@
+package perf;
+
+/**
+ * A named operation to benchmark. Any setup is done before the benchmark is
+ * created, so that only the operation itself is measured.
+ *
+ * @param name      the name the results are stored under in baselines.
+ * @param operation one call of the benchmarked path.
+ */
+public record Benchmark(String name, Runnable operation) {
+}
@@ -0,0 +1,49 @@
+package perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Runs the {@link GameBenchmarks} in a JVM of their own and writes the
+ * results as a baseline file. Each fork starts with fresh JIT compilation
+ * and garbage collector state, so results from several forks show
+ * how much a benchmark varies between runs, not only within one.
+ * <p>
+ * Arguments: the result file, the warmup and sample length in milliseconds,
+ * and the number of samples.
+ */
+public class BenchmarkFork {
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args the result file, warmup millis, sample millis and sample
+     *             count.
+     * @throws IOException if the results cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path resultFile = Path.of(args[0]);
+        BenchmarkRunner runner = new BenchmarkRunner(
+                Long.parseLong(args[1]), Long.parseLong(args[2]), Integer.parseInt(args[3]));
+
+        Path workDir = Files.createTempDirectory("perf");
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (Benchmark benchmark : GameBenchmarks.create(workDir)) {
+            System.out.println("Running " + benchmark.name());
+            results.add(runner.run(benchmark));
+        }
+
+        Files.writeString(resultFile, Baseline.ofCurrentRun("fork", results).toJSON().toString());
+
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
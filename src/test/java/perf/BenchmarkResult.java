@@ -0,0 +1,49 @@
+package perf;
+
+/**
+ * The samples measured for one benchmark. Each sample is one timed run of
+ * the operation; comparisons are made between the sample sets of two runs.
+ * <p>
+ * Samples from several forked JVMs are stored fork by fork, each fork with
+ * the same number of samples. Samples from the same fork share its JIT and
+ * garbage collector state, so they are not independent of each other; see
+ * {@link #forkMeans(double[])}.
+ *
+ * @param name       the benchmark name.
+ * @param forks      the number of forks the samples were measured in.
+ * @param throughput the operations per second of each sample.
+ * @param bytesPerOp the bytes allocated per operation in each sample.
+ */
+public record BenchmarkResult(String name, int forks, double[] throughput, double[] bytesPerOp) {
+
+    /**
+     * Constructs the result of a benchmark run in a single JVM.
+     *
+     * @param name       the benchmark name.
+     * @param throughput the operations per second of each sample.
+     * @param bytesPerOp the bytes allocated per operation in each sample.
+     */
+    public BenchmarkResult(String name, double[] throughput, double[] bytesPerOp) {
+        this(name, 1, throughput, bytesPerOp);
+    }
+
+    /**
+     * Returns the mean of each fork's samples.
+     *
+     * @param samples the {@link #throughput()} or {@link #bytesPerOp()} of
+     *                this result.
+     * @return one mean per fork, in the order the forks ran.
+     */
+    public double[] forkMeans(double[] samples) {
+        int perFork = samples.length / forks;
+        double[] means = new double[forks];
+        for (int fork = 0; fork < forks; fork++) {
+            double sum = 0;
+            for (int i = fork * perFork; i < (fork + 1) * perFork; i++) {
+                sum += samples[i];
+            }
+            means[fork] = sum / perFork;
+        }
+        return means;
+    }
+}
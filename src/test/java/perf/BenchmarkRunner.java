@@ -0,0 +1,71 @@
+package perf;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Runs benchmarks on the calling thread: a warmup so the JIT compiler has
+ * settled, then a number of samples of fixed length. Each sample records
+ * the operations per second and, with
+ * {@link ThreadMXBean#getThreadAllocatedBytes(long)}, the bytes allocated
+ * per operation.
+ */
+public class BenchmarkRunner {
+
+    private final long warmupNanos;
+    private final long sampleNanos;
+    private final int samples;
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Constructs a runner.
+     *
+     * @param warmupMillis the time to run each benchmark before measuring.
+     * @param sampleMillis the length of each sample.
+     * @param samples      the number of samples per benchmark.
+     */
+    public BenchmarkRunner(long warmupMillis, long sampleMillis, int samples) {
+        if (samples < 2) {
+            throw new IllegalArgumentException("At least two samples are needed for a confidence interval");
+        }
+        this.warmupNanos = warmupMillis * 1_000_000;
+        this.sampleNanos = sampleMillis * 1_000_000;
+        this.samples = samples;
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Warms up and measures a benchmark.
+     *
+     * @param benchmark the benchmark to run.
+     * @return the measured samples.
+     */
+    public BenchmarkResult run(Benchmark benchmark) {
+        Runnable operation = benchmark.operation();
+        long warmupEnd = System.nanoTime() + warmupNanos;
+        while (System.nanoTime() < warmupEnd) {
+            operation.run();
+        }
+
+        double[] throughput = new double[samples];
+        double[] bytesPerOp = new double[samples];
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < samples; i++) {
+            long ops = 0;
+            long bytesBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                operation.run();
+                ops++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < sampleNanos);
+            long bytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+
+            throughput[i] = ops * 1e9 / elapsed;
+            bytesPerOp[i] = (double) bytes / ops;
+        }
+        return new BenchmarkResult(benchmark.name(), throughput, bytesPerOp);
+    }
+}
@@ -0,0 +1,105 @@
+package perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import boardgame.controller.GameControllers.LudoGameController;
+import boardgame.controller.GameControllers.SnLGameController;
+import boardgame.model.Player;
+import boardgame.model.boardFiles.LudoBoard;
+import boardgame.model.boardFiles.SnLBoard;
+import boardgame.model.diceFiles.Dice;
+import boardgame.utils.ProfileStore;
+import boardgame.utils.JSON.BoardJSON;
+import boardgame.utils.movementType;
+
+/**
+ * The benchmarked paths of the game: loading boards, reading and saving
+ * player profiles, and playing turns through the game controllers.
+ * <p>
+ * Benchmark names are stored in the baselines, so renaming one starts it
+ * over as a new benchmark.
+ */
+public class GameBenchmarks {
+
+    private static final int PROFILE_COUNT = 200;
+
+    /**
+     * Sets up the benchmarks.
+     *
+     * @param workDir an empty directory for the files the benchmarks write.
+     * @return the benchmarks, in the order they are run.
+     * @throws IOException if the profile files cannot be created.
+     */
+    public static List<Benchmark> create(Path workDir) throws IOException {
+        List<Benchmark> benchmarks = new ArrayList<>();
+
+        BoardJSON.preload();
+        benchmarks.add(new Benchmark("BoardJSON.constructSnLBoardFromJSON.classic",
+                () -> BoardJSON.constructSnLBoardFromJSON(0)));
+        benchmarks.add(new Benchmark("BoardJSON.constructSnLBoardFromJSON.large",
+                () -> BoardJSON.constructSnLBoardFromJSON(3)));
+
+        // Profiles are read and saved through the same store PlayerCSV uses,
+        // over a copy so the real profile file is left alone
+        File csv = workDir.resolve("playerProfiles.csv").toFile();
+        StringBuilder profiles = new StringBuilder();
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            profiles.append(String.format("\"Player%d\",\"Red\",\"%d\"%n", i, i));
+        }
+        Files.writeString(csv.toPath(), profiles.toString());
+        ProfileStore store = new ProfileStore(csv);
+        benchmarks.add(new Benchmark("ProfileStore.snapshot", () -> {
+            try {
+                store.snapshot();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        int[] profile = {0};
+        benchmarks.add(new Benchmark("ProfileStore.update", () -> {
+            profile[0] = (profile[0] + 1) % PROFILE_COUNT;
+            try {
+                store.update("Player" + profile[0], row -> {
+                    row[2] = String.valueOf(Integer.parseInt(row[2]) + 1);
+                    return row;
+                });
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+
+        // One turn: roll, move with effects, and pass the turn on. Players
+        // start over before the last tile, so the game never ends
+        SnLBoard snlBoard = BoardJSON.constructSnLBoardFromJSON(0);
+        SnLGameController snl = new SnLGameController(snlBoard, createPlayers());
+        snl.start();
+        Dice snlDice = new Dice(2);
+        benchmarks.add(new Benchmark("SnLGameController.turn", () -> {
+            Player player = snl.getCurrentPlayer();
+            int target = player.getPosition() + snlDice.roll();
+            snl.movePlayer(player, target < snlBoard.getTiles().size() ? target : 1, movementType.PATH);
+            snl.advanceTurn();
+        }));
+
+        LudoGameController ludo = new LudoGameController(new LudoBoard(), createPlayers());
+        ludo.start();
+        Dice ludoDice = new Dice(1);
+        benchmarks.add(new Benchmark("LudoGameController.turn", () -> {
+            Player player = ludo.getCurrentPlayer();
+            ludo.movePlayer(player, player.getPosition() + ludoDice.roll(), movementType.PATH);
+            ludo.advanceTurn();
+        }));
+
+        return benchmarks;
+    }
+
+    private static List<Player> createPlayers() {
+        return List.of(new Player("icon1.png", "Alice"), new Player("icon2.png", "Bob"),
+                new Player("icon3.png", "Carol"), new Player("icon4.png", "Dave"));
+    }
+}
@@ -0,0 +1,144 @@
+package perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs the {@link GameBenchmarks} and compares them with the stored
+ * baseline of the newest version.
+ * <p>
+ * Run before a release with {@code mvn test -Pperf}. The benchmarks run in
+ * several forked JVMs and their samples are kept fork by fork. The report is printed
+ * and written to {@code target/perf-report.txt}, and the build fails if a
+ * benchmark regressed. Options, as system properties:
+ * <ul>
+ * <li>{@code perf.record=true} stores the run as the baseline of the current
+ * version in {@code perf-baselines} instead of comparing;</li>
+ * <li>{@code perf.baseline=<version>} compares with that version instead of
+ * the newest;</li>
+ * <li>{@code perf.failOnRegression=false} only reports regressions;</li>
+ * <li>{@code perf.forks}, {@code perf.warmupMillis},
+ * {@code perf.sampleMillis} and {@code perf.samples} change how long the
+ * benchmarks run.</li>
+ * </ul>
+ * Maven leaves this class out of the normal test run.
+ */
+public class PerformanceBaselineTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Runs the benchmarks in a forked JVM.
+     *
+     * @param fork the number of the fork.
+     * @return the results of the fork.
+     * @throws IOException          if the results cannot be read.
+     * @throws InterruptedException if interrupted while waiting for the fork.
+     */
+    private Baseline runFork(int fork) throws IOException, InterruptedException {
+        Path resultFile = tempDir.resolve("fork" + fork + ".json");
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                BenchmarkFork.class.getName(),
+                resultFile.toString(),
+                String.valueOf(Long.getLong("perf.warmupMillis", 1000)),
+                String.valueOf(Long.getLong("perf.sampleMillis", 200)),
+                String.valueOf(Integer.getInteger("perf.samples", 5)))
+                .inheritIO()
+                .start();
+        assertEquals(0, process.waitFor(), "Benchmark fork " + fork + " failed");
+        return Baseline.fromJSON(new JSONObject(Files.readString(resultFile, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Combines the samples of every fork into one result per benchmark,
+     * fork by fork.
+     *
+     * @param version the application version.
+     * @param forks   the results of each fork.
+     * @return the combined results.
+     */
+    private static Baseline combine(String version, List<Baseline> forks) {
+        List<BenchmarkResult> combined = new ArrayList<>();
+        for (BenchmarkResult first : forks.get(0).getResults()) {
+            List<BenchmarkResult> results = forks.stream().map(fork -> fork.get(first.name())).toList();
+            combined.add(new BenchmarkResult(first.name(), forks.size(),
+                    concat(results.stream().map(BenchmarkResult::throughput).toList()),
+                    concat(results.stream().map(BenchmarkResult::bytesPerOp).toList())));
+        }
+        return Baseline.ofCurrentRun(version, combined);
+    }
+
+    private static double[] concat(List<double[]> arrays) {
+        double[] all = new double[arrays.stream().mapToInt(array -> array.length).sum()];
+        int offset = 0;
+        for (double[] array : arrays) {
+            System.arraycopy(array, 0, all, offset, array.length);
+            offset += array.length;
+        }
+        return all;
+    }
+
+    //Tests that no benchmark regressed from the baseline, or records a new baseline
+    @Test
+    public void testAgainstBaseline() throws IOException, InterruptedException {
+        Path baselineDir = Path.of(System.getProperty("perf.baselineDir", "perf-baselines"));
+        String version = System.getProperty("perf.version", "dev");
+
+        List<Baseline> forks = new ArrayList<>();
+        for (int fork = 1; fork <= Integer.getInteger("perf.forks", 3); fork++) {
+            System.out.println("Fork " + fork);
+            forks.add(runFork(fork));
+        }
+        Baseline current = combine(version, forks);
+
+        if (Boolean.getBoolean("perf.record")) {
+            System.out.println("Recorded baseline " + current.save(baselineDir));
+            return;
+        }
+
+        Optional<String> baselineVersion = Optional.ofNullable(System.getProperty("perf.baseline"))
+                .or(() -> latestVersionIn(baselineDir));
+        Optional<Baseline> baseline = baselineVersion.isPresent()
+                ? Baseline.load(baselineDir, baselineVersion.get())
+                : Optional.empty();
+        if (baseline.isEmpty()) {
+            System.out.println("No baseline to compare with in " + baselineDir
+                    + "; record one with -Dperf.record=true");
+            return;
+        }
+
+        BaselineComparison comparison = new BaselineComparison(baseline.get(), current);
+        String report = comparison.report(current);
+        System.out.println(report);
+        Path reportFile = Path.of("target", "perf-report.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+
+        if (!"false".equals(System.getProperty("perf.failOnRegression"))) {
+            assertFalse(comparison.hasRegressions(), "Performance regressed from baseline "
+                    + baseline.get().getVersion() + ", see " + reportFile);
+        }
+    }
+
+    private static Optional<String> latestVersionIn(Path baselineDir) {
+        try {
+            return Baseline.latestVersion(baselineDir);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}